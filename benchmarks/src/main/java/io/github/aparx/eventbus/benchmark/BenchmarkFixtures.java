@@ -0,0 +1,74 @@
+package io.github.aparx.eventbus.benchmark;
+
+import io.github.aparx.eventbus.Event;
+import io.github.aparx.eventbus.EventBus;
+import io.github.aparx.eventbus.Listener;
+import io.github.aparx.eventbus.processors.EventProcessors;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Class {@code BenchmarkFixtures} is representing a class of events,
+ * listeners and factory methods shared amongst all benchmarks.
+ *
+ * @author aparx (Vinzent Zeband)
+ * @version 19:25 CET, 18.10.2026
+ * @since 1.0
+ */
+public final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {
+        throw new AssertionError();
+    }
+
+    public static class RootEvent extends Event {
+    }
+
+    public static class MiddleEvent extends RootEvent {
+    }
+
+    public static class BenchEvent extends MiddleEvent {
+        public long value;
+    }
+
+    public static class UnrelatedEvent extends Event {
+    }
+
+    /** Listener subscribing to the published {@code BenchEvent}. */
+    public static class MatchingListener implements Listener {
+        public long received;
+
+        public void onBench(BenchEvent event) {
+            received += event.value;
+        }
+    }
+
+    /** Listener never receiving the published {@code BenchEvent}. */
+    public static class UnrelatedListener implements Listener {
+        public long received;
+
+        public void onUnrelated(UnrelatedEvent event) {
+            ++received;
+        }
+    }
+
+    @NonNull
+    public static EventBus newBus(EventBus.@NonNull RegistryMode registryMode,
+                                  boolean polymorphic) {
+        return new EventBus(registryMode,
+                EventProcessors.newPublisher(polymorphic),
+                EventProcessors.newCompiledMethodCollector());
+    }
+
+    /**
+     * Registers {@code listenerCount} listeners to {@code bus}, whereas
+     * only {@code matchingCount} of them subscribe to {@code BenchEvent}.
+     */
+    @NonNull
+    public static EventBus populate(@NonNull EventBus bus, int listenerCount, int matchingCount) {
+        for (int i = 0; i < listenerCount; ++i) {
+            bus.register(i < matchingCount ? new MatchingListener() : new UnrelatedListener());
+        }
+        return bus;
+    }
+
+}
@@ -0,0 +1,63 @@
+package io.github.aparx.eventbus.benchmark;
+
+import io.github.aparx.eventbus.EventBus;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of multiple threads publishing to the same bus, optionally
+ * while another thread continuously mutates it.
+ *
+ * @author aparx (Vinzent Zeband)
+ * @version 19:25 CET, 18.10.2026
+ * @since 1.0
+ */
+@State(Scope.Group)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ContentionBenchmark {
+
+    @Param({"SYNCHRONIZED", "COPY_ON_WRITE"})
+    EventBus.RegistryMode registryMode;
+
+    EventBus bus;
+
+    @Setup
+    public void setup() {
+        bus = BenchmarkFixtures.populate(
+                BenchmarkFixtures.newBus(registryMode, true), 100, 10);
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadState {
+        final BenchmarkFixtures.BenchEvent event = new BenchmarkFixtures.BenchEvent();
+        final BenchmarkFixtures.MatchingListener listener = new BenchmarkFixtures.MatchingListener();
+    }
+
+    @Benchmark
+    @Group("publishOnly")
+    @GroupThreads(4)
+    public void publishOnly(ThreadState state) {
+        bus.publish(state.event);
+    }
+
+    @Benchmark
+    @Group("publishWhileMutating")
+    @GroupThreads(3)
+    public void publish(ThreadState state) {
+        bus.publish(state.event);
+    }
+
+    @Benchmark
+    @Group("publishWhileMutating")
+    @GroupThreads(1)
+    public boolean mutate(ThreadState state) {
+        bus.register(state.listener);
+        return bus.unregister(state.listener);
+    }
+
+}
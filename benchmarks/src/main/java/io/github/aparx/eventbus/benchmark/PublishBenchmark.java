@@ -0,0 +1,60 @@
+package io.github.aparx.eventbus.benchmark;
+
+import io.github.aparx.eventbus.EventBus;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of {@code EventBus#publish} with differently sized buses.
+ * <p>The dense bus only contains listeners subscribing to the published
+ * event, whereas only two listeners of the sparse bus subscribe to it.
+ *
+ * @author aparx (Vinzent Zeband)
+ * @version 19:25 CET, 18.10.2026
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PublishBenchmark {
+
+    @Param({"1", "100", "10000"})
+    int listenerCount;
+
+    @Param({"true", "false"})
+    boolean polymorphic;
+
+    @Param({"SYNCHRONIZED", "COPY_ON_WRITE"})
+    EventBus.RegistryMode registryMode;
+
+    EventBus denseBus;
+    EventBus sparseBus;
+    BenchmarkFixtures.BenchEvent event;
+
+    @Setup
+    public void setup() {
+        denseBus = BenchmarkFixtures.populate(
+                BenchmarkFixtures.newBus(registryMode, polymorphic),
+                listenerCount, listenerCount);
+        sparseBus = BenchmarkFixtures.populate(
+                BenchmarkFixtures.newBus(registryMode, polymorphic),
+                listenerCount, Math.min(2, listenerCount));
+        event = new BenchmarkFixtures.BenchEvent();
+        event.value = 1;
+    }
+
+    @Benchmark
+    public void publishDense() {
+        denseBus.publish(event);
+    }
+
+    @Benchmark
+    public void publishSparse() {
+        sparseBus.publish(event);
+    }
+
+}
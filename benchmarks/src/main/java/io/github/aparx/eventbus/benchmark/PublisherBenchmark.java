@@ -0,0 +1,53 @@
+package io.github.aparx.eventbus.benchmark;
+
+import io.github.aparx.eventbus.audience.ListenerHandle;
+import io.github.aparx.eventbus.processors.EventProcessors;
+import io.github.aparx.eventbus.processors.IndexedEventPublisher;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of polymorphic versus non-polymorphic publishers returned by
+ * {@code EventProcessors#newPublisher}, publishing an event with a deep
+ * type hierarchy to a single {@code ListenerHandle}.
+ *
+ * @author aparx (Vinzent Zeband)
+ * @version 19:25 CET, 18.10.2026
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PublisherBenchmark {
+
+    @Param({"true", "false"})
+    boolean polymorphic;
+
+    IndexedEventPublisher publisher;
+    ListenerHandle handle;
+    BenchmarkFixtures.BenchEvent event;
+
+    @Setup
+    public void setup() {
+        publisher = EventProcessors.newPublisher(polymorphic);
+        BenchmarkFixtures.MatchingListener listener = new BenchmarkFixtures.MatchingListener();
+        handle = new ListenerHandle(listener,
+                EventProcessors.newCompiledMethodCollector().collect(listener));
+        event = new BenchmarkFixtures.BenchEvent();
+    }
+
+    @Benchmark
+    public void publishToHandle() {
+        publisher.publish(event, handle, null);
+    }
+
+    @Benchmark
+    public Object resolveDispatchTypes() {
+        return publisher.getDispatchTypes(BenchmarkFixtures.BenchEvent.class);
+    }
+
+}
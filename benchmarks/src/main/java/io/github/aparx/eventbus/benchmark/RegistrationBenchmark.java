@@ -0,0 +1,55 @@
+package io.github.aparx.eventbus.benchmark;
+
+import io.github.aparx.eventbus.EventBus;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of {@code register} and {@code unregister} churn on a bus,
+ * that already contains a given amount of listeners.
+ *
+ * @author aparx (Vinzent Zeband)
+ * @version 19:25 CET, 18.10.2026
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RegistrationBenchmark {
+
+    @Param({"100", "10000"})
+    int listenerCount;
+
+    @Param({"SYNCHRONIZED", "COPY_ON_WRITE"})
+    EventBus.RegistryMode registryMode;
+
+    EventBus bus;
+    BenchmarkFixtures.MatchingListener listener;
+
+    @Setup
+    public void setup() {
+        bus = BenchmarkFixtures.populate(
+                BenchmarkFixtures.newBus(registryMode, true),
+                listenerCount, listenerCount / 2);
+        listener = new BenchmarkFixtures.MatchingListener();
+    }
+
+    @Benchmark
+    public boolean registerUnregister() {
+        bus.register(listener);
+        return bus.unregister(listener);
+    }
+
+    @Benchmark
+    public boolean registerPublishUnregister() {
+        // Includes the re-resolution of the invalidated subscriptions
+        bus.register(listener);
+        bus.publish(new BenchmarkFixtures.BenchEvent());
+        return bus.unregister(listener);
+    }
+
+}
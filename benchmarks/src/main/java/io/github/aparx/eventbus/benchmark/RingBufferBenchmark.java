@@ -0,0 +1,58 @@
+package io.github.aparx.eventbus.benchmark;
+
+import io.github.aparx.eventbus.EventBus;
+import io.github.aparx.eventbus.processors.EventProcessors;
+import io.github.aparx.eventbus.processors.RingBufferEventPublisher;
+import io.github.aparx.eventbus.processors.WaitStrategies;
+import io.github.aparx.eventbus.processors.WaitStrategy;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of publishing into a ring-buffered bus, whose consumer
+ * dispatches to a few subscribers, with differing wait strategies.
+ *
+ * @author aparx (Vinzent Zeband)
+ * @version 19:33 CET, 18.10.2026
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RingBufferBenchmark {
+
+    @Param({"busySpin", "yielding", "blocking"})
+    String waitStrategy;
+
+    @Param({"SINGLE", "MULTI"})
+    RingBufferEventPublisher.ProducerType producerType;
+
+    RingBufferEventPublisher publisher;
+    EventBus bus;
+    BenchmarkFixtures.BenchEvent event;
+
+    @Setup
+    public void setup() {
+        WaitStrategy strategy = waitStrategy.equals("busySpin") ? WaitStrategies.busySpin()
+                : waitStrategy.equals("yielding") ? WaitStrategies.yielding()
+                : WaitStrategies.blocking();
+        publisher = EventProcessors.newRingBufferPublisher(1 << 14, producerType, strategy);
+        bus = BenchmarkFixtures.populate(EventBus.newRingBuffered(publisher), 100, 10);
+        event = new BenchmarkFixtures.BenchEvent();
+    }
+
+    @TearDown
+    public void tearDown() {
+        publisher.close();
+    }
+
+    @Benchmark
+    public void publish() {
+        bus.publish(event);
+    }
+
+}
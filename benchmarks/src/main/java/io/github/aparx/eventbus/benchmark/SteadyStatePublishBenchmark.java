@@ -0,0 +1,73 @@
+package io.github.aparx.eventbus.benchmark;
+
+import io.github.aparx.eventbus.Cancellable;
+import io.github.aparx.eventbus.EventBus;
+import io.github.aparx.eventbus.processors.EventProcessors;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the steady state of publishing, whose allocation rate is
+ * reported by the {@code gc.alloc.rate.norm} result of the GC profiler.
+ * <p>Compiled subscribers are expected to allocate zero bytes per
+ * operation, whereas reflective subscribers allocate their arguments.
+ *
+ * @author aparx (Vinzent Zeband)
+ * @version 20:06 CET, 18.10.2026
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SteadyStatePublishBenchmark {
+
+    public static class CancellableEvent extends BenchmarkFixtures.BenchEvent
+            implements Cancellable {
+        boolean cancelled;
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        @Override
+        public void setCancelled(boolean cancelled) {
+            this.cancelled = cancelled;
+        }
+    }
+
+    @Param({"true", "false"})
+    boolean compiled;
+
+    @Param({"SYNCHRONIZED", "COPY_ON_WRITE"})
+    EventBus.RegistryMode registryMode;
+
+    EventBus bus;
+    BenchmarkFixtures.BenchEvent event;
+    CancellableEvent cancellable;
+
+    @Setup
+    public void setup() {
+        bus = BenchmarkFixtures.populate(new EventBus(registryMode,
+                EventProcessors.newPolymorphicPublisher(),
+                compiled ? EventProcessors.newCompiledMethodCollector()
+                        : EventProcessors.newDefaultMethodCollector()), 100, 10);
+        event = new BenchmarkFixtures.BenchEvent();
+        cancellable = new CancellableEvent();
+    }
+
+    @Benchmark
+    public void publish() {
+        bus.publish(event);
+    }
+
+    @Benchmark
+    public void publishCancellable() {
+        bus.publish(cancellable);
+    }
+
+}
@@ -0,0 +1,72 @@
+package io.github.aparx.eventbus.benchmark;
+
+import io.github.aparx.eventbus.Event;
+import io.github.aparx.eventbus.subscriber.EventCallback;
+import io.github.aparx.eventbus.subscriber.EventSubscriber;
+import io.github.aparx.eventbus.subscriber.EventSubscribers;
+import io.github.aparx.eventbus.subscriber.collection.SubscriberCollection;
+import io.github.aparx.eventbus.subscriber.collection.SubscriberCollections;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the lookup operations of the multimap based and the
+ * compact {@code SubscriberCollection} implementations.
+ *
+ * @author aparx (Vinzent Zeband)
+ * @version 19:25 CET, 18.10.2026
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SubscriberCollectionBenchmark {
+
+    // Class literals are raw, thus the subscriber type is cast once
+    @SuppressWarnings("unchecked")
+    static final Class<EventSubscriber<? extends Event>> SUBSCRIBER_TYPE
+            = (Class<EventSubscriber<? extends Event>>) (Class<?>) EventSubscriber.class;
+
+    @Param({"1", "16", "256"})
+    int subscriberCount;
+
+    @Param({"MULTIMAP", "COMPACT"})
+    String implementation;
+
+    SubscriberCollection<Event, EventSubscriber<? extends Event>> collection;
+
+    @Setup
+    public void setup() {
+        collection = implementation.equals("COMPACT")
+                ? SubscriberCollections.newCompact()
+                : SubscriberCollections.newOfMultimapFactory(
+                SubscriberCollections.MultimapFactory.newUnsortedHashset());
+        for (int i = 0; i < subscriberCount; ++i) {
+            // Distributes the subscribers evenly across three event types
+            Class<? extends Event> type = i % 3 == 0 ? BenchmarkFixtures.BenchEvent.class
+                    : i % 3 == 1 ? BenchmarkFixtures.RootEvent.class
+                    : BenchmarkFixtures.UnrelatedEvent.class;
+            collection.add(EventSubscribers.newCallbackSubscriber(type, EventCallback.empty()));
+        }
+    }
+
+    @Benchmark
+    public Object getGroup() {
+        return collection.getGroup(BenchmarkFixtures.BenchEvent.class);
+    }
+
+    @Benchmark
+    public Object getGroupMissing() {
+        return collection.getGroup(BenchmarkFixtures.MiddleEvent.class);
+    }
+
+    @Benchmark
+    public Object getDerivedOf() {
+        return collection.getDerivedOf(BenchmarkFixtures.RootEvent.class, SUBSCRIBER_TYPE);
+    }
+
+}
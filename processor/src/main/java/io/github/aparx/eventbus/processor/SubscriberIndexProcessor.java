@@ -0,0 +1,188 @@
+package io.github.aparx.eventbus.processor;
+
+import javax.annotation.processing.*;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.*;
+
+/**
+ * Annotation processor generating a {@code SubscriberIndex} for every
+ * concrete {@code Listener} class that is compiled alongside it.
+ * <p>Event methods are deduced equally to the default first parameter
+ * deducer of the eventbus, meaning that every non-static method declared
+ * by the listener class, whose first parameter is an event, or an
+ * interface opted into through {@code SubscriberOptions#acceptInterface},
+ * is an event method. The generated index calls these methods directly,
+ * thus neither reflective analysis of the listener class nor reflective
+ * invocation is required. Only the event methods themselves are looked up
+ * once, so that the subscribers are identified by their method.
+ * <p>Listener classes, whose event methods cannot be called from another
+ * class of their package, such as private methods or methods with more
+ * than one parameter, are not indexed and thus collected reflectively.
+ *
+ * @author aparx (Vinzent Zeband)
+ * @version 19:29 CET, 18.10.2026
+ * @since 1.0
+ */
+@SupportedAnnotationTypes("*")
+public class SubscriberIndexProcessor extends AbstractProcessor {
+
+    static final String LISTENER_TYPE = "io.github.aparx.eventbus.Listener";
+    static final String EVENT_TYPE = "io.github.aparx.eventbus.Event";
+    static final String OPTIONS_TYPE = "io.github.aparx.eventbus.subscriber.member.SubscriberOptions";
+    static final String INDEX_TYPE = "io.github.aparx.eventbus.subscriber.index.SubscriberIndex";
+    static final String INDEXES_TYPE = "io.github.aparx.eventbus.subscriber.index.SubscriberIndexes";
+    static final String SUBSCRIBER_TYPE = "io.github.aparx.eventbus.subscriber.EventSubscriber";
+    static final String GENERATED_TYPE = "javax.annotation.processing.Generated";
+
+    /** Suffix equal to {@code SubscriberIndex#CLASS_SUFFIX}. */
+    static final String CLASS_SUFFIX = "$$SubscriberIndex";
+
+    private final Set<String> generated = new HashSet<>();
+
+    private Elements elements;
+    private Types types;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        this.elements = processingEnv.getElementUtils();
+        this.types = processingEnv.getTypeUtils();
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        TypeElement listenerType = elements.getTypeElement(LISTENER_TYPE);
+        TypeElement eventType = elements.getTypeElement(EVENT_TYPE);
+        // The eventbus is not present on the classpath of this compilation
+        if (listenerType == null || eventType == null) return false;
+        for (Element root : roundEnv.getRootElements())
+            visit(root, types.erasure(listenerType.asType()), types.erasure(eventType.asType()));
+        // Annotations are never claimed, as other processors might use them
+        return false;
+    }
+
+    private void visit(Element element, TypeMirror listenerType, TypeMirror eventType) {
+        if (!(element instanceof TypeElement)) return;
+        TypeElement type = (TypeElement) element;
+        if (isIndexable(type, listenerType)) generate(type, eventType);
+        for (TypeElement member : ElementFilter.typesIn(type.getEnclosedElements()))
+            visit(member, listenerType, eventType);
+    }
+
+    private boolean isIndexable(TypeElement type, TypeMirror listenerType) {
+        if (type.getKind() != ElementKind.CLASS && type.getKind() != ElementKind.ENUM)
+            return false;
+        if (type.getModifiers().contains(Modifier.ABSTRACT)) return false;
+        if (!types.isAssignable(types.erasure(type.asType()), listenerType)) return false;
+        for (Element e = type; e instanceof TypeElement; e = e.getEnclosingElement()) {
+            // The index must be able to reference the listener class
+            if (e.getModifiers().contains(Modifier.PRIVATE)) {
+                note(type, "Listener is not indexed, as it is not accessible");
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isEventMethod(ExecutableElement method, TypeMirror eventType) {
+        if (method.getParameters().isEmpty()) return false;
+        if (method.getModifiers().contains(Modifier.STATIC)) return false;
+        TypeMirror paramType = types.erasure(method.getParameters().get(0).asType());
+        if (paramType.getKind() != TypeKind.DECLARED) return false;
+        if (types.isAssignable(paramType, eventType)) return true;
+        // Interfaces are only accepted by methods opting into them
+        return ((DeclaredType) paramType).asElement().getKind() == ElementKind.INTERFACE
+                && isAcceptingInterface(method);
+    }
+
+    private boolean isAcceptingInterface(ExecutableElement method) {
+        for (AnnotationMirror mirror : method.getAnnotationMirrors()) {
+            TypeElement annotation = (TypeElement) mirror.getAnnotationType().asElement();
+            if (!annotation.getQualifiedName().contentEquals(OPTIONS_TYPE)) continue;
+            for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> e
+                    : mirror.getElementValues().entrySet()) {
+                if (e.getKey().getSimpleName().contentEquals("acceptInterface"))
+                    return (Boolean) e.getValue().getValue();
+            }
+        }
+        return false;
+    }
+
+    private void generate(TypeElement type, TypeMirror eventType) {
+        String binaryName = elements.getBinaryName(type).toString();
+        if (!generated.add(binaryName)) return;
+        List<String> subscribers = new ArrayList<>();
+        for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+            if (!isEventMethod(method, eventType)) continue;
+            if (method.getModifiers().contains(Modifier.PRIVATE)
+                    || method.getParameters().size() != 1) {
+                note(method, "Listener is not indexed, as this event method cannot be called");
+                return;
+            }
+            subscribers.add(newSubscriber(type, method));
+        }
+        String packageName = elements.getPackageOf(type).getQualifiedName().toString();
+        String simpleName = (packageName.isEmpty() ? binaryName
+                : binaryName.substring(packageName.length() + 1)) + CLASS_SUFFIX;
+        String listenerName = types.erasure(type.asType()).toString();
+        try (Writer out = processingEnv.getFiler().createSourceFile(
+                packageName.isEmpty() ? simpleName : packageName + "." + simpleName,
+                type).openWriter()) {
+            if (!packageName.isEmpty())
+                out.write("package " + packageName + ";\n\n");
+            if (elements.getTypeElement(GENERATED_TYPE) != null)
+                out.write("@" + GENERATED_TYPE + "(\"" + getClass().getName() + "\")\n");
+            out.write("@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n");
+            out.write("public final class " + simpleName
+                    + " implements " + INDEX_TYPE + "<" + listenerName + "> {\n\n");
+            out.write("    private final java.util.List<" + SUBSCRIBER_TYPE + "<?>> subscribers"
+                    + " = java.util.List.of(");
+            out.write(String.join(",", subscribers));
+            out.write(");\n\n");
+            out.write("    @Override\n");
+            out.write("    public Class<" + listenerName + "> getListenerType() {\n");
+            out.write("        return " + listenerName + ".class;\n");
+            out.write("    }\n\n");
+            out.write("    @Override\n");
+            out.write("    public java.util.List<" + SUBSCRIBER_TYPE + "<?>> getSubscribers() {\n");
+            out.write("        return subscribers;\n");
+            out.write("    }\n\n");
+            out.write("}\n");
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Could not generate subscriber index: " + e.getMessage(), type);
+        }
+    }
+
+    private String newSubscriber(TypeElement type, ExecutableElement method) {
+        String listenerName = types.erasure(type.asType()).toString();
+        String paramName = types.erasure(method.getParameters().get(0).asType()).toString();
+        // `SubscriberOptions` are read from the method once the index is loaded
+        return "\n            " + INDEXES_TYPE + ".newSubscriber("
+                + listenerName + ".class, "
+                + elements.getConstantExpression(method.getSimpleName().toString()) + ", "
+                + paramName + ".class,\n"
+                + "                    (listener, event) -> ((" + listenerName + ") listener)."
+                + method.getSimpleName() + "((" + paramName + ") event))";
+    }
+
+    private void note(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, message, element);
+    }
+
+}
@@ -0,0 +1,103 @@
+package io.github.aparx.eventbus.processor;
+
+import io.github.aparx.eventbus.Event;
+import io.github.aparx.eventbus.EventBus;
+import io.github.aparx.eventbus.Listener;
+import io.github.aparx.eventbus.processors.EventProcessors;
+import io.github.aparx.eventbus.subscriber.EventSubscriber;
+import io.github.aparx.eventbus.subscriber.index.SubscriberIndex;
+import io.github.aparx.eventbus.subscriber.index.SubscriberIndexes;
+import io.github.aparx.eventbus.subscriber.member.ClassMemberEventSubscriber;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.*;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * @author aparx (Vinzent Zeband)
+ * @version 19:29 CET, 18.10.2026
+ * @since 1.0
+ */
+public class SubscriberIndexProcessorTests {
+
+    public static class TestEvent extends Event {
+        public final List<String> calls = new java.util.ArrayList<>();
+    }
+
+    static final String SOURCE = String.join("\n",
+            "package sample;",
+            "import io.github.aparx.eventbus.Cancellable;",
+            "import io.github.aparx.eventbus.Listener;",
+            "import io.github.aparx.eventbus.processor.SubscriberIndexProcessorTests.TestEvent;",
+            "import io.github.aparx.eventbus.subscriber.member.SubscriberOptions;",
+            "public class Sample {",
+            "    public static class IndexedListener implements Listener {",
+            "        void onTest(TestEvent event) { event.calls.add(\"test\"); }",
+            "        @SubscriberOptions(priority = 5)",
+            "        int onFirst(TestEvent event) { event.calls.add(\"first\"); return 0; }",
+            "        @SubscriberOptions(acceptInterface = true)",
+            "        void onCancellable(Cancellable event) { }",
+            "        void log(java.util.List<?> lines) { }",
+            "        static void onStatic(TestEvent event) { }",
+            "    }",
+            "    public static class PrivateListener implements Listener {",
+            "        private void onTest(TestEvent event) { event.calls.add(\"private\"); }",
+            "    }",
+            "}");
+
+    @Test
+    public void test_generatesIndex(@TempDir Path dir) throws Exception {
+        Path source = dir.resolve("sample/Sample.java");
+        Files.createDirectories(source.getParent());
+        Files.writeString(source, SOURCE);
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager files = compiler.getStandardFileManager(null, null, null)) {
+            JavaCompiler.CompilationTask task = compiler.getTask(null, files, diagnostics,
+                    List.of("-d", dir.toString(), "-s", dir.toString(),
+                            "-classpath", System.getProperty("java.class.path")),
+                    null, files.getJavaFileObjects(source));
+            task.setProcessors(List.of(new SubscriberIndexProcessor()));
+            Assertions.assertTrue(task.call(), diagnostics.getDiagnostics().toString());
+        }
+        Assertions.assertTrue(Files.exists(
+                dir.resolve("sample/Sample$IndexedListener$$SubscriberIndex.java")));
+        Assertions.assertFalse(Files.exists(
+                dir.resolve("sample/Sample$PrivateListener$$SubscriberIndex.java")));
+
+        try (URLClassLoader loader = new URLClassLoader(
+                new URL[]{dir.toUri().toURL()}, getClass().getClassLoader())) {
+            Class<?> indexed = loader.loadClass("sample.Sample$IndexedListener");
+            SubscriberIndex<?> index = SubscriberIndexes.find(indexed);
+            Assertions.assertNotNull(index);
+            Assertions.assertSame(indexed, index.getListenerType());
+            Assertions.assertEquals(3, index.getSubscribers().size());
+            // Indexed subscribers expose their event method, like collected ones
+            for (EventSubscriber<?> subscriber : index.getSubscribers()) {
+                Assertions.assertTrue(subscriber instanceof ClassMemberEventSubscriber);
+                Assertions.assertSame(indexed, ((ClassMemberEventSubscriber<?, ?>) subscriber)
+                        .getMember().getDeclaringClass());
+            }
+            Class<?> unindexed = loader.loadClass("sample.Sample$PrivateListener");
+            Assertions.assertNull(SubscriberIndexes.find(unindexed));
+
+            EventBus bus = new EventBus(EventProcessors.newPolymorphicPublisher(),
+                    EventProcessors.newIndexedCollector());
+            bus.register((Listener) indexed.getConstructor().newInstance());
+            // Unindexed listeners are collected reflectively instead
+            bus.register((Listener) unindexed.getConstructor().newInstance());
+            TestEvent event = new TestEvent();
+            bus.publish(event);
+            Assertions.assertEquals("first", event.calls.get(0));
+            Assertions.assertEquals(3, event.calls.size());
+            Assertions.assertTrue(event.calls.containsAll(List.of("test", "private")));
+        }
+    }
+
+}
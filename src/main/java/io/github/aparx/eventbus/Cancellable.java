@@ -1,6 +1,12 @@
 package io.github.aparx.eventbus;
 
 /**
+ * Interface marking an {@code Event} to be cancellable by its subscribers.
+ * <p>Once an event has been cancelled, the default publishers skip every
+ * remaining subscriber that is not receiving cancelled events, as
+ * defined by {@code EventSubscriber#isReceivingCancelled()}. Events that
+ * are not cancellable are dispatched without any cancellation checks.
+ *
  * @author aparx (Vinzent Zeband)
  * @version 12:03 CET, 30.07.2022
  * @since 1.0
@@ -0,0 +1,28 @@
+package io.github.aparx.eventbus;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Interface marking an {@code Event} to represent a state, that is
+ * superseded by any later event of the same type and conflation key.
+ * <p>Conflating publishers replace a pending, not yet dispatched event
+ * with a newer event of the same type and key, instead of queueing both.
+ * Slow subscribers thus only receive the latest state of every key,
+ * rather than every intermediate state. Publishers that do not conflate
+ * dispatch these events like any other event.
+ *
+ * @author aparx (Vinzent Zeband)
+ * @version 20:00 CET, 18.10.2026
+ * @see io.github.aparx.eventbus.processors.MailboxEventPublisher
+ * @since 1.0
+ */
+public interface ConflatedEvent {
+
+    /**
+     * Returns the key, identifying the state this event represents. The
+     * key must not change while this event is being published.
+     */
+    @NonNull
+    Object getConflationKey();
+
+}
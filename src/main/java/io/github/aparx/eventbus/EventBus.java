@@ -3,17 +3,33 @@ package io.github.aparx.eventbus;
 import com.google.common.base.Preconditions;
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
 import io.github.aparx.eventbus.audience.ListenerHandle;
+import io.github.aparx.eventbus.audience.SubscriptionIndex;
+import io.github.aparx.eventbus.jfr.FlightRecording;
+import io.github.aparx.eventbus.jfr.PublishRecording;
+import io.github.aparx.eventbus.processors.BatchPublishException;
+import io.github.aparx.eventbus.processors.DeferredEventPublisher;
 import io.github.aparx.eventbus.processors.EventProcessors;
 import io.github.aparx.eventbus.processors.EventPublisher;
+import io.github.aparx.eventbus.processors.IndexedEventPublisher;
+import io.github.aparx.eventbus.processors.KeyedEventPublisher;
+import io.github.aparx.eventbus.processors.RingBufferEventPublisher;
 import io.github.aparx.eventbus.processors.SubscriberCollector;
+import io.github.aparx.eventbus.processors.WaitStrategy;
 import org.checkerframework.checker.index.qual.NonNegative;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.jetbrains.annotations.Contract;
 
+import java.time.Duration;
+import java.util.Collection;
 import java.util.Hashtable;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
 
 /**
  * Defining {@code ListenerRegister} implementation, being a facade that
@@ -24,6 +40,15 @@ import java.util.Map;
  * {@code ListenerHandle} instances that are associated to their owner.
  * <p>An instance of {@code EventBus} consists of at least two processors,
  * being {@link EventPublisher} and {@link SubscriberCollector}.
+ * <p>Every registered handle is additionally kept in a bus-wide
+ * {@link SubscriptionIndex}. If the publisher of this bus is an
+ * {@link IndexedEventPublisher}, events are only dispatched to the
+ * precomputed subscriptions of their type, instead of visiting every
+ * registered handle on publish.
+ * <p>How handles are stored and guarded against concurrent access is
+ * defined by the {@link RegistryMode} of the bus.
+ * <p>Events extending {@link RequestEvent} can be requested, returning a
+ * future of the replies of their subscribers.
  *
  * @author aparx (Vinzent Zeband)
  * @version 16:10 CET, 27.07.2022
@@ -31,21 +56,24 @@ import java.util.Map;
  * @see ListenerHandle
  * @see EventPublisher
  * @see SubscriberCollector
+ * @see SubscriptionIndex
+ * @see RequestEvent
  * @see EventProcessors
  * @see io.github.aparx.eventbus.subscriber.EventSubscriber
  * @since 1.0
  */
 public class EventBus implements ListenerRegister {
 
-    final @NonNull Map<@NonNull Listener, @NonNull ListenerHandle> handleTable;
+    final @NonNull HandleRegistry registry;
 
     final @NonNull EventPublisher publisher;
     final @NonNull SubscriberCollector<?> collector;
 
 
     public EventBus() {
+        // Compiled callbacks do not allocate an argument array per call
         this(EventProcessors.newPolymorphicPublisher(),
-                EventProcessors.newDefaultMethodCollector());
+                EventProcessors.newCompiledMethodCollector());
     }
 
     public EventBus(
@@ -55,14 +83,81 @@ public class EventBus implements ListenerRegister {
         this(new Hashtable<>(), publisher, collector);
     }
 
+    public EventBus(
+            @NonNull RegistryMode registryMode,
+            @NonNull EventPublisher publisher,
+            @NonNull SubscriberCollector<?> collector) {
+        this.publisher = Preconditions.checkNotNull(publisher);
+        this.collector = Preconditions.checkNotNull(collector);
+        this.registry = Preconditions.checkNotNull(registryMode)
+                .newRegistry(newTypeResolver(publisher));
+    }
+
     protected EventBus(
             @NonNull Map<@NonNull Listener, @NonNull ListenerHandle> handles,
             @NonNull EventPublisher publisher,
             @NonNull SubscriberCollector<?> collector) {
         // Assign each reference to a field of this
-        this.handleTable = Preconditions.checkNotNull(handles);
         this.publisher = Preconditions.checkNotNull(publisher);
         this.collector = Preconditions.checkNotNull(collector);
+        this.registry = new HandleRegistry.Synchronized(
+                Preconditions.checkNotNull(handles), newTypeResolver(publisher));
+    }
+
+    /**
+     * Returns a new bus publishing into a ring buffer of {@code capacity}
+     * slots, which is drained by a single consumer thread. The publisher
+     * of the returned bus should be closed once the bus is not used anymore.
+     *
+     * @see RingBufferEventPublisher
+     */
+    @NonNull
+    public static EventBus newRingBuffered(
+            int capacity,
+            RingBufferEventPublisher.@NonNull ProducerType producerType,
+            @NonNull WaitStrategy waitStrategy) {
+        return newRingBuffered(EventProcessors.newRingBufferPublisher(
+                capacity, producerType, waitStrategy));
+    }
+
+    @NonNull
+    public static EventBus newRingBuffered(@NonNull RingBufferEventPublisher publisher) {
+        // Publishers resolve subscriptions without ever blocking each other
+        return new EventBus(RegistryMode.COPY_ON_WRITE, publisher,
+                EventProcessors.newCompiledMethodCollector());
+    }
+
+    /**
+     * Returns a new bus publishing events onto {@code laneCount} lanes by
+     * the key {@code keyExtractor} returns for them, so that events of
+     * equal key are dispatched in order, while different keys are
+     * dispatched in parallel. The publisher of the returned bus should be
+     * closed once the bus is not used anymore.
+     *
+     * @see KeyedEventPublisher
+     */
+    @NonNull
+    public static EventBus newKeyed(
+            int laneCount,
+            int laneCapacity,
+            @NonNull Function<? super Event, ?> keyExtractor) {
+        return newKeyed(EventProcessors.newKeyedPublisher(
+                laneCount, laneCapacity, keyExtractor));
+    }
+
+    @NonNull
+    public static EventBus newKeyed(@NonNull KeyedEventPublisher publisher) {
+        // Publishers resolve subscriptions without ever blocking each other
+        return new EventBus(RegistryMode.COPY_ON_WRITE, publisher,
+                EventProcessors.newCompiledMethodCollector());
+    }
+
+    @NonNull
+    private static Function<Class<? extends Event>, Class<?>[]> newTypeResolver(
+            @NonNull EventPublisher publisher) {
+        if (publisher instanceof IndexedEventPublisher)
+            return ((IndexedEventPublisher) publisher)::getDispatchTypes;
+        return type -> new Class<?>[]{type};
     }
 
     @Contract(pure = true)
@@ -78,9 +173,7 @@ public class EventBus implements ListenerRegister {
     @Override
     @Contract(pure = true)
     public final @NonNegative int handleCount() {
-        synchronized (handleTable) {
-            return handleTable.size();
-        }
+        return registry.size();
     }
 
     public void publish(@NonNull Event event) {
@@ -90,58 +183,255 @@ public class EventBus implements ListenerRegister {
     public void publish(@NonNull Event event,
                         EventPublisher.@Nullable ErrorHandler errorHandler) {
         Preconditions.checkNotNull(event);
-        synchronized (handleTable) {
-            for (ListenerHandle handle : this) {
-                // JIT should automatically optimize the repetitive call
-                getPublisher().publish(event, handle, errorHandler);
+        if (!FlightRecording.isPublishEnabled()) {
+            registry.publish(event, getPublisher(), errorHandler);
+            return;
+        }
+        PublishRecording recording = PublishRecording.begin(event);
+        try {
+            registry.publish(event, getPublisher(), errorHandler);
+        } catch (Throwable t) {
+            recording.failed(t);
+            throw t;
+        } finally {
+            recording.finish();
+        }
+    }
+
+    public void publishAll(@NonNull Collection<? extends @NonNull Event> events) {
+        this.publishAll(events, null);
+    }
+
+    public void publishAll(@NonNull Collection<? extends @NonNull Event> events,
+                           EventPublisher.@Nullable ErrorHandler errorHandler) {
+        Preconditions.checkNotNull(events);
+        this.publishBatch(events.toArray(new Event[0]), errorHandler);
+    }
+
+    public void publishBatch(@NonNull Event @NonNull ... events) {
+        this.publishBatch(events, null);
+    }
+
+    /**
+     * Publishes all {@code events} in their given order, whereas the
+     * subscribers of every distinct event type are only resolved once and
+     * the registry is only accessed once for the entire batch.
+     * <p>A failing subscriber does not abort the batch. All failures are
+     * reported once the batch has been published, either through
+     * {@code ErrorHandler#handleBatch} or, if no error handler is given,
+     * by throwing a {@code BatchPublishException}.
+     *
+     * @throws BatchPublishException if any subscriber failed and no
+     *                               {@code errorHandler} is given
+     */
+    public void publishBatch(@NonNull Event @NonNull [] events,
+                             EventPublisher.@Nullable ErrorHandler errorHandler) {
+        Preconditions.checkNotNull(events);
+        // Rejects the batch before any of its events is published
+        for (Event event : events) Preconditions.checkNotNull(event);
+        if (events.length == 0) return;
+        registry.publishAll(events, getPublisher(), errorHandler);
+    }
+
+    @NonNull
+    public CompletableFuture<Void> publishAsync(@NonNull Event event) {
+        return this.publishAsync(event, null);
+    }
+
+    /**
+     * Publishes {@code event} through the {@code DeferredEventPublisher} of
+     * this bus, such as an asynchronous or queued publisher, returning a
+     * future that completes once every subscriber has been called. If the
+     * publisher of this bus is not deferred, the event is published
+     * synchronously and a completed future is returned instead.
+     */
+    @NonNull
+    public CompletableFuture<Void> publishAsync(
+            @NonNull Event event,
+            EventPublisher.@Nullable ErrorHandler errorHandler) {
+        Preconditions.checkNotNull(event);
+        EventPublisher publisher = getPublisher();
+        try {
+            if (publisher instanceof DeferredEventPublisher) {
+                return ((DeferredEventPublisher) publisher).publishAsync(event,
+                        registry.resolve(event), errorHandler);
             }
+            publish(event, errorHandler);
+            return CompletableFuture.completedFuture(null);
+        } catch (Throwable t) {
+            return CompletableFuture.failedFuture(t);
         }
     }
 
+    /**
+     * Publishes {@code event} and returns a future of the first reply of
+     * any subscriber. If no subscriber replied, the future is completed
+     * with null once the event has been published.
+     */
+    @NonNull
+    public <R> CompletableFuture<R> request(@NonNull RequestEvent<R> event) {
+        return this.request(event, null);
+    }
+
+    @NonNull
+    public <R> CompletableFuture<R> request(@NonNull RequestEvent<R> event,
+                                            @Nullable Duration timeout) {
+        return this.request(event, RequestEvent.Responder.first(), timeout);
+    }
+
+    /**
+     * Publishes {@code event} and returns a future of all replies, in the
+     * order they were replied in, once the event has been published.
+     */
+    @NonNull
+    public <R> CompletableFuture<List<R>> requestAll(@NonNull RequestEvent<R> event) {
+        return this.requestAll(event, null);
+    }
+
+    @NonNull
+    public <R> CompletableFuture<List<R>> requestAll(@NonNull RequestEvent<R> event,
+                                                     @Nullable Duration timeout) {
+        return this.request(event, RequestEvent.Responder.all(), timeout);
+    }
+
+    @NonNull
+    public <R> CompletableFuture<R> requestReduced(@NonNull RequestEvent<R> event,
+                                                   @NonNull R identity,
+                                                   @NonNull BinaryOperator<R> accumulator) {
+        return this.requestReduced(event, identity, accumulator, null);
+    }
+
+    /**
+     * Publishes {@code event} and returns a future of all replies reduced
+     * by {@code accumulator}, starting with {@code identity}. If given, the
+     * returned future is completed exceptionally with a
+     * {@code TimeoutException} after {@code timeout}, which equally
+     * completes the request and skips any remaining subscriber.
+     */
+    @NonNull
+    public <R> CompletableFuture<R> requestReduced(@NonNull RequestEvent<R> event,
+                                                   @NonNull R identity,
+                                                   @NonNull BinaryOperator<R> accumulator,
+                                                   @Nullable Duration timeout) {
+        Preconditions.checkNotNull(identity);
+        Preconditions.checkNotNull(accumulator);
+        return this.request(event, RequestEvent.Responder.reduce(identity, accumulator), timeout);
+    }
+
+    @NonNull
+    private <R, T> CompletableFuture<T> request(@NonNull RequestEvent<R> event,
+                                                RequestEvent.@NonNull Responder<R, T> responder,
+                                                @Nullable Duration timeout) {
+        Preconditions.checkNotNull(event);
+        event.bind(responder);
+        CompletableFuture<T> future = responder.future;
+        if (timeout != null) future.orTimeout(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        // Deferred publishers complete the request on their own threads,
+        // once every subscriber has been called
+        publishAsync(event).whenComplete((ignored, thrown) -> {
+            if (thrown == null) responder.complete();
+            else future.completeExceptionally(thrown);
+        });
+        return future;
+    }
+
     @Override
     @Contract(pure = true)
     public boolean isRegistered(@NonNull Listener listener) {
         Preconditions.checkNotNull(listener);
-        synchronized (handleTable) {
-            return handleTable.containsKey(listener);
-        }
+        return registry.contains(listener);
     }
 
     @Override
     @CanIgnoreReturnValue
     public boolean register(@NonNull Listener listener) {
         Preconditions.checkNotNull(listener);
-        synchronized (handleTable) {
-            putHandle(createHandle(listener, getCollector().collect(listener)));
-            return true;
-        }
+        // Subscribers are collected outside any lock of the registry
+        putHandle(createHandle(listener, getCollector().collect(listener)));
+        return true;
     }
 
     @Override
     @CanIgnoreReturnValue
     public boolean unregister(@NonNull Listener listener) {
         Preconditions.checkNotNull(listener);
-        synchronized (handleTable) {
-            return handleTable.remove(listener) != null;
-        }
+        return registry.remove(listener) != null;
     }
 
     @Override
     public ListenerHandle putHandle(@NonNull ListenerHandle handle) {
-        Listener listener = handle.getOwner();
+        Listener listener = handle.findOwner();
         Preconditions.checkNotNull(listener);
-        synchronized (handleTable) {
-            return handleTable.put(listener, handle);
-        }
+        return registry.put(handle);
     }
 
     @NonNull
     @Override
     @Contract(pure = true)
     public Iterator<ListenerHandle> iterator() {
-        synchronized (handleTable) {
-            return handleTable.values().iterator();
-        }
+        return registry.iterator();
+    }
+
+    /**
+     * Enumeration of the available {@code ListenerHandle} registries,
+     * defining how an {@code EventBus} handles concurrent access.
+     */
+    public enum RegistryMode {
+
+        /**
+         * Handles are stored within a {@code Hashtable}, whose monitor is
+         * held for every mutation. Publishing threads only hold it while
+         * resolving the subscriptions of an event, which are dispatched
+         * after the monitor has been released.
+         * <p>A publish always dispatches to the subscriptions present at
+         * the time it started.
+         */
+        SYNCHRONIZED {
+            @Override
+            @NonNull HandleRegistry newRegistry(
+                    @NonNull Function<Class<? extends Event>, Class<?>[]> typeResolver) {
+                return new HandleRegistry.Synchronized(new Hashtable<>(), typeResolver);
+            }
+        },
+
+        /**
+         * Handles are stored within immutable snapshots, that are read
+         * through a volatile reference. Publishing never blocks and scales
+         * across any amount of threads, while every mutation copies the
+         * current snapshot. This mode is suited for buses that are
+         * published to far more often than they are mutated.
+         * <p>A publish always dispatches to the snapshot present at the
+         * time it started.
+         */
+        COPY_ON_WRITE {
+            @Override
+            @NonNull HandleRegistry newRegistry(
+                    @NonNull Function<Class<? extends Event>, Class<?>[]> typeResolver) {
+                return new HandleRegistry.CopyOnWrite(typeResolver);
+            }
+        },
+
+        /**
+         * Handles only reference their listeners weakly, thus listeners
+         * that are not unregistered do not leak, but are removed once
+         * they have been garbage collected. Handles are guarded equally
+         * to {@link #SYNCHRONIZED}, whereas listeners are compared by
+         * identity rather than by their {@code equals} method.
+         * <p>Handles of collected listeners are removed lazily on the
+         * next operation of the bus. Until then, they are skipped by the
+         * default publishers.
+         */
+        WEAK {
+            @Override
+            @NonNull HandleRegistry newRegistry(
+                    @NonNull Function<Class<? extends Event>, Class<?>[]> typeResolver) {
+                return new HandleRegistry.Weak(typeResolver);
+            }
+        };
+
+        @NonNull
+        abstract HandleRegistry newRegistry(
+                @NonNull Function<Class<? extends Event>, Class<?>[]> typeResolver);
     }
 
 }
\ No newline at end of file
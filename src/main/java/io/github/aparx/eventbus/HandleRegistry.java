@@ -0,0 +1,583 @@
+package io.github.aparx.eventbus;
+
+import com.google.common.base.Preconditions;
+import io.github.aparx.eventbus.audience.ListenerHandle;
+import io.github.aparx.eventbus.audience.Subscription;
+import io.github.aparx.eventbus.audience.SubscriptionIndex;
+import io.github.aparx.eventbus.audience.WeakListenerHandle;
+import io.github.aparx.eventbus.processors.BatchPublishException;
+import io.github.aparx.eventbus.processors.EventPublisher;
+import io.github.aparx.eventbus.processors.IndexedEventPublisher;
+import io.github.aparx.eventbus.subscriber.EventSubscriber;
+import io.github.aparx.eventbus.subscriber.collection.SubscriberCollection;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Registry storing the {@code ListenerHandle} instances of an
+ * {@code EventBus}, alongside their {@code SubscriptionIndex}.
+ * <p>Implementations define how concurrent access to the handles is
+ * handled, which is chosen through {@link EventBus.RegistryMode}.
+ * <p>Every registry publishes with snapshot semantics. A publish resolves
+ * the subscriptions or handles present at the time it started and
+ * dispatches to them outside any lock of the registry. Listeners that
+ * are registered or unregistered from within a callback, thus only take
+ * effect for the next publish. Snapshots are immutable arrays that are
+ * only replaced once the registry is mutated, thus they are not copied
+ * on publish.
+ *
+ * @author aparx (Vinzent Zeband)
+ * @version 19:13 CET, 18.10.2026
+ * @see EventBus
+ * @see EventBus.RegistryMode
+ * @since 1.0
+ */
+abstract class HandleRegistry implements Iterable<ListenerHandle> {
+
+    static final ListenerHandle[] EMPTY_HANDLES = new ListenerHandle[0];
+
+    abstract int size();
+
+    abstract boolean contains(@NonNull Listener listener);
+
+    @Nullable
+    abstract ListenerHandle put(@NonNull ListenerHandle handle);
+
+    @Nullable
+    abstract ListenerHandle remove(@NonNull Listener listener);
+
+    abstract void publishAll(@NonNull Event @NonNull [] events,
+                             @NonNull EventPublisher publisher,
+                             EventPublisher.@Nullable ErrorHandler errorHandler);
+
+    /**
+     * Returns the subscriptions {@code event} is dispatched to at the
+     * time of the call. The returned array might be shared and must not
+     * be mutated.
+     */
+    @NonNull
+    abstract Subscription @NonNull [] resolve(@NonNull Event event);
+
+    /**
+     * Returns the handles registered at the time of the call. The
+     * returned array is shared and must not be mutated.
+     */
+    @NonNull
+    abstract ListenerHandle @NonNull [] handles();
+
+    void publish(@NonNull Event event,
+                 @NonNull EventPublisher publisher,
+                 EventPublisher.@Nullable ErrorHandler errorHandler) {
+        if (publisher instanceof IndexedEventPublisher) {
+            // Dispatches to the precomputed subscriptions of `event`
+            ((IndexedEventPublisher) publisher).publish(event,
+                    resolve(event), errorHandler);
+            return;
+        }
+        for (ListenerHandle handle : handles()) {
+            // JIT should automatically optimize the repetitive call
+            publisher.publish(event, handle, errorHandler);
+        }
+    }
+
+    @NonNull
+    @Override
+    public Iterator<ListenerHandle> iterator() {
+        // Iterates over a snapshot, that is unaffected by later mutations
+        return Collections.unmodifiableList(Arrays.asList(handles())).iterator();
+    }
+
+    @NonNull
+    static Subscription @NonNull [] @NonNull [] resolveAll(@NonNull Event @NonNull [] events,
+                                                           @NonNull SubscriptionIndex index) {
+        // Resolves every distinct event type of the batch only once, while
+        // events published on a topic or routed by attributes are resolved
+        // individually
+        Subscription[][] resolved = new Subscription[events.length][];
+        Map<Class<?>, Subscription[]> types = new IdentityHashMap<>();
+        for (int i = 0; i < events.length; ++i) {
+            Class<? extends Event> type = events[i].getClass();
+            if (events[i] instanceof TopicEvent || events[i] instanceof RoutedEvent) {
+                resolved[i] = index.resolve(events[i]);
+                continue;
+            }
+            Subscription[] subscriptions = types.get(type);
+            if (subscriptions == null) {
+                subscriptions = index.resolve(type);
+                types.put(type, subscriptions);
+            }
+            resolved[i] = subscriptions;
+        }
+        return resolved;
+    }
+
+    static void dispatchAll(@NonNull Event @NonNull [] events,
+                            @NonNull Subscription @Nullable [] @NonNull [] resolved,
+                            @NonNull ListenerHandle @Nullable [] handles,
+                            @NonNull EventPublisher publisher,
+                            EventPublisher.@Nullable ErrorHandler errorHandler) {
+        // Either `resolved` is given for indexed publishers, or `handles`
+        final BatchErrors errors = new BatchErrors();
+        if (resolved != null) {
+            final IndexedEventPublisher indexed = (IndexedEventPublisher) publisher;
+            for (int i = 0; i < events.length; ++i) {
+                errors.current = events[i];
+                indexed.publish(events[i], resolved[i], errors);
+            }
+        } else {
+            Preconditions.checkNotNull(handles);
+            for (Event event : events) {
+                errors.current = event;
+                for (ListenerHandle handle : handles)
+                    publisher.publish(event, handle, errors);
+            }
+        }
+        if (errors.failures == null) return;
+        BatchPublishException exception = new BatchPublishException(errors.failures);
+        if (errorHandler == null) throw exception;
+        errorHandler.handleBatch(exception);
+    }
+
+    /** Error handler recording the failures of the current batch. */
+    private static final class BatchErrors implements EventPublisher.ErrorHandler {
+        Event current;
+        List<BatchPublishException.Failure> failures;
+
+        @Override
+        public void handle(@NonNull Throwable thrown,
+                           @NonNull ListenerHandle scope,
+                           @Nullable EventSubscriber<?> sub) {
+            if (failures == null) failures = new ArrayList<>();
+            failures.add(new BatchPublishException.Failure(current, scope, sub, thrown));
+        }
+    }
+
+    /* HandleRegistry implementations */
+
+    /**
+     * Registry guarding a mutable {@code Map} and index through the
+     * monitor of that map. Publishing only holds the monitor while
+     * resolving its snapshot, but not while dispatching.
+     */
+    static final class Synchronized extends HandleRegistry {
+
+        final @NonNull Map<@NonNull Listener, @NonNull ListenerHandle> handleTable;
+
+        // Guarded by the monitor of `handleTable`
+        final @NonNull SubscriptionIndex subscriptionIndex;
+
+        // Guarded by the monitor of `handleTable`, reset on every mutation
+        @NonNull ListenerHandle @Nullable [] handleSnapshot;
+
+        Synchronized(
+                @NonNull Map<@NonNull Listener, @NonNull ListenerHandle> handles,
+                @NonNull Function<Class<? extends Event>, Class<?>[]> typeResolver) {
+            this.handleTable = Preconditions.checkNotNull(handles);
+            this.subscriptionIndex = new SubscriptionIndex(typeResolver);
+            synchronized (handleTable) {
+                // Indexes all handles that are already contained in `handles`
+                for (ListenerHandle handle : handleTable.values())
+                    subscriptionIndex.add(handle);
+            }
+        }
+
+        @Override
+        int size() {
+            synchronized (handleTable) {
+                return handleTable.size();
+            }
+        }
+
+        @Override
+        boolean contains(@NonNull Listener listener) {
+            synchronized (handleTable) {
+                return handleTable.containsKey(listener);
+            }
+        }
+
+        @Override
+        @Nullable ListenerHandle put(@NonNull ListenerHandle handle) {
+            synchronized (handleTable) {
+                // Fails before any mutation, keeping table and index in sync
+                subscriptionIndex.check(handle);
+                ListenerHandle previous = handleTable.put(handle.getOwner(), handle);
+                // Replaces the subscriptions of `previous` within the index
+                if (previous != null) subscriptionIndex.remove(previous);
+                subscriptionIndex.add(handle);
+                handleSnapshot = null;
+                return previous;
+            }
+        }
+
+        @Override
+        @Nullable ListenerHandle remove(@NonNull Listener listener) {
+            synchronized (handleTable) {
+                ListenerHandle handle = handleTable.remove(listener);
+                if (handle == null) return null;
+                subscriptionIndex.remove(handle);
+                handleSnapshot = null;
+                return handle;
+            }
+        }
+
+        @Override
+        void publishAll(@NonNull Event @NonNull [] events,
+                        @NonNull EventPublisher publisher,
+                        EventPublisher.@Nullable ErrorHandler errorHandler) {
+            Subscription[][] resolved = null;
+            ListenerHandle[] handles = null;
+            // The monitor is only acquired once for the entire batch
+            synchronized (handleTable) {
+                if (publisher instanceof IndexedEventPublisher)
+                    resolved = resolveAll(events, subscriptionIndex);
+                else handles = handles();
+            }
+            dispatchAll(events, resolved, handles, publisher, errorHandler);
+        }
+
+        @Override
+        @NonNull Subscription @NonNull [] resolve(@NonNull Event event) {
+            synchronized (handleTable) {
+                return subscriptionIndex.resolve(event);
+            }
+        }
+
+        @Override
+        @NonNull ListenerHandle @NonNull [] handles() {
+            synchronized (handleTable) {
+                ListenerHandle[] handles = handleSnapshot;
+                if (handles == null) {
+                    // Only copied once after every mutation, not per publish
+                    handles = handleTable.values().toArray(EMPTY_HANDLES);
+                    handleSnapshot = handles;
+                }
+                return handles;
+            }
+        }
+    }
+
+    /**
+     * Registry publishing immutable snapshots of its handles and index
+     * through a volatile reference. Reads never block, while every
+     * mutation copies the current snapshot and swaps it atomically.
+     */
+    static final class CopyOnWrite extends HandleRegistry {
+
+        private final @NonNull Object writeLock = new Object();
+
+        private volatile @NonNull Snapshot snapshot;
+
+        CopyOnWrite(@NonNull Function<Class<? extends Event>, Class<?>[]> typeResolver) {
+            this.snapshot = new Snapshot(new HashMap<>(), new SubscriptionIndex(typeResolver));
+        }
+
+        @Override
+        int size() {
+            return snapshot.handleTable.size();
+        }
+
+        @Override
+        boolean contains(@NonNull Listener listener) {
+            return snapshot.handleTable.containsKey(listener);
+        }
+
+        @Override
+        @Nullable ListenerHandle put(@NonNull ListenerHandle handle) {
+            synchronized (writeLock) {
+                Snapshot current = snapshot;
+                Map<Listener, ListenerHandle> table = new HashMap<>(current.handleTable);
+                SubscriptionIndex index = current.subscriptionIndex.copy();
+                ListenerHandle previous = table.put(handle.getOwner(), handle);
+                if (previous != null) index.remove(previous);
+                index.add(handle);
+                snapshot = new Snapshot(table, index);
+                return previous;
+            }
+        }
+
+        @Override
+        @Nullable ListenerHandle remove(@NonNull Listener listener) {
+            synchronized (writeLock) {
+                Snapshot current = snapshot;
+                if (!current.handleTable.containsKey(listener)) return null;
+                Map<Listener, ListenerHandle> table = new HashMap<>(current.handleTable);
+                SubscriptionIndex index = current.subscriptionIndex.copy();
+                ListenerHandle handle = table.remove(listener);
+                index.remove(handle);
+                snapshot = new Snapshot(table, index);
+                return handle;
+            }
+        }
+
+        @Override
+        void publishAll(@NonNull Event @NonNull [] events,
+                        @NonNull EventPublisher publisher,
+                        EventPublisher.@Nullable ErrorHandler errorHandler) {
+            // The entire batch is published to the same snapshot
+            Snapshot current = snapshot;
+            if (publisher instanceof IndexedEventPublisher) {
+                dispatchAll(events, resolveAll(events, current.subscriptionIndex),
+                        null, publisher, errorHandler);
+            } else {
+                dispatchAll(events, null, current.handles, publisher, errorHandler);
+            }
+        }
+
+        @Override
+        @NonNull Subscription @NonNull [] resolve(@NonNull Event event) {
+            return snapshot.subscriptionIndex.resolve(event);
+        }
+
+        @Override
+        @NonNull ListenerHandle @NonNull [] handles() {
+            return snapshot.handles;
+        }
+
+        private static final class Snapshot {
+            // Neither is mutated, once the snapshot has been published
+            final @NonNull Map<@NonNull Listener, @NonNull ListenerHandle> handleTable;
+            final @NonNull SubscriptionIndex subscriptionIndex;
+            final @NonNull ListenerHandle @NonNull [] handles;
+
+            Snapshot(@NonNull Map<Listener, ListenerHandle> handleTable,
+                     @NonNull SubscriptionIndex subscriptionIndex) {
+                this.handleTable = handleTable;
+                this.subscriptionIndex = subscriptionIndex;
+                this.handles = handleTable.values().toArray(EMPTY_HANDLES);
+            }
+        }
+    }
+
+    /**
+     * Registry only referencing listeners weakly, by storing them as
+     * {@code WeakListenerHandle} instances within a synchronized
+     * {@code WeakIdentityTable}. Handles of collected listeners are purged
+     * from the table and index lazily, by polling a {@code ReferenceQueue}
+     * on every operation, instead of scanning all handles.
+     */
+    static final class Weak extends HandleRegistry {
+
+        private final @NonNull ReferenceQueue<Listener> queue = new ReferenceQueue<>();
+
+        private final @NonNull WeakIdentityTable table = new WeakIdentityTable();
+
+        private final @NonNull Synchronized delegate;
+
+        Weak(@NonNull Function<Class<? extends Event>, Class<?>[]> typeResolver) {
+            this.delegate = new Synchronized(table, typeResolver);
+        }
+
+        @Override
+        int size() {
+            expunge();
+            return delegate.size();
+        }
+
+        @Override
+        boolean contains(@NonNull Listener listener) {
+            expunge();
+            return delegate.contains(listener);
+        }
+
+        @Override
+        @Nullable ListenerHandle put(@NonNull ListenerHandle handle) {
+            expunge();
+            Listener owner = handle.findOwner();
+            Preconditions.checkNotNull(owner);
+            // Handles are always recreated, so that they are enqueued to `queue`
+            return delegate.put(new IdentityHandle(owner, handle.getSubscribers(), queue));
+        }
+
+        @Override
+        @Nullable ListenerHandle remove(@NonNull Listener listener) {
+            expunge();
+            return delegate.remove(listener);
+        }
+
+        @Override
+        void publishAll(@NonNull Event @NonNull [] events,
+                        @NonNull EventPublisher publisher,
+                        EventPublisher.@Nullable ErrorHandler errorHandler) {
+            expunge();
+            delegate.publishAll(events, publisher, errorHandler);
+        }
+
+        @Override
+        @NonNull Subscription @NonNull [] resolve(@NonNull Event event) {
+            expunge();
+            return delegate.resolve(event);
+        }
+
+        @Override
+        @NonNull ListenerHandle @NonNull [] handles() {
+            expunge();
+            return delegate.handles();
+        }
+
+        private void expunge() {
+            // Polling an empty queue neither locks nor allocates
+            for (Reference<? extends Listener> ref; (ref = queue.poll()) != null; ) {
+                WeakListenerHandle handle = WeakListenerHandle.of(ref);
+                if (!(handle instanceof IdentityHandle)) continue;
+                synchronized (table) {
+                    // Handles might have been replaced or removed already
+                    if (!table.expunge((IdentityHandle) handle)) continue;
+                    delegate.subscriptionIndex.remove(handle);
+                    delegate.handleSnapshot = null;
+                }
+            }
+        }
+    }
+
+    /** Weak handle retaining the identity hash code of its owner. */
+    private static final class IdentityHandle extends WeakListenerHandle {
+        final int hash;
+
+        IdentityHandle(@NonNull Listener listener,
+                       @NonNull SubscriberCollection<?, ?> subscribers,
+                       @NonNull ReferenceQueue<? super Listener> queue) {
+            super(listener, subscribers, queue);
+            this.hash = System.identityHashCode(listener);
+        }
+    }
+
+    /**
+     * Map of weak handles keyed by their owners, that are compared by
+     * identity, rather than by their possibly arbitrary {@code equals}.
+     * Keys retain the identity hash code of the owner, thus entries of
+     * expired handles remain removable through {@link #expunge}. Entries
+     * of expired handles have a null key until they are expunged.
+     */
+    private static final class WeakIdentityTable extends AbstractMap<Listener, ListenerHandle> {
+
+        private final @NonNull Map<@NonNull Key, @NonNull ListenerHandle> table = new HashMap<>();
+
+        @Override
+        public int size() {
+            return table.size();
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return key instanceof Listener && table.containsKey(new Key((Listener) key));
+        }
+
+        @Override
+        public ListenerHandle get(Object key) {
+            return key instanceof Listener ? table.get(new Key((Listener) key)) : null;
+        }
+
+        @Override
+        public ListenerHandle put(@NonNull Listener key, @NonNull ListenerHandle value) {
+            Preconditions.checkArgument(value instanceof IdentityHandle
+                    && value.findOwner() == key, "Value must be a handle of key");
+            // Replaces the key as well, as keys are bound to their handle
+            ListenerHandle previous = table.remove(new Key(key));
+            table.put(new Key((IdentityHandle) value), value);
+            return previous;
+        }
+
+        @Override
+        public ListenerHandle remove(Object key) {
+            return key instanceof Listener ? table.remove(new Key((Listener) key)) : null;
+        }
+
+        @Override
+        public void clear() {
+            table.clear();
+        }
+
+        @NonNull
+        @Override
+        public Collection<ListenerHandle> values() {
+            return table.values();
+        }
+
+        @NonNull
+        @Override
+        public Set<Entry<Listener, ListenerHandle>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public Iterator<Entry<Listener, ListenerHandle>> iterator() {
+                    Iterator<Entry<Key, ListenerHandle>> it = table.entrySet().iterator();
+                    return new Iterator<>() {
+                        @Override
+                        public boolean hasNext() {
+                            return it.hasNext();
+                        }
+
+                        @Override
+                        public Entry<Listener, ListenerHandle> next() {
+                            Entry<Key, ListenerHandle> e = it.next();
+                            return new SimpleImmutableEntry<>(e.getKey().owner(), e.getValue());
+                        }
+
+                        @Override
+                        public void remove() {
+                            it.remove();
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return table.size();
+                }
+            };
+        }
+
+        /** Removes {@code handle}, returning false if it is not contained. */
+        boolean expunge(@NonNull IdentityHandle handle) {
+            Key key = new Key(handle);
+            if (table.get(key) != handle) return false;
+            table.remove(key);
+            return true;
+        }
+
+        private static final class Key {
+            final int hash;
+            // Either a strongly referenced listener to look up, or the
+            // handle of a contained entry
+            final @Nullable Listener listener;
+            final @Nullable IdentityHandle handle;
+
+            Key(@NonNull Listener listener) {
+                this.hash = System.identityHashCode(listener);
+                this.listener = listener;
+                this.handle = null;
+            }
+
+            Key(@NonNull IdentityHandle handle) {
+                this.hash = handle.hash;
+                this.listener = null;
+                this.handle = handle;
+            }
+
+            @Nullable
+            Listener owner() {
+                return handle != null ? handle.findOwner() : listener;
+            }
+
+            @Override
+            public boolean equals(Object o) {
+                if (this == o) return true;
+                if (!(o instanceof Key)) return false;
+                Key that = (Key) o;
+                if (handle != null && handle == that.handle) return true;
+                Listener owner = owner();
+                return owner != null && owner == that.owner();
+            }
+
+            @Override
+            public int hashCode() {
+                return hash;
+            }
+        }
+    }
+
+}
@@ -41,7 +41,9 @@ public interface ListenerRegister extends Iterable<ListenerHandle> {
     ListenerHandle putHandle(@NonNull ListenerHandle handle);
 
     default boolean hasHandle(@NonNull ListenerHandle handle) {
-        return isRegistered(handle.getOwner());
+        // Handles, whose owner is no longer present, are never registered
+        Listener owner = handle.findOwner();
+        return owner != null && isRegistered(owner);
     }
 
     default boolean isEmpty() {
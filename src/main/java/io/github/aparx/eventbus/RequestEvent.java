@@ -0,0 +1,148 @@
+package io.github.aparx.eventbus;
+
+import com.google.common.base.Preconditions;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.jetbrains.annotations.Contract;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BinaryOperator;
+
+/**
+ * Event representing an in-process query, whose subscribers are able to
+ * {@link #reply(Object)} to it. A request event is published through
+ * {@code EventBus#request}, {@code EventBus#requestAll} or
+ * {@code EventBus#requestReduced}, which return a future of the first
+ * reply, all replies or the reduction of all replies respectively.
+ * <p>Once the future of a request is completed, the default publishers
+ * stop publishing the event, thus skipping every remaining subscriber,
+ * including those receiving cancelled events. Completion is independent
+ * of cancellation, thus a completed request is not cancelled. A request
+ * that accepts the first reply is completed by that reply, while requests
+ * accepting all replies are completed once the event has been published
+ * to every subscriber. The latter can be completed early by cancelling the
+ * event, which skips every remaining subscriber that is not receiving
+ * cancelled events.
+ * <p>A request event can only be requested once, while replies are
+ * accepted from any thread until the request is completed.
+ *
+ * @param <R> the type of replies the subscribers reply with
+ * @author aparx (Vinzent Zeband)
+ * @version 19:44 CET, 18.10.2026
+ * @see EventBus#request(RequestEvent)
+ * @see Cancellable
+ * @since 1.0
+ */
+public abstract class RequestEvent<R> extends Event implements Cancellable {
+
+    private volatile boolean cancelled;
+
+    private volatile @Nullable Responder<R, ?> responder;
+
+    protected RequestEvent() {
+        // Only constructable as a derived subtype, equally to `Event`
+    }
+
+    /**
+     * Replies {@code reply} to this request and returns true if it was
+     * accepted. Replies are rejected, if this event has not been requested
+     * yet or if its request has already been completed.
+     */
+    @CanIgnoreReturnValue
+    public boolean reply(@NonNull R reply) {
+        Preconditions.checkNotNull(reply);
+        Responder<R, ?> responder = this.responder;
+        return responder != null && responder.accept(reply);
+    }
+
+    @Contract(pure = true)
+    public boolean isCompleted() {
+        Responder<R, ?> responder = this.responder;
+        return responder != null && responder.future.isDone();
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    @Override
+    public void setCancelled(boolean cancelled) {
+        this.cancelled = cancelled;
+    }
+
+    synchronized void bind(@NonNull Responder<R, ?> responder) {
+        Preconditions.checkState(this.responder == null, "Event has already been requested");
+        this.responder = responder;
+    }
+
+    /**
+     * Sink of the replies to a request, completing its future either on
+     * the first accepted reply or once the request has been published.
+     */
+    abstract static class Responder<R, T> {
+
+        final CompletableFuture<T> future = new CompletableFuture<>();
+
+        abstract boolean accept(@NonNull R reply);
+
+        // Called once the event has been published to every subscriber
+        abstract void complete();
+
+        static <R> Responder<R, R> first() {
+            return new Responder<>() {
+                @Override
+                boolean accept(@NonNull R reply) {
+                    return future.complete(reply);
+                }
+
+                @Override
+                void complete() {
+                    // Completes with null, as replies are never null
+                    future.complete(null);
+                }
+            };
+        }
+
+        static <R> Responder<R, List<R>> all() {
+            return new Responder<>() {
+                final List<R> replies = new ArrayList<>();
+
+                @Override
+                synchronized boolean accept(@NonNull R reply) {
+                    if (future.isDone()) return false;
+                    return replies.add(reply);
+                }
+
+                @Override
+                synchronized void complete() {
+                    future.complete(Collections.unmodifiableList(replies));
+                }
+            };
+        }
+
+        static <R> Responder<R, R> reduce(@NonNull R identity,
+                                          @NonNull BinaryOperator<R> accumulator) {
+            return new Responder<>() {
+                R result = identity;
+
+                @Override
+                synchronized boolean accept(@NonNull R reply) {
+                    if (future.isDone()) return false;
+                    result = Preconditions.checkNotNull(accumulator.apply(result, reply));
+                    return true;
+                }
+
+                @Override
+                synchronized void complete() {
+                    future.complete(result);
+                }
+            };
+        }
+    }
+
+}
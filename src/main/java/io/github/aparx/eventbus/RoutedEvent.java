@@ -0,0 +1,30 @@
+package io.github.aparx.eventbus;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Interface marking an {@code Event} to expose attributes, that its
+ * subscribers are routed by.
+ * <p>Subscribers declaring a {@code RoutingCondition} are only called for
+ * events whose attribute satisfies that condition. Conditions are indexed
+ * by the bus per attribute, thus an event is only dispatched to the
+ * subscribers whose condition it satisfies, without testing every
+ * condition on publish.
+ *
+ * @author aparx (Vinzent Zeband)
+ * @version 19:50 CET, 18.10.2026
+ * @see io.github.aparx.eventbus.subscriber.RoutingCondition
+ * @since 1.0
+ */
+public interface RoutedEvent {
+
+    /**
+     * Returns the value of the attribute called {@code name}, or null if
+     * this event does not have such attribute. The value must not change
+     * while this event is being published.
+     */
+    @Nullable
+    Object getAttribute(@NonNull String name);
+
+}
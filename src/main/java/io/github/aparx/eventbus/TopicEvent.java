@@ -0,0 +1,26 @@
+package io.github.aparx.eventbus;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Interface marking an {@code Event} to be published on a hierarchical
+ * topic, additionally to its event type.
+ * <p>A topic consists of segments separated by dots, such as
+ * {@code orders.eu.created}. Subscribers of the event type that declare a
+ * topic pattern are only called for events whose topic matches their
+ * pattern, whereas subscribers without a pattern are called for every
+ * topic. Within patterns, {@code *} matches exactly one segment and
+ * {@code #} matches any amount of segments, including none.
+ *
+ * @author aparx (Vinzent Zeband)
+ * @version 19:48 CET, 18.10.2026
+ * @see io.github.aparx.eventbus.audience.TopicTrie
+ * @see io.github.aparx.eventbus.subscriber.member.SubscriberOptions#topic()
+ * @since 1.0
+ */
+public interface TopicEvent {
+
+    @NonNull
+    String getTopic();
+
+}
@@ -4,6 +4,7 @@ import com.google.common.base.Preconditions;
 import io.github.aparx.eventbus.Listener;
 import io.github.aparx.eventbus.subscriber.collection.SubscriberCollection;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
  * Class used to associate a {@code SubscriberCollection} to its respective
@@ -18,6 +19,9 @@ import org.checkerframework.checker.nullness.qual.NonNull;
  * <p>A {@code ListenerHandle} is primarily used to group a listener
  * instance and {@code SubscriberCollection} with additional declaring
  * meaning.
+ * <p>Handles usually reference their owner strongly, whereas a
+ * {@link WeakListenerHandle} does not prevent its owner from being
+ * garbage collected.
  *
  * @author aparx (Vinzent Zeband)
  * @version 16:13 CET, 27.07.2022
@@ -26,7 +30,7 @@ import org.checkerframework.checker.nullness.qual.NonNull;
  */
 public class ListenerHandle {
 
-    @NonNull
+    // Only null for subclasses, that reference the owner differently
     private final Listener listener;
 
     @NonNull
@@ -37,7 +41,29 @@ public class ListenerHandle {
         this.subscribers = Preconditions.checkNotNull(subscribers);
     }
 
+    protected ListenerHandle(@NonNull SubscriberCollection<?, ?> subscribers) {
+        this.listener = null;
+        this.subscribers = Preconditions.checkNotNull(subscribers);
+    }
+
+    /**
+     * Returns the owner of this handle.
+     *
+     * @throws IllegalStateException if the owner is no longer present
+     * @see #findOwner()
+     */
     public final @NonNull Listener getOwner() {
+        Listener owner = findOwner();
+        Preconditions.checkState(owner != null, "Owner is no longer present");
+        return owner;
+    }
+
+    /**
+     * Returns the owner of this handle, or null if the owner is no longer
+     * present. Owners are always present, unless they are referenced
+     * differently by subclasses, such as by a {@link WeakListenerHandle}.
+     */
+    public @Nullable Listener findOwner() {
         return listener;
     }
 
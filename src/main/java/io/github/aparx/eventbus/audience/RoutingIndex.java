@@ -0,0 +1,280 @@
+package io.github.aparx.eventbus.audience;
+
+import io.github.aparx.eventbus.RoutedEvent;
+import io.github.aparx.eventbus.subscriber.RoutingCondition;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.*;
+
+/**
+ * Index of the {@code Subscription} instances declaring a
+ * {@code RoutingCondition}, grouped by the attribute they are routed by.
+ * <p>Per attribute, equality conditions are kept within a hash table
+ * keyed by their value. The bounds of all range conditions split the
+ * values of an attribute into segments, in which every value is covered
+ * by the same ranges. These segments are computed lazily, once by the
+ * first match after any amount of ranges have been added or removed, in
+ * a single sweep over the ranges sorted by priority. Routing an event
+ * thus only looks up the value of each indexed attribute and binary
+ * searches the segment containing it, regardless of how many ranges are
+ * registered.
+ * <p>Every group of subscriptions returned by {@link #match} is ordered by
+ * {@link Subscription#PRIORITY_ORDER}, whereas subscriptions of equal
+ * priority remain in the order they were added.
+ * <p>Mutations of this class are not thread-safe and must be guarded
+ * externally, equally to the {@link SubscriptionIndex} it is used by.
+ *
+ * @author aparx (Vinzent Zeband)
+ * @version 19:50 CET, 18.10.2026
+ * @see RoutingCondition
+ * @see SubscriptionIndex
+ * @since 1.0
+ */
+final class RoutingIndex {
+
+    private static final Attribute[] EMPTY_ATTRIBUTES = new Attribute[0];
+
+    private static final Comparable<?>[] EMPTY_BOUNDS = new Comparable<?>[0];
+
+    private static final Segments NO_SEGMENTS = new Segments(EMPTY_BOUNDS, null);
+
+    @NonNull
+    private final Map<@NonNull String, @NonNull Attribute> attributes;
+
+    // Values of `attributes`, iterated on every match without an iterator
+    private @NonNull Attribute @NonNull [] attributeArray;
+
+    private int size;
+
+    RoutingIndex() {
+        this.attributes = new HashMap<>();
+        this.attributeArray = EMPTY_ATTRIBUTES;
+    }
+
+    private RoutingIndex(@NonNull RoutingIndex index) {
+        this.attributes = new HashMap<>(index.attributes.size());
+        for (Map.Entry<String, Attribute> e : index.attributes.entrySet())
+            attributes.put(e.getKey(), e.getValue().copy());
+        this.attributeArray = attributes.values().toArray(EMPTY_ATTRIBUTES);
+        this.size = index.size;
+    }
+
+    @NonNull
+    RoutingIndex copy() {
+        return new RoutingIndex(this);
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Checks that the bounds of {@code condition} are comparable to each
+     * other and to the bounds of every range on the same attribute.
+     *
+     * @throws IllegalArgumentException if any bounds are not comparable
+     */
+    void check(@NonNull RoutingCondition condition) {
+        if (!condition.isRange()) return;
+        Attribute attribute = attributes.get(condition.getAttribute());
+        Comparable<?> other = attribute != null ? attribute.anyBound() : null;
+        try {
+            if (condition.getLow() != null && condition.getHigh() != null)
+                compare(condition.getLow(), condition.getHigh());
+            // Existing bounds are mutually comparable, thus one suffices
+            if (other == null) return;
+            if (condition.getLow() != null) compare(condition.getLow(), other);
+            if (condition.getHigh() != null) compare(condition.getHigh(), other);
+        } catch (ClassCastException e) {
+            throw new IllegalArgumentException("Bounds of " + condition
+                    + " are not comparable to the ranges of its attribute", e);
+        }
+    }
+
+    void add(@NonNull Subscription subscription) {
+        RoutingCondition condition = subscription.getSubscriber().getCondition();
+        check(condition);
+        Attribute attribute = attributes.get(condition.getAttribute());
+        if (attribute == null) {
+            attribute = new Attribute(condition.getAttribute());
+            attributes.put(condition.getAttribute(), attribute);
+            attributeArray = attributes.values().toArray(EMPTY_ATTRIBUTES);
+        }
+        if (condition.isRange()) {
+            attribute.ranges.add(subscription);
+            attribute.segments = null;
+        } else {
+            SubscriptionIndex.insert(attribute.values.computeIfAbsent(
+                    condition.getValue(), k -> new ArrayList<>(1)), subscription);
+        }
+        ++size;
+    }
+
+    /** Removes every subscription of {@code condition} scoped to {@code scope}. */
+    void remove(@NonNull RoutingCondition condition, @NonNull ListenerHandle scope) {
+        Attribute attribute = attributes.get(condition.getAttribute());
+        if (attribute == null) return;
+        if (condition.isRange()) {
+            int removed = removeScope(attribute.ranges, scope);
+            if (removed != 0) attribute.segments = null;
+            size -= removed;
+        } else {
+            List<Subscription> group = attribute.values.get(condition.getValue());
+            if (group == null) return;
+            size -= removeScope(group, scope);
+            if (group.isEmpty()) attribute.values.remove(condition.getValue());
+        }
+        if (attribute.values.isEmpty() && attribute.ranges.isEmpty()) {
+            attributes.remove(condition.getAttribute());
+            attributeArray = attributes.values().toArray(EMPTY_ATTRIBUTES);
+        }
+    }
+
+    void clear() {
+        attributes.clear();
+        attributeArray = EMPTY_ATTRIBUTES;
+        size = 0;
+    }
+
+    /**
+     * Adds the groups of subscriptions whose condition {@code event}
+     * satisfies to {@code runs}. The groups are shared and must not be
+     * mutated. Values that are not comparable to the bounds of the ranges
+     * on their attribute do not match any of these ranges.
+     */
+    void match(@NonNull RoutedEvent event, @NonNull List<List<Subscription>> runs) {
+        if (size == 0) return;
+        for (Attribute attribute : attributeArray) {
+            Object value = event.getAttribute(attribute.name);
+            if (value == null) continue;
+            List<Subscription> group = attribute.values.get(value);
+            if (group != null) runs.add(group);
+            List<Subscription> segment = attribute.segmentOf(value);
+            if (segment != null) runs.add(segment);
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static int compare(@NonNull Comparable bound, @NonNull Object value) {
+        return bound.compareTo(value);
+    }
+
+    private static int removeScope(@NonNull List<Subscription> group,
+                                   @NonNull ListenerHandle scope) {
+        int size = group.size();
+        group.removeIf(x -> x.getScope() == scope);
+        return size - group.size();
+    }
+
+    private static final class Attribute {
+        final @NonNull String name;
+
+        final @NonNull Map<Object, List<Subscription>> values = new HashMap<>();
+
+        // Every range subscription, in the order they were added
+        final @NonNull List<Subscription> ranges = new ArrayList<>();
+
+        // Segments of `ranges`, or null if they have to be computed again
+        volatile @Nullable Segments segments = NO_SEGMENTS;
+
+        Attribute(@NonNull String name) {
+            this.name = name;
+        }
+
+        /** Returns the first bound of any range, or null if there is none. */
+        @Nullable
+        Comparable<?> anyBound() {
+            for (Subscription s : ranges) {
+                RoutingCondition condition = s.getSubscriber().getCondition();
+                if (condition.getLow() != null) return condition.getLow();
+                if (condition.getHigh() != null) return condition.getHigh();
+            }
+            return null;
+        }
+
+        @Nullable
+        List<Subscription> segmentOf(@NonNull Object value) {
+            Segments segments = this.segments;
+            // Concurrent readers of an unmutated index may compute equal
+            // segments at once, of which any one is published
+            if (segments == null) this.segments = segments = segment();
+            if (segments.segments == null) return null;
+            Comparable<?>[] bounds = segments.bounds;
+            int low = 0, high = bounds.length;
+            try {
+                // Binary search for the amount of bounds lower or equal to `value`
+                while (low < high) {
+                    int mid = (low + high) >>> 1;
+                    if (compare(bounds[mid], value) <= 0) low = mid + 1;
+                    else high = mid;
+                }
+            } catch (ClassCastException e) {
+                return null;
+            }
+            return segments.segments[low];
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private @NonNull Segments segment() {
+            if (ranges.isEmpty()) return NO_SEGMENTS;
+            TreeSet<Comparable> sorted = new TreeSet<>();
+            for (Subscription s : ranges) {
+                RoutingCondition condition = s.getSubscriber().getCondition();
+                if (condition.getLow() != null) sorted.add(condition.getLow());
+                if (condition.getHigh() != null) sorted.add(condition.getHigh());
+            }
+            Comparable<?>[] bounds = sorted.toArray(EMPTY_BOUNDS);
+            List<Subscription>[] segments = new List[bounds.length + 1];
+            // Appends each range to the segments it covers in priority
+            // order, thus every segment is a sorted run without insertion
+            List<Subscription> ordered = new ArrayList<>(ranges);
+            ordered.sort(Subscription.PRIORITY_ORDER);
+            for (Subscription s : ordered) {
+                RoutingCondition condition = s.getSubscriber().getCondition();
+                // Range `[bounds[a], bounds[b])` covers segments `a + 1` to `b`
+                int from = condition.getLow() != null
+                        ? Arrays.binarySearch(bounds, condition.getLow()) + 1 : 0;
+                int to = condition.getHigh() != null
+                        ? Arrays.binarySearch(bounds, condition.getHigh()) : bounds.length;
+                for (int i = from; i <= to; ++i) {
+                    if (segments[i] == null) segments[i] = new ArrayList<>();
+                    segments[i].add(s);
+                }
+            }
+            return new Segments(bounds, segments);
+        }
+
+        @NonNull
+        Attribute copy() {
+            Attribute copy = new Attribute(name);
+            for (Map.Entry<Object, List<Subscription>> e : values.entrySet())
+                copy.values.put(e.getKey(), new ArrayList<>(e.getValue()));
+            copy.ranges.addAll(ranges);
+            copy.segments = segments;
+            return copy;
+        }
+    }
+
+    /**
+     * Distinct sorted bounds and the ranges covering each segment in
+     * between, whereas {@code segments[i]} covers
+     * {@code bounds[i - 1] <= v < bounds[i]}. Never mutated once computed,
+     * thus shareable by copies.
+     */
+    private static final class Segments {
+        final @NonNull Comparable<?> @NonNull [] bounds;
+        final @Nullable List<Subscription> @Nullable [] segments;
+
+        Segments(@NonNull Comparable<?> @NonNull [] bounds,
+                 @Nullable List<Subscription> @Nullable [] segments) {
+            this.bounds = bounds;
+            this.segments = segments;
+        }
+    }
+
+}
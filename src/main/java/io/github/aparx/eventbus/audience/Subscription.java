@@ -0,0 +1,55 @@
+package io.github.aparx.eventbus.audience;
+
+import com.google.common.base.Preconditions;
+import io.github.aparx.eventbus.subscriber.EventSubscriber;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.Comparator;
+
+/**
+ * Class used to associate a single {@code EventSubscriber} to the
+ * {@code ListenerHandle} it is dispatched within.
+ * <p>A {@code Subscription} is the flat unit of dispatch kept by a
+ * {@link SubscriptionIndex}. It allows publishers to iterate over all
+ * subscribers of an event type across every registered listener, without
+ * having to look up the matching group of each individual handle.
+ *
+ * @author aparx (Vinzent Zeband)
+ * @version 19:12 CET, 18.10.2026
+ * @see ListenerHandle
+ * @see SubscriptionIndex
+ * @since 1.0
+ */
+public final class Subscription {
+
+    /**
+     * Comparator ordering subscriptions by the priority of their
+     * subscriber, whereas higher priorities are ordered first.
+     */
+    public static final Comparator<Subscription> PRIORITY_ORDER
+            = (a, b) -> a.subscriber.compareTo(b.subscriber);
+
+    @NonNull
+    private final ListenerHandle scope;
+
+    @NonNull
+    private final EventSubscriber<?> subscriber;
+
+    public Subscription(@NonNull ListenerHandle scope, @NonNull EventSubscriber<?> subscriber) {
+        this.scope = Preconditions.checkNotNull(scope);
+        this.subscriber = Preconditions.checkNotNull(subscriber);
+    }
+
+    public @NonNull ListenerHandle getScope() {
+        return scope;
+    }
+
+    public @NonNull EventSubscriber<?> getSubscriber() {
+        return subscriber;
+    }
+
+    @Override
+    public String toString() {
+        return "Subscription{" + scope.findOwner() + " -> " + subscriber + "}";
+    }
+}
@@ -0,0 +1,383 @@
+package io.github.aparx.eventbus.audience;
+
+import com.google.common.base.Preconditions;
+import io.github.aparx.eventbus.Event;
+import io.github.aparx.eventbus.RoutedEvent;
+import io.github.aparx.eventbus.TopicEvent;
+import io.github.aparx.eventbus.subscriber.EventSubscriber;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.jetbrains.annotations.Contract;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Index mapping event types to the flat {@code Subscription} instances of
+ * every {@code ListenerHandle} added to it.
+ * <p>The index is maintained incrementally, meaning that adding or
+ * removing a handle only touches the groups of the event types the handle
+ * actually subscribes to. Resolving the subscriptions of a concrete event
+ * type merges all groups of the types returned by the type resolver into
+ * a single array, which is cached until any of these groups is mutated
+ * again. Thus, the cost of a lookup only scales with the amount of
+ * matching subscriptions, rather than the amount of registered handles.
+ * <p>Every group is kept sorted by {@link Subscription#PRIORITY_ORDER}
+ * through binary insertion, whereas subscriptions of equal priority
+ * remain in the order they were added. Resolved arrays are ordered by
+ * priority across all groups, and subscriptions of equal priority are
+ * ordered by the position of their event type within the resolved types.
+ * As every group, topic pattern and routing segment is a sorted run,
+ * resolving merges these runs in a single pass rather than sorting them,
+ * and publishers never have to sort subscriptions.
+ * <p>Subscribers declaring a topic pattern are not part of any group,
+ * but are kept within a {@link TopicTrie} instead. They are only resolved
+ * for events published on a matching topic, whereas they are ordered
+ * after the subscriptions of the event type of equal priority.
+ * Subscribers declaring a {@code RoutingCondition} are equally kept
+ * within a {@link RoutingIndex} and only resolved for events satisfying
+ * their condition, by {@link #resolve(Event)}.
+ * <p>The index reflects the subscribers of a handle at the time it was
+ * added. Subscribers added to or removed from the collection of a handle
+ * afterwards are only reflected once the handle is added again.
+ * <p>Mutations of this class are not thread-safe and must be guarded
+ * externally. Resolving subscriptions is safe for any amount of
+ * concurrent readers, as long as the index is not mutated concurrently.
+ * Copy-on-write registries are thus able to share an index amongst
+ * publishing threads, by mutating a {@link #copy()} of it instead.
+ *
+ * @author aparx (Vinzent Zeband)
+ * @version 19:12 CET, 18.10.2026
+ * @see Subscription
+ * @see ListenerHandle
+ * @since 1.0
+ */
+public class SubscriptionIndex {
+
+    private static final Subscription[] EMPTY_ARRAY = new Subscription[0];
+
+    @NonNull
+    private final Function<Class<? extends Event>, Class<?>[]> typeResolver;
+
+    @NonNull
+    private final Map<@NonNull Class<?>, @NonNull List<Subscription>> groups;
+
+    @NonNull
+    private final Map<@NonNull Class<?>, @NonNull Resolved> resolved;
+
+    @NonNull
+    private final TopicTrie topics;
+
+    @NonNull
+    private final RoutingIndex routes;
+
+    public SubscriptionIndex(
+            @NonNull Function<Class<? extends Event>, Class<?>[]> typeResolver) {
+        this.typeResolver = Preconditions.checkNotNull(typeResolver);
+        this.groups = new HashMap<>();
+        this.resolved = new ConcurrentHashMap<>();
+        this.topics = new TopicTrie();
+        this.routes = new RoutingIndex();
+    }
+
+    protected SubscriptionIndex(@NonNull SubscriptionIndex index) {
+        this.typeResolver = index.typeResolver;
+        this.groups = new HashMap<>();
+        this.resolved = new ConcurrentHashMap<>();
+        this.topics = index.topics.copy();
+        this.routes = index.routes.copy();
+        for (Map.Entry<Class<?>, List<Subscription>> e : index.groups.entrySet())
+            groups.put(e.getKey(), new ArrayList<>(e.getValue()));
+        // Resolutions are immutable and can thus be shared with the copy
+        resolved.putAll(index.resolved);
+    }
+
+    @Contract(pure = true)
+    public final @NonNull Function<Class<? extends Event>, Class<?>[]> getTypeResolver() {
+        return typeResolver;
+    }
+
+    /**
+     * Returns a deep copy of this index, that can be mutated without
+     * affecting any readers of this index.
+     */
+    @NonNull
+    @Contract(pure = true)
+    public SubscriptionIndex copy() {
+        return new SubscriptionIndex(this);
+    }
+
+    /**
+     * Checks that {@code handle} can be added to this index, without
+     * mutating it.
+     *
+     * @throws IllegalArgumentException if the bounds of any range condition
+     *                                  are not comparable to the bounds of
+     *                                  the ranges on the same attribute
+     */
+    public void check(@NonNull ListenerHandle handle) {
+        for (EventSubscriber<?> s : handle.getSubscribers()) {
+            if (s.getCondition() != null) routes.check(s.getCondition());
+        }
+    }
+
+    public void add(@NonNull ListenerHandle handle) {
+        Preconditions.checkNotNull(handle);
+        // Rejects incomparable range bounds before mutating any group
+        check(handle);
+        Set<Class<?>> touched = new HashSet<>();
+        for (EventSubscriber<?> s : handle.getSubscribers()) {
+            if (s.getCondition() != null) {
+                routes.add(new Subscription(handle, s));
+                continue;
+            }
+            if (s.getTopic() != null) {
+                topics.add(s.getTopic(), new Subscription(handle, s));
+                continue;
+            }
+            Class<?> type = s.getEventType();
+            insert(groups.computeIfAbsent(type, k -> new ArrayList<>()),
+                    new Subscription(handle, s));
+            touched.add(type);
+        }
+        invalidate(touched);
+    }
+
+    public void remove(@NonNull ListenerHandle handle) {
+        Preconditions.checkNotNull(handle);
+        Set<Class<?>> touched = new HashSet<>();
+        for (EventSubscriber<?> s : handle.getSubscribers()) {
+            if (s.getCondition() != null) {
+                routes.remove(s.getCondition(), handle);
+                continue;
+            }
+            if (s.getTopic() != null) {
+                topics.remove(s.getTopic(), handle);
+                continue;
+            }
+            Class<?> type = s.getEventType();
+            if (touched.contains(type)) continue;
+            List<Subscription> group = groups.get(type);
+            if (group == null) continue;
+            // Removes every subscription scoped to `handle` at once
+            group.removeIf(x -> x.getScope() == handle);
+            if (group.isEmpty()) groups.remove(type);
+            touched.add(type);
+        }
+        invalidate(touched);
+    }
+
+    public void clear() {
+        groups.clear();
+        resolved.clear();
+        topics.clear();
+        routes.clear();
+    }
+
+    /**
+     * Returns the flat, ordered subscriptions an event of given type is
+     * dispatched to. The returned array is shared and must not be mutated.
+     */
+    @NonNull
+    public Subscription @NonNull [] resolve(@NonNull Class<? extends Event> eventType) {
+        return resolved(eventType).subscriptions;
+    }
+
+    /**
+     * Returns the flat, ordered subscriptions an event of given type,
+     * published on {@code topic}, is dispatched to. If no topic pattern
+     * matches {@code topic}, the shared array of {@link #resolve(Class)}
+     * is returned, otherwise a new array is allocated.
+     */
+    @NonNull
+    public Subscription @NonNull [] resolve(@NonNull Class<? extends Event> eventType,
+                                            @Nullable String topic) {
+        Resolved r = resolved(eventType);
+        if (topic == null || topics.isEmpty()) return r.subscriptions;
+        List<List<Subscription>> runs = new ArrayList<>();
+        runs.add(Arrays.asList(r.subscriptions));
+        topics.matchRuns(topic, runs);
+        return merge(r, runs);
+    }
+
+    /**
+     * Returns the flat, ordered subscriptions {@code event} is dispatched
+     * to, regarding its topic if it is a {@code TopicEvent} and its
+     * attributes if it is a {@code RoutedEvent}. If neither any topic
+     * pattern nor any routing condition matches {@code event}, the shared
+     * array of {@link #resolve(Class)} is returned.
+     */
+    @NonNull
+    public Subscription @NonNull [] resolve(@NonNull Event event) {
+        Class<? extends Event> eventType = event.getClass();
+        String topic = event instanceof TopicEvent ? ((TopicEvent) event).getTopic() : null;
+        if (!(event instanceof RoutedEvent) || routes.isEmpty())
+            return resolve(eventType, topic);
+        Resolved r = resolved(eventType);
+        List<List<Subscription>> runs = new ArrayList<>();
+        runs.add(Arrays.asList(r.subscriptions));
+        if (topic != null && !topics.isEmpty()) topics.matchRuns(topic, runs);
+        int firstRouted = runs.size();
+        routes.match((RoutedEvent) event, runs);
+        for (int i = firstRouted; i < runs.size(); ++i) {
+            // Routed subscribers might additionally declare a topic pattern,
+            // thus the rare runs containing them are filtered into a copy
+            List<Subscription> run = runs.get(i);
+            for (Subscription s : run) {
+                if (s.getSubscriber().getTopic() == null) continue;
+                List<Subscription> copy = new ArrayList<>(run.size());
+                for (Subscription x : run) {
+                    if (x.getSubscriber().isMatchingTopic(event)) copy.add(x);
+                }
+                runs.set(i, copy);
+                break;
+            }
+        }
+        return merge(r, runs);
+    }
+
+    @NonNull
+    private Subscription @NonNull [] merge(@NonNull Resolved resolved,
+                                           @NonNull List<List<Subscription>> runs) {
+        Subscription[] subscriptions = resolved.subscriptions;
+        if (runs.size() == 1) return subscriptions;
+        // Only keeps matches whose event type is resolved for the event type
+        Class<?>[] types = resolved.types;
+        Subscription[] array = merge(runs, 1, m -> {
+            Class<?> type = m.getSubscriber().getEventType();
+            for (Class<?> t : types) {
+                if (t == type) return true;
+            }
+            return false;
+        });
+        return array.length != subscriptions.length ? array : subscriptions;
+    }
+
+    /**
+     * Merges the {@code runs}, each sorted by {@link Subscription#PRIORITY_ORDER},
+     * into a single sorted array, whereas subscriptions of equal priority
+     * are ordered by the index of their run. Subscriptions of the runs from
+     * index {@code filtered} onwards are only kept if accepted by
+     * {@code filter}.
+     */
+    @NonNull
+    static Subscription @NonNull [] merge(@NonNull List<? extends List<Subscription>> runs,
+                                          int filtered,
+                                          @NonNull Predicate<Subscription> filter) {
+        int k = runs.size(), total = 0, n = 0;
+        // Binary min-heap of run indices, ordered by the head of each run
+        int[] heap = new int[k];
+        int[] cursor = new int[k];
+        for (int i = 0; i < k; ++i) {
+            int size = runs.get(i).size();
+            if (size == 0) continue;
+            total += size;
+            heap[n++] = i;
+        }
+        if (total == 0) return EMPTY_ARRAY;
+        for (int i = (n >>> 1) - 1; i >= 0; --i)
+            siftDown(runs, heap, cursor, n, i);
+        Subscription[] array = new Subscription[total];
+        int size = 0;
+        while (n != 0) {
+            int run = heap[0];
+            List<Subscription> list = runs.get(run);
+            Subscription s = list.get(cursor[run]++);
+            if (run < filtered || filter.test(s)) array[size++] = s;
+            if (cursor[run] == list.size()) heap[0] = heap[--n];
+            siftDown(runs, heap, cursor, n, 0);
+        }
+        return size != total ? Arrays.copyOf(array, size) : array;
+    }
+
+    private static void siftDown(List<? extends List<Subscription>> runs,
+                                 int[] heap, int[] cursor, int n, int i) {
+        for (int child; (child = 2 * i + 1) < n; i = child) {
+            if (child + 1 < n && isBefore(runs, cursor, heap[child + 1], heap[child]))
+                ++child;
+            if (!isBefore(runs, cursor, heap[child], heap[i])) return;
+            int swap = heap[i];
+            heap[i] = heap[child];
+            heap[child] = swap;
+        }
+    }
+
+    private static boolean isBefore(List<? extends List<Subscription>> runs,
+                                    int[] cursor, int a, int b) {
+        int c = Subscription.PRIORITY_ORDER.compare(
+                runs.get(a).get(cursor[a]), runs.get(b).get(cursor[b]));
+        // Ties are broken by the run index, which keeps the merge stable
+        return c != 0 ? c < 0 : a < b;
+    }
+
+    @Contract(pure = true)
+    public int size() {
+        int size = 0;
+        for (List<Subscription> group : groups.values())
+            size += group.size();
+        return size + topics.size() + routes.size();
+    }
+
+    @NonNull
+    private Resolved resolved(@NonNull Class<? extends Event> eventType) {
+        Resolved r = resolved.get(eventType);
+        if (r == null) {
+            // Concurrent readers might compute an equal resolution
+            r = compute(eventType);
+            Resolved prev = resolved.putIfAbsent(eventType, r);
+            if (prev != null) r = prev;
+        }
+        return r;
+    }
+
+    @NonNull
+    private Resolved compute(@NonNull Class<? extends Event> eventType) {
+        Class<?>[] types = Preconditions.checkNotNull(typeResolver.apply(eventType));
+        List<List<Subscription>> runs = new ArrayList<>(types.length);
+        for (Class<?> type : types) {
+            List<Subscription> group = groups.get(type);
+            if (group != null) runs.add(group);
+        }
+        // Groups are sorted runs, merged in the order of their event type
+        return new Resolved(types, merge(runs, runs.size(), s -> true));
+    }
+
+    static void insert(@NonNull List<Subscription> group,
+                               @NonNull Subscription subscription) {
+        // Binary search for the first subscription ordered after the new
+        // one, so that equal priorities keep their insertion order
+        int low = 0, high = group.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (Subscription.PRIORITY_ORDER.compare(group.get(mid), subscription) <= 0)
+                low = mid + 1;
+            else high = mid;
+        }
+        group.add(low, subscription);
+    }
+
+    private void invalidate(@NonNull Set<Class<?>> touched) {
+        if (touched.isEmpty() || resolved.isEmpty()) return;
+        // Only drops cached resolutions that contain any mutated group
+        resolved.values().removeIf(r -> {
+            for (Class<?> type : r.types) {
+                if (touched.contains(type))
+                    return true;
+            }
+            return false;
+        });
+    }
+
+    private static final class Resolved {
+        final @NonNull Class<?> @NonNull [] types;
+        final @NonNull Subscription @NonNull [] subscriptions;
+
+        Resolved(Class<?>[] types, Subscription[] subscriptions) {
+            this.types = types;
+            this.subscriptions = subscriptions;
+        }
+    }
+
+}
@@ -0,0 +1,275 @@
+package io.github.aparx.eventbus.audience;
+
+import com.google.common.base.Preconditions;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.jetbrains.annotations.Contract;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Trie mapping topic patterns to the {@code Subscription} instances
+ * subscribed to them, whereas every node represents a single segment of a
+ * pattern.
+ * <p>Matching a topic walks the trie segment by segment, thus its cost is
+ * proportional to the depth of the topic and the amount of wildcards on
+ * its path, rather than to the amount of subscriptions. A {@code *}
+ * segment matches exactly one segment of a topic, while a {@code #}
+ * segment matches any amount of segments, including none.
+ * <p>The subscriptions of every pattern are kept sorted by
+ * {@link Subscription#PRIORITY_ORDER}, whereas subscriptions of equal
+ * priority remain in the order they were added.
+ * <p>Mutations of this class are not thread-safe and must be guarded
+ * externally, equally to the {@link SubscriptionIndex} it is used by.
+ *
+ * @author aparx (Vinzent Zeband)
+ * @version 19:48 CET, 18.10.2026
+ * @see io.github.aparx.eventbus.TopicEvent
+ * @see SubscriptionIndex
+ * @since 1.0
+ */
+public final class TopicTrie {
+
+    public static final char SEPARATOR = '.';
+
+    public static final String WILDCARD_ONE = "*";
+
+    public static final String WILDCARD_ANY = "#";
+
+    @NonNull
+    private final Node root;
+
+    private int size;
+
+    public TopicTrie() {
+        this.root = new Node();
+    }
+
+    private TopicTrie(@NonNull TopicTrie trie) {
+        this.root = trie.root.copy();
+        this.size = trie.size;
+    }
+
+    @NonNull
+    @Contract(pure = true)
+    public TopicTrie copy() {
+        return new TopicTrie(this);
+    }
+
+    @Contract(pure = true)
+    public int size() {
+        return size;
+    }
+
+    @Contract(pure = true)
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void add(@NonNull String pattern, @NonNull Subscription subscription) {
+        Preconditions.checkNotNull(subscription);
+        Node node = root;
+        for (String segment : split(pattern))
+            node = node.child(segment, true);
+        if (node.subscriptions == null)
+            node.subscriptions = new ArrayList<>(1);
+        SubscriptionIndex.insert(node.subscriptions, subscription);
+        ++size;
+    }
+
+    /** Removes every subscription of {@code pattern} scoped to {@code scope}. */
+    public void remove(@NonNull String pattern, @NonNull ListenerHandle scope) {
+        Preconditions.checkNotNull(scope);
+        remove(root, split(pattern), 0, scope);
+    }
+
+    public void clear() {
+        root.clear();
+        size = 0;
+    }
+
+    /**
+     * Adds every subscription whose pattern matches {@code topic} to
+     * {@code out}, whereas subscriptions are added at most once.
+     */
+    public void match(@NonNull String topic, @NonNull List<Subscription> out) {
+        Preconditions.checkNotNull(out);
+        if (size == 0) return;
+        List<Node> matched = new ArrayList<>();
+        match(root, split(topic), 0, matched);
+        for (Node node : matched)
+            out.addAll(node.subscriptions);
+    }
+
+    /**
+     * Adds the sorted subscriptions of every pattern matching {@code topic}
+     * to {@code runs}. The added lists are shared and must not be mutated.
+     */
+    void matchRuns(@NonNull String topic, @NonNull List<List<Subscription>> runs) {
+        if (size == 0) return;
+        List<Node> matched = new ArrayList<>();
+        match(root, split(topic), 0, matched);
+        for (Node node : matched)
+            runs.add(node.subscriptions);
+    }
+
+    /**
+     * Returns true if {@code topic} matches {@code pattern}, without the
+     * need of a trie. This is used to match single subscribers.
+     */
+    @Contract(pure = true)
+    public static boolean matches(@NonNull String pattern, @NonNull String topic) {
+        return matches(split(pattern), 0, split(topic), 0);
+    }
+
+    /**
+     * Returns {@code pattern} if it is a valid topic pattern, consisting
+     * of non-empty segments, whereas wildcards are whole segments.
+     *
+     * @throws IllegalArgumentException if {@code pattern} is invalid
+     */
+    @NonNull
+    public static String checkPattern(@NonNull String pattern) {
+        for (String segment : split(pattern)) {
+            Preconditions.checkArgument(segment.length() == 1
+                            || (segment.indexOf('*') < 0 && segment.indexOf('#') < 0),
+                    "Wildcards must be entire segments");
+        }
+        return pattern;
+    }
+
+    @NonNull
+    private static String @NonNull [] split(@NonNull String topic) {
+        Preconditions.checkNotNull(topic);
+        int count = 1;
+        for (int i = 0; i < topic.length(); ++i) {
+            if (topic.charAt(i) == SEPARATOR) ++count;
+        }
+        String[] segments = new String[count];
+        int start = 0;
+        for (int i = 0; i < count; ++i) {
+            int end = topic.indexOf(SEPARATOR, start);
+            if (end < 0) end = topic.length();
+            Preconditions.checkArgument(end > start, "Empty topic segment");
+            segments[i] = topic.substring(start, end);
+            start = end + 1;
+        }
+        return segments;
+    }
+
+    private static boolean matches(String[] pattern, int p, String[] topic, int t) {
+        if (p == pattern.length) return t == topic.length;
+        String segment = pattern[p];
+        if (segment.equals(WILDCARD_ANY)) {
+            // Tries to consume any amount of segments, including none
+            for (int i = t; i <= topic.length; ++i) {
+                if (matches(pattern, p + 1, topic, i))
+                    return true;
+            }
+            return false;
+        }
+        if (t == topic.length) return false;
+        return (segment.equals(WILDCARD_ONE) || segment.equals(topic[t]))
+                && matches(pattern, p + 1, topic, t + 1);
+    }
+
+    private static void match(Node node, String[] topic, int t, List<Node> matched) {
+        if (node.any != null) {
+            for (int i = t; i <= topic.length; ++i)
+                match(node.any, topic, i, matched);
+        }
+        if (t == topic.length) {
+            // Multiple `#` segments might reach the same node more than once
+            if (node.subscriptions != null && !containsNode(matched, node))
+                matched.add(node);
+            return;
+        }
+        Node child = node.child(topic[t], false);
+        if (child != null) match(child, topic, t + 1, matched);
+        if (node.one != null) match(node.one, topic, t + 1, matched);
+    }
+
+    private static boolean containsNode(List<Node> nodes, Node node) {
+        for (int i = 0, n = nodes.size(); i < n; ++i) {
+            if (nodes.get(i) == node) return true;
+        }
+        return false;
+    }
+
+    private boolean remove(Node node, String[] pattern, int p, ListenerHandle scope) {
+        // Returns true if `node` is empty and can thus be pruned
+        if (p == pattern.length) {
+            if (node.subscriptions != null) {
+                int n = node.subscriptions.size();
+                node.subscriptions.removeIf(x -> x.getScope() == scope);
+                size -= n - node.subscriptions.size();
+                if (node.subscriptions.isEmpty()) node.subscriptions = null;
+            }
+            return node.isEmpty();
+        }
+        Node child = node.child(pattern[p], false);
+        if (child != null && remove(child, pattern, p + 1, scope))
+            node.prune(pattern[p]);
+        return node.isEmpty();
+    }
+
+    private static final class Node {
+        @Nullable Map<String, Node> children;
+        @Nullable Node one;
+        @Nullable Node any;
+        @Nullable List<Subscription> subscriptions;
+
+        @Nullable
+        Node child(@NonNull String segment, boolean create) {
+            if (segment.equals(WILDCARD_ONE)) {
+                if (one == null && create) one = new Node();
+                return one;
+            }
+            if (segment.equals(WILDCARD_ANY)) {
+                if (any == null && create) any = new Node();
+                return any;
+            }
+            if (!create) return children != null ? children.get(segment) : null;
+            if (children == null) children = new HashMap<>(4);
+            return children.computeIfAbsent(segment, k -> new Node());
+        }
+
+        void prune(@NonNull String segment) {
+            if (segment.equals(WILDCARD_ONE)) one = null;
+            else if (segment.equals(WILDCARD_ANY)) any = null;
+            else if (children != null) {
+                children.remove(segment);
+                if (children.isEmpty()) children = null;
+            }
+        }
+
+        boolean isEmpty() {
+            return subscriptions == null && children == null && one == null && any == null;
+        }
+
+        void clear() {
+            children = null;
+            one = null;
+            any = null;
+            subscriptions = null;
+        }
+
+        @NonNull
+        Node copy() {
+            Node copy = new Node();
+            if (children != null) {
+                copy.children = new HashMap<>(children.size());
+                for (Map.Entry<String, Node> e : children.entrySet())
+                    copy.children.put(e.getKey(), e.getValue().copy());
+            }
+            if (one != null) copy.one = one.copy();
+            if (any != null) copy.any = any.copy();
+            if (subscriptions != null) copy.subscriptions = new ArrayList<>(subscriptions);
+            return copy;
+        }
+    }
+
+}
@@ -0,0 +1,89 @@
+package io.github.aparx.eventbus.audience;
+
+import com.google.common.base.Preconditions;
+import io.github.aparx.eventbus.Listener;
+import io.github.aparx.eventbus.subscriber.collection.SubscriberCollection;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+
+/**
+ * {@code ListenerHandle} only referencing its owner weakly, thus the
+ * handle does not prevent its owner from being garbage collected.
+ * <p>Once the owner has been collected, {@link #findOwner()} returns null
+ * and the handle is expired, whereas {@link #getOwner()} throws. If a
+ * {@code ReferenceQueue} is given, the reference to the owner is enqueued
+ * to it once the owner is collected, whereas {@link #of(Reference)}
+ * returns the handle of such reference.
+ * This allows registries to remove expired handles, without having to
+ * scan all of their handles.
+ *
+ * @author aparx (Vinzent Zeband)
+ * @version 19:38 CET, 18.10.2026
+ * @see ListenerHandle
+ * @since 1.0
+ */
+public class WeakListenerHandle extends ListenerHandle {
+
+    @NonNull
+    private final OwnerReference reference;
+
+    public WeakListenerHandle(@NonNull Listener listener,
+                              @NonNull SubscriberCollection<?, ?> subscribers) {
+        this(listener, subscribers, null);
+    }
+
+    public WeakListenerHandle(@NonNull Listener listener,
+                              @NonNull SubscriberCollection<?, ?> subscribers,
+                              @Nullable ReferenceQueue<? super Listener> queue) {
+        super(subscribers);
+        Preconditions.checkNotNull(listener);
+        this.reference = new OwnerReference(listener, queue, this);
+    }
+
+    /**
+     * Returns the handle, whose owner is referenced by {@code reference},
+     * or null if {@code reference} does not originate from a weak handle.
+     */
+    @Nullable
+    public static WeakListenerHandle of(@Nullable Reference<?> reference) {
+        return reference instanceof OwnerReference ? ((OwnerReference) reference).handle : null;
+    }
+
+    /**
+     * Returns the owner of this handle, or null if the owner has already
+     * been garbage collected.
+     */
+    @Override
+    public @Nullable Listener findOwner() {
+        return reference.get();
+    }
+
+    public boolean isExpired() {
+        return reference.get() == null;
+    }
+
+    /**
+     * Expires this handle as if its owner had been garbage collected, by
+     * clearing the reference to the owner and enqueuing it to the queue of
+     * this handle. Returns true if the reference has been enqueued.
+     */
+    public boolean expire() {
+        return reference.enqueue();
+    }
+
+    private static final class OwnerReference extends WeakReference<Listener> {
+        final @NonNull WeakListenerHandle handle;
+
+        OwnerReference(@NonNull Listener referent,
+                       @Nullable ReferenceQueue<? super Listener> queue,
+                       @NonNull WeakListenerHandle handle) {
+            super(referent, queue);
+            this.handle = handle;
+        }
+    }
+
+}
@@ -0,0 +1,74 @@
+package io.github.aparx.eventbus.jfr;
+
+import io.github.aparx.eventbus.Event;
+import io.github.aparx.eventbus.audience.ListenerHandle;
+import io.github.aparx.eventbus.subscriber.EventSubscriber;
+import io.github.aparx.eventbus.subscriber.EventSubscribers;
+import jdk.jfr.*;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Flight recorder event covering the call of a single subscriber by the
+ * default publisher. By default, only calls taking at least one
+ * millisecond are recorded.
+ * <p>Subscribers are named by {@link EventSubscribers#nameOf}, equally to
+ * their metrics, such as {@code com.example.MyListener#onEvent}.
+ *
+ * @author aparx (Vinzent Zeband)
+ * @version 19:36 CET, 18.10.2026
+ * @see FlightRecording
+ * @since 1.0
+ */
+@Name(DispatchRecording.NAME)
+@Label("EventBus Dispatch")
+@Category("EventBus")
+@Description("Call of a single subscriber with a published event")
+@Threshold("1 ms")
+public final class DispatchRecording extends jdk.jfr.Event {
+
+    public static final String NAME = "io.github.aparx.eventbus.Dispatch";
+
+    @Label("Event Type")
+    Class<?> eventType;
+
+    @Label("Listener Type")
+    Class<?> listenerType;
+
+    @Label("Subscriber")
+    String subscriber;
+
+    @Label("Thrown")
+    Class<?> thrown;
+
+    @Label("Message")
+    String message;
+
+    // Only named once the recording is actually committed
+    transient EventSubscriber<?> source;
+
+    @NonNull
+    public static DispatchRecording begin(@NonNull Event event,
+                                          @NonNull ListenerHandle scope,
+                                          @NonNull EventSubscriber<?> subscriber) {
+        DispatchRecording recording = new DispatchRecording();
+        recording.eventType = event.getClass();
+        recording.listenerType = scope.getOwner().getClass();
+        recording.source = subscriber;
+        recording.begin();
+        return recording;
+    }
+
+    public void failed(@NonNull Throwable t) {
+        thrown = t.getClass();
+        message = t.getMessage();
+    }
+
+    /** Ends this recording and commits it, if it exceeds its threshold. */
+    public void finish() {
+        end();
+        if (!shouldCommit()) return;
+        subscriber = EventSubscribers.nameOf(source);
+        commit();
+    }
+
+}
@@ -0,0 +1,75 @@
+package io.github.aparx.eventbus.jfr;
+
+import jdk.jfr.EventType;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.FlightRecorderListener;
+import jdk.jfr.Recording;
+import org.jetbrains.annotations.Contract;
+
+/**
+ * Class {@code FlightRecording} is representing a class tracking whether
+ * the flight recorder events of this library are enabled in any running
+ * recording of the Java Flight Recorder.
+ * <p>The state is updated by a listener of the flight recorder whenever
+ * a recording changes its state, thus checking it on publish costs a
+ * single volatile read. No recording event is allocated while the flight
+ * recorder is off. If the flight recorder is not available at runtime,
+ * the events are never enabled.
+ *
+ * @author aparx (Vinzent Zeband)
+ * @version 19:36 CET, 18.10.2026
+ * @see PublishRecording
+ * @see DispatchRecording
+ * @since 1.0
+ */
+public final class FlightRecording {
+
+    private static volatile boolean publishEnabled;
+
+    private static volatile boolean dispatchEnabled;
+
+    static {
+        try {
+            StateListener.install();
+        } catch (Throwable t) {
+            // The `jdk.jfr` module is not present in this runtime
+        }
+    }
+
+    private FlightRecording() {
+        throw new AssertionError();
+    }
+
+    @Contract(pure = true)
+    public static boolean isPublishEnabled() {
+        return publishEnabled;
+    }
+
+    @Contract(pure = true)
+    public static boolean isDispatchEnabled() {
+        return dispatchEnabled;
+    }
+
+    private static final class StateListener implements FlightRecorderListener {
+
+        static void install() {
+            FlightRecorder.addListener(new StateListener());
+        }
+
+        @Override
+        public void recorderInitialized(FlightRecorder recorder) {
+            update();
+        }
+
+        @Override
+        public void recordingStateChanged(Recording recording) {
+            update();
+        }
+
+        private static void update() {
+            publishEnabled = EventType.getEventType(PublishRecording.class).isEnabled();
+            dispatchEnabled = EventType.getEventType(DispatchRecording.class).isEnabled();
+        }
+    }
+
+}
@@ -0,0 +1,54 @@
+package io.github.aparx.eventbus.jfr;
+
+import io.github.aparx.eventbus.Event;
+import jdk.jfr.*;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Flight recorder event covering a single {@code EventBus#publish}, which
+ * includes the resolution of subscriptions and every dispatch. By default,
+ * only publishes taking at least one millisecond are recorded.
+ *
+ * @author aparx (Vinzent Zeband)
+ * @version 19:36 CET, 18.10.2026
+ * @see FlightRecording
+ * @since 1.0
+ */
+@Name(PublishRecording.NAME)
+@Label("EventBus Publish")
+@Category("EventBus")
+@Description("Publish of an event to all of its subscribers")
+@Threshold("1 ms")
+public final class PublishRecording extends jdk.jfr.Event {
+
+    public static final String NAME = "io.github.aparx.eventbus.Publish";
+
+    @Label("Event Type")
+    Class<?> eventType;
+
+    @Label("Thrown")
+    Class<?> thrown;
+
+    @Label("Message")
+    String message;
+
+    @NonNull
+    public static PublishRecording begin(@NonNull Event event) {
+        PublishRecording recording = new PublishRecording();
+        recording.eventType = event.getClass();
+        recording.begin();
+        return recording;
+    }
+
+    public void failed(@NonNull Throwable t) {
+        thrown = t.getClass();
+        message = t.getMessage();
+    }
+
+    /** Ends this recording and commits it, if it exceeds its threshold. */
+    public void finish() {
+        end();
+        if (shouldCommit()) commit();
+    }
+
+}
@@ -0,0 +1,227 @@
+package io.github.aparx.eventbus.metrics;
+
+import com.google.common.base.Preconditions;
+import io.github.aparx.eventbus.processors.IndexedEventPublisher;
+import io.github.aparx.eventbus.subscriber.EventSubscriber;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Registry of the metrics recorded by one or more
+ * {@code InstrumentedEventPublisher} instances, providing access to the
+ * metrics of every subscriber and event type that has been recorded.
+ * <p>Metrics can additionally be exposed as MXBeans through
+ * {@link #registerMBeans(MBeanServer, String)}, whereas metrics created
+ * after registration are registered automatically. Every MXBean is named
+ * within the {@value #DOMAIN} domain, with the {@code type} key being
+ * either {@code Subscriber} or {@code EventType}. Subscriber MXBeans are
+ * registered per subscriber instance, whereas their {@code id} key
+ * distinguishes subscribers of the same member, such as the subscribers
+ * collected again after their collector has been invalidated.
+ * <p>Subscribers are only referenced weakly, thus the metrics of collected
+ * subscribers are evicted, including their MXBeans.
+ *
+ * @author aparx (Vinzent Zeband)
+ * @version 19:35 CET, 18.10.2026
+ * @see InstrumentedEventPublisher
+ * @see SubscriberMetrics
+ * @see EventTypeMetrics
+ * @since 1.0
+ */
+public final class EventMetrics {
+
+    public static final String DOMAIN = "io.github.aparx.eventbus";
+
+    // Guarded by its own monitor
+    private final Map<EventSubscriber<?>, SubscriberMetrics> subscribers
+            = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final ReferenceQueue<EventSubscriber<?>> queue = new ReferenceQueue<>();
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private final Map<Class<?>, EventTypeMetrics> eventTypes
+            = new ConcurrentHashMap<>();
+
+    // Guarded by `this`, whereas `server` is read without locking
+    private volatile @Nullable MBeanServer server;
+    private @Nullable String busName;
+    private final Map<Object, ObjectName> registered = new IdentityHashMap<>();
+
+    @NonNull
+    public static InstrumentedEventPublisher instrument(
+            final @NonNull IndexedEventPublisher delegate) {
+        return instrument(delegate, new EventMetrics());
+    }
+
+    @NonNull
+    public static InstrumentedEventPublisher instrument(
+            final @NonNull IndexedEventPublisher delegate,
+            final @NonNull EventMetrics metrics) {
+        Preconditions.checkNotNull(delegate);
+        Preconditions.checkNotNull(metrics);
+        return new InstrumentedPublisher(delegate, metrics);
+    }
+
+    @Nullable
+    public SubscriberMetrics getSubscriberMetrics(@NonNull EventSubscriber<?> subscriber) {
+        Preconditions.checkNotNull(subscriber);
+        expunge();
+        return subscribers.get(subscriber);
+    }
+
+    /** Returns a snapshot of the metrics of every subscriber that is alive. */
+    @NonNull
+    public Collection<SubscriberMetrics> getSubscriberMetrics() {
+        expunge();
+        synchronized (subscribers) {
+            return List.copyOf(subscribers.values());
+        }
+    }
+
+    @Nullable
+    public EventTypeMetrics getEventTypeMetrics(@NonNull Class<?> eventType) {
+        return eventTypes.get(Preconditions.checkNotNull(eventType));
+    }
+
+    @NonNull
+    public Collection<EventTypeMetrics> getEventTypeMetrics() {
+        return Collections.unmodifiableCollection(eventTypes.values());
+    }
+
+    /** Resets all recorded values, while keeping every metric. */
+    public void reset() {
+        synchronized (subscribers) {
+            subscribers.values().forEach(SubscriberMetrics::reset);
+        }
+        eventTypes.values().forEach(EventTypeMetrics::reset);
+    }
+
+    /**
+     * Registers all current and future metrics as MXBeans to
+     * {@code server}, whereas {@code busName} is used to distinguish
+     * metrics of multiple buses.
+     *
+     * @throws IllegalStateException if the metrics are already registered,
+     *                               or {@code busName} is already used
+     *                               within {@code server}
+     */
+    public synchronized void registerMBeans(
+            @NonNull MBeanServer server, @NonNull String busName) throws JMException {
+        Preconditions.checkNotNull(server);
+        Preconditions.checkNotNull(busName);
+        Preconditions.checkState(this.server == null, "Already registered");
+        // Names of other metrics would collide with names registered later
+        Preconditions.checkState(server.queryNames(new ObjectName(
+                        DOMAIN + ":bus=" + ObjectName.quote(busName) + ",*"), null).isEmpty(),
+                "Bus name %s is already registered", busName);
+        this.busName = busName;
+        this.server = server;
+        expunge();
+        List<SubscriberMetrics> metrics;
+        synchronized (subscribers) {
+            metrics = List.copyOf(subscribers.values());
+        }
+        for (SubscriberMetrics m : metrics)
+            register(server, m);
+        for (EventTypeMetrics m : eventTypes.values())
+            register(server, m);
+    }
+
+    public synchronized void unregisterMBeans() throws JMException {
+        MBeanServer server = this.server;
+        if (server == null) return;
+        this.server = null;
+        for (ObjectName name : registered.values()) {
+            if (server.isRegistered(name))
+                server.unregisterMBean(name);
+        }
+        registered.clear();
+    }
+
+    @NonNull
+    SubscriberMetrics of(@NonNull EventSubscriber<?> subscriber) {
+        expunge();
+        SubscriberMetrics created;
+        synchronized (subscribers) {
+            SubscriberMetrics metrics = subscribers.get(subscriber);
+            if (metrics != null) return metrics;
+            created = new SubscriberMetrics(subscriber, sequence.incrementAndGet(), queue);
+            subscribers.put(subscriber, created);
+        }
+        if (server != null) registerQuietly(created);
+        return created;
+    }
+
+    /** Unregisters the MXBeans of subscribers, that have been collected. */
+    private void expunge() {
+        // Polling an empty queue neither locks nor allocates
+        for (Reference<?> ref; (ref = queue.poll()) != null; ) {
+            SubscriberMetrics metrics = SubscriberMetrics.of(ref);
+            if (metrics != null) unregisterQuietly(metrics);
+        }
+    }
+
+    @NonNull
+    EventTypeMetrics of(@NonNull Class<?> eventType) {
+        EventTypeMetrics metrics = eventTypes.get(eventType);
+        if (metrics != null) return metrics;
+        EventTypeMetrics created = new EventTypeMetrics(eventType);
+        metrics = eventTypes.putIfAbsent(eventType, created);
+        if (metrics != null) return metrics;
+        if (server != null) registerQuietly(created);
+        return created;
+    }
+
+    private synchronized void registerQuietly(@NonNull Object metrics) {
+        MBeanServer server = this.server;
+        if (server == null) return;
+        try {
+            register(server, metrics);
+        } catch (JMException e) {
+            // Publishing must never fail, because of JMX. Names of other
+            // metrics are already rejected by `registerMBeans`
+        }
+    }
+
+    private synchronized void unregisterQuietly(@NonNull Object metrics) {
+        ObjectName name = registered.remove(metrics);
+        MBeanServer server = this.server;
+        if (name == null || server == null) return;
+        try {
+            server.unregisterMBean(name);
+        } catch (JMException e) {
+            // MXBeans might have been unregistered externally
+        }
+    }
+
+    private void register(@NonNull MBeanServer server, @NonNull Object metrics)
+            throws JMException {
+        Hashtable<String, String> keys = new Hashtable<>();
+        keys.put("bus", ObjectName.quote(Preconditions.checkNotNull(busName)));
+        if (metrics instanceof SubscriberMetrics) {
+            SubscriberMetrics m = (SubscriberMetrics) metrics;
+            keys.put("type", "Subscriber");
+            keys.put("name", ObjectName.quote(m.getName()));
+            // Overloaded methods share a name, but not their event type
+            keys.put("event", ObjectName.quote(m.getEventType()));
+            keys.put("id", Long.toString(m.id));
+        } else {
+            keys.put("type", "EventType");
+            keys.put("name", ObjectName.quote(((EventTypeMetrics) metrics).getEventType()));
+        }
+        ObjectName name = new ObjectName(DOMAIN, keys);
+        server.registerMBean(metrics, name);
+        registered.put(metrics, name);
+    }
+
+}
@@ -0,0 +1,92 @@
+package io.github.aparx.eventbus.metrics;
+
+import com.google.common.base.Preconditions;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.jetbrains.annotations.Contract;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics of publishing events of a single concrete event type, whereas
+ * the latency of a publish covers the calls of all its subscribers.
+ * <p>The publish rate is the average amount of events published per
+ * second since the metrics have been created or last reset.
+ *
+ * @author aparx (Vinzent Zeband)
+ * @version 19:35 CET, 18.10.2026
+ * @see EventMetrics
+ * @since 1.0
+ */
+public final class EventTypeMetrics implements EventTypeMetricsMXBean {
+
+    @NonNull
+    private final Class<?> eventType;
+
+    private final LongAdder publishes = new LongAdder();
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    private volatile long since = System.nanoTime();
+
+    EventTypeMetrics(@NonNull Class<?> eventType) {
+        this.eventType = Preconditions.checkNotNull(eventType);
+    }
+
+    void record(long nanos) {
+        publishes.increment();
+        latency.record(nanos);
+    }
+
+    void reset() {
+        publishes.reset();
+        latency.reset();
+        since = System.nanoTime();
+    }
+
+    @Contract(pure = true)
+    public @NonNull Class<?> getType() {
+        return eventType;
+    }
+
+    @NonNull
+    public LatencySnapshot getLatency() {
+        return latency.snapshot();
+    }
+
+    @Override
+    public String getEventType() {
+        return eventType.getName();
+    }
+
+    @Override
+    public long getPublishCount() {
+        return publishes.sum();
+    }
+
+    @Override
+    public double getPublishRate() {
+        long elapsed = System.nanoTime() - since;
+        return elapsed <= 0 ? 0 : publishes.sum() * 1e9 / elapsed;
+    }
+
+    @Override
+    public double getMeanNanos() {
+        return latency.snapshot().getMeanNanos();
+    }
+
+    @Override
+    public long getMaxNanos() {
+        return latency.snapshot().getMaxNanos();
+    }
+
+    @Override
+    public long get99thPercentileNanos() {
+        return latency.snapshot().getValueAtPercentile(99);
+    }
+
+    @Override
+    public String toString() {
+        return "EventTypeMetrics{" + eventType.getName() + ", publishes="
+                + getPublishCount() + ", " + latency.snapshot() + "}";
+    }
+
+}
@@ -0,0 +1,26 @@
+package io.github.aparx.eventbus.metrics;
+
+/**
+ * Management interface of {@code EventTypeMetrics}, exposing the
+ * metrics of a single event type through JMX.
+ *
+ * @author aparx (Vinzent Zeband)
+ * @version 19:35 CET, 18.10.2026
+ * @see EventTypeMetrics
+ * @since 1.0
+ */
+public interface EventTypeMetricsMXBean {
+
+    String getEventType();
+
+    long getPublishCount();
+
+    double getPublishRate();
+
+    double getMeanNanos();
+
+    long getMaxNanos();
+
+    long get99thPercentileNanos();
+
+}
@@ -0,0 +1,34 @@
+package io.github.aparx.eventbus.metrics;
+
+import io.github.aparx.eventbus.processors.IndexedEventPublisher;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.jetbrains.annotations.Contract;
+
+/**
+ * Event processor extending {@code IndexedEventPublisher}, that wraps
+ * another publisher and records metrics of every event published and
+ * every subscriber called through it.
+ * <p>Subscribers are measured by passing instrumented copies of the
+ * resolved subscriptions to the wrapped publisher, which are cached per
+ * event type until the resolved subscriptions change. Events published
+ * to a single {@code ListenerHandle} are only measured per event type.
+ * <p>Instrumentation is opt-in, thus a publisher that is not wrapped does
+ * not have any overhead. Instances are created through
+ * {@link EventMetrics#instrument(IndexedEventPublisher)}.
+ *
+ * @author aparx (Vinzent Zeband)
+ * @version 19:35 CET, 18.10.2026
+ * @see EventMetrics
+ * @since 1.0
+ */
+public interface InstrumentedEventPublisher extends IndexedEventPublisher {
+
+    @NonNull
+    @Contract(pure = true)
+    EventMetrics getMetrics();
+
+    @NonNull
+    @Contract(pure = true)
+    IndexedEventPublisher getDelegate();
+
+}
@@ -0,0 +1,217 @@
+package io.github.aparx.eventbus.metrics;
+
+import com.google.common.collect.MapMaker;
+import io.github.aparx.eventbus.Event;
+import io.github.aparx.eventbus.audience.ListenerHandle;
+import io.github.aparx.eventbus.audience.Subscription;
+import io.github.aparx.eventbus.processors.IndexedEventPublisher;
+import io.github.aparx.eventbus.subscriber.EventSubscriber;
+import io.github.aparx.eventbus.subscriber.member.ClassMemberEventSubscriber;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.lang.reflect.Member;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Default implementation of {@code InstrumentedEventPublisher}.
+ *
+ * @author aparx (Vinzent Zeband)
+ * @version 19:35 CET, 18.10.2026
+ * @see EventMetrics#instrument(IndexedEventPublisher, EventMetrics)
+ * @since 1.0
+ */
+final class InstrumentedPublisher implements InstrumentedEventPublisher {
+
+    final @NonNull IndexedEventPublisher delegate;
+    final @NonNull EventMetrics metrics;
+
+    // Instrumented copy of every subscription, whereas subscriptions are
+    // referenced weakly and compared by identity. Copies never reference
+    // their original, thus unregistered subscriptions are evicted
+    final @NonNull Map<Subscription, Subscription> instrumented
+            = new MapMaker().weakKeys().makeMap();
+
+    // Last instrumented copy of the subscriptions resolved per event type,
+    // as topic and routed events might resolve new arrays on every publish
+    final @NonNull ClassValue<AtomicReference<Subscription[][]>> copies
+            = new ClassValue<>() {
+        @Override
+        protected AtomicReference<Subscription[][]> computeValue(Class<?> type) {
+            return new AtomicReference<>();
+        }
+    };
+
+    InstrumentedPublisher(@NonNull IndexedEventPublisher delegate,
+                          @NonNull EventMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public @NonNull EventMetrics getMetrics() {
+        return metrics;
+    }
+
+    @Override
+    public @NonNull IndexedEventPublisher getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public @NonNull Class<?> @NonNull [] getDispatchTypes(
+            @NonNull Class<? extends Event> eventType) {
+        return delegate.getDispatchTypes(eventType);
+    }
+
+    @Override
+    public void publish(@NonNull Event event,
+                        @NonNull ListenerHandle scope,
+                        @Nullable ErrorHandler errorHandler) {
+        EventTypeMetrics typeMetrics = metrics.of(event.getClass());
+        long start = System.nanoTime();
+        try {
+            delegate.publish(event, scope, errorHandler);
+        } finally {
+            typeMetrics.record(System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public void publish(@NonNull Event event,
+                        @NonNull Subscription @NonNull [] subscriptions,
+                        @Nullable ErrorHandler errorHandler) {
+        EventTypeMetrics typeMetrics = metrics.of(event.getClass());
+        Subscription[] copy = instrument(event.getClass(), subscriptions);
+        // Error handlers receive the subscribers, that are not instrumented
+        ErrorHandler handler = errorHandler == null ? null : (thrown, scope, sub) ->
+                errorHandler.handle(thrown, scope, sub instanceof Instrumented
+                        ? ((Instrumented) sub).getDelegate() : sub);
+        long start = System.nanoTime();
+        try {
+            delegate.publish(event, copy, handler);
+        } finally {
+            typeMetrics.record(System.nanoTime() - start);
+        }
+    }
+
+    @NonNull
+    private Subscription @NonNull [] instrument(
+            @NonNull Class<?> eventType, @NonNull Subscription @NonNull [] subscriptions) {
+        AtomicReference<Subscription[][]> ref = copies.get(eventType);
+        Subscription[][] pair = ref.get();
+        if (pair != null && pair[0] == subscriptions) return pair[1];
+        Subscription[] copy = new Subscription[subscriptions.length];
+        for (int i = 0; i < copy.length; ++i) {
+            Subscription sub = subscriptions[i];
+            Subscription instrumented = this.instrumented.get(sub);
+            if (instrumented == null) {
+                instrumented = new Subscription(sub.getScope(),
+                        instrumentedOf(sub.getSubscriber()));
+                Subscription previous = this.instrumented.putIfAbsent(sub, instrumented);
+                if (previous != null) instrumented = previous;
+            }
+            copy[i] = instrumented;
+        }
+        ref.set(new Subscription[][]{subscriptions, copy});
+        return copy;
+    }
+
+    @NonNull
+    private EventSubscriber<?> instrumentedOf(@NonNull EventSubscriber<?> subscriber) {
+        SubscriberMetrics m = metrics.of(subscriber);
+        // Keeps member subscribers recognizable to subscriber filters
+        if (subscriber instanceof ClassMemberEventSubscriber) {
+            return new InstrumentedMemberSubscriber(
+                    (ClassMemberEventSubscriber<?, ?>) subscriber, m);
+        }
+        return new InstrumentedSubscriber(subscriber, m);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static void call(@NonNull EventSubscriber<?> delegate,
+                     @NonNull SubscriberMetrics metrics,
+                     ListenerHandle origin, Event event) throws Throwable {
+        boolean failed = true;
+        long start = System.nanoTime();
+        try {
+            ((EventSubscriber) delegate).call(origin, event);
+            failed = false;
+        } finally {
+            metrics.record(System.nanoTime() - start, failed);
+        }
+    }
+
+    interface Instrumented {
+        @NonNull EventSubscriber<?> getDelegate();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static final class InstrumentedSubscriber
+            extends EventSubscriber<Event> implements Instrumented {
+
+        final @NonNull EventSubscriber<?> delegate;
+        final @NonNull SubscriberMetrics metrics;
+
+        InstrumentedSubscriber(@NonNull EventSubscriber<?> delegate,
+                               @NonNull SubscriberMetrics metrics) {
+            super((Class<? extends Event>) delegate.getEventType(), delegate.getPriority(),
+                    delegate.isReceivingCancelled(), delegate.getTopic(), delegate.getCondition());
+            this.delegate = delegate;
+            this.metrics = metrics;
+        }
+
+        @Override
+        public @NonNull EventSubscriber<?> getDelegate() {
+            return delegate;
+        }
+
+        @Override
+        public boolean isCallablePassingEvent(@Nullable Event event) {
+            return delegate.isCallablePassingEvent(event);
+        }
+
+        @Override
+        public void call(ListenerHandle origin, Event event) throws Throwable {
+            InstrumentedPublisher.call(delegate, metrics, origin, event);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static final class InstrumentedMemberSubscriber
+            extends ClassMemberEventSubscriber<Event, Member> implements Instrumented {
+
+        final @NonNull ClassMemberEventSubscriber<?, ?> delegate;
+        final @NonNull SubscriberMetrics metrics;
+
+        InstrumentedMemberSubscriber(@NonNull ClassMemberEventSubscriber<?, ?> delegate,
+                                     @NonNull SubscriberMetrics metrics) {
+            super((Class<? extends Event>) delegate.getEventType(), delegate.getPriority(),
+                    delegate.isReceivingCancelled(), delegate.getTopic(), delegate.getCondition());
+            this.delegate = delegate;
+            this.metrics = metrics;
+        }
+
+        @Override
+        public @NonNull EventSubscriber<?> getDelegate() {
+            return delegate;
+        }
+
+        @Override
+        public @NonNull Member getMember() {
+            return delegate.getMember();
+        }
+
+        @Override
+        public boolean isCallablePassingEvent(@Nullable Event event) {
+            return delegate.isCallablePassingEvent(event);
+        }
+
+        @Override
+        public void call(ListenerHandle origin, Event event) throws Throwable {
+            InstrumentedPublisher.call(delegate, metrics, origin, event);
+        }
+    }
+
+}
@@ -0,0 +1,79 @@
+package io.github.aparx.eventbus.metrics;
+
+import com.google.common.base.Preconditions;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histogram recording latencies in nanoseconds into log-linear buckets,
+ * similar to an HdrHistogram with a fixed precision.
+ * <p>Values below {@code 32} are recorded exactly, whereas every power of
+ * two above is split into {@code 16} linear buckets, thus every recorded
+ * value is off by at most {@code 6.25%}. Recording is lock-free and never
+ * allocates, as all buckets are allocated when the histogram is created.
+ *
+ * @author aparx (Vinzent Zeband)
+ * @version 19:35 CET, 18.10.2026
+ * @see LatencySnapshot
+ * @since 1.0
+ */
+public final class LatencyHistogram {
+
+    static final int SUB_BUCKET_BITS = 4;
+    static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    static final int LINEAR_LIMIT = SUB_BUCKET_COUNT << 1;
+    static final int BUCKET_COUNT = (64 - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    public void record(long nanos) {
+        if (nanos < 0) nanos = 0;
+        buckets.incrementAndGet(indexOf(nanos));
+        count.increment();
+        sum.add(nanos);
+        max.accumulate(nanos);
+    }
+
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; ++i)
+            buckets.set(i, 0);
+        count.reset();
+        sum.reset();
+        max.reset();
+    }
+
+    /**
+     * Returns a snapshot of the recorded values. Values recorded while
+     * the snapshot is taken might only be partially reflected.
+     */
+    @NonNull
+    public LatencySnapshot snapshot() {
+        long[] copy = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; ++i)
+            total += (copy[i] = buckets.get(i));
+        return new LatencySnapshot(copy, total, sum.sum(), max.get());
+    }
+
+    static int indexOf(long value) {
+        if (value < LINEAR_LIMIT) return (int) value;
+        // Shifts the value, so that it lies within [SUB_BUCKET_COUNT, 2 * SUB_BUCKET_COUNT)
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return ((shift + 1) << SUB_BUCKET_BITS) + (int) (value >>> shift) - SUB_BUCKET_COUNT;
+    }
+
+    static long highestValueOf(int index) {
+        Preconditions.checkElementIndex(index, BUCKET_COUNT);
+        if (index < LINEAR_LIMIT) return index;
+        int shift = (index >>> SUB_BUCKET_BITS) - 1;
+        long sub = (index & SUB_BUCKET_COUNT - 1) + SUB_BUCKET_COUNT;
+        return ((sub + 1) << shift) - 1;
+    }
+
+}
@@ -0,0 +1,73 @@
+package io.github.aparx.eventbus.metrics;
+
+import com.google.common.base.Preconditions;
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.jetbrains.annotations.Contract;
+
+/**
+ * Immutable snapshot of the values recorded by a {@code LatencyHistogram}.
+ *
+ * @author aparx (Vinzent Zeband)
+ * @version 19:35 CET, 18.10.2026
+ * @see LatencyHistogram
+ * @since 1.0
+ */
+public final class LatencySnapshot {
+
+    private final long @NonNull [] buckets;
+    private final long count;
+    private final long sum;
+    private final long max;
+
+    LatencySnapshot(long @NonNull [] buckets, long count, long sum, long max) {
+        this.buckets = buckets;
+        this.count = count;
+        this.sum = sum;
+        this.max = max;
+    }
+
+    @Contract(pure = true)
+    public @NonNegative long getCount() {
+        return count;
+    }
+
+    @Contract(pure = true)
+    public double getMeanNanos() {
+        return count == 0 ? 0 : (double) sum / count;
+    }
+
+    @Contract(pure = true)
+    public @NonNegative long getMaxNanos() {
+        return max;
+    }
+
+    /**
+     * Returns the highest value, that {@code percentile} percent of all
+     * recorded values are less than or equal to, within the precision of
+     * the histogram.
+     */
+    @Contract(pure = true)
+    public @NonNegative long getValueAtPercentile(double percentile) {
+        Preconditions.checkArgument(percentile >= 0 && percentile <= 100,
+                "Percentile must be within [0, 100]");
+        if (count == 0) return 0;
+        long target = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+        for (int i = 0; i < buckets.length; ++i) {
+            if ((seen += buckets[i]) >= target)
+                return Math.min(LatencyHistogram.highestValueOf(i), max);
+        }
+        return max;
+    }
+
+    @Override
+    public String toString() {
+        return "LatencySnapshot{count=" + count
+                + ", mean=" + Math.round(getMeanNanos())
+                + "ns, p50=" + getValueAtPercentile(50)
+                + "ns, p99=" + getValueAtPercentile(99)
+                + "ns, max=" + max + "ns}";
+    }
+
+}
@@ -0,0 +1,151 @@
+package io.github.aparx.eventbus.metrics;
+
+import com.google.common.base.Preconditions;
+import io.github.aparx.eventbus.subscriber.EventSubscriber;
+import io.github.aparx.eventbus.subscriber.EventSubscribers;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics of a single {@code EventSubscriber}, which are shared amongst
+ * all listener instances the subscriber is called for.
+ * <p>Subscribers of class members are named after their declaring class
+ * and member, such as {@code com.example.MyListener#onEvent}.
+ * <p>The subscriber is only referenced weakly, thus metrics do not prevent
+ * subscribers of unregistered listeners from being garbage collected.
+ *
+ * @author aparx (Vinzent Zeband)
+ * @version 19:35 CET, 18.10.2026
+ * @see EventMetrics
+ * @since 1.0
+ */
+public final class SubscriberMetrics implements SubscriberMetricsMXBean {
+
+    @NonNull
+    private final SubscriberReference subscriber;
+
+    @NonNull
+    private final String name;
+
+    @NonNull
+    private final String eventType;
+
+    // Distinguishes metrics of equally named subscribers within MXBean names
+    final long id;
+
+    private final LongAdder invocations = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    SubscriberMetrics(@NonNull EventSubscriber<?> subscriber, long id,
+                      @NonNull ReferenceQueue<? super EventSubscriber<?>> queue) {
+        Preconditions.checkNotNull(subscriber);
+        this.subscriber = new SubscriberReference(subscriber, queue, this);
+        this.name = EventSubscribers.nameOf(subscriber);
+        this.eventType = subscriber.getEventType().getName();
+        this.id = id;
+    }
+
+    /**
+     * Returns the metrics of the subscriber referenced by {@code reference},
+     * or null if {@code reference} does not originate from any metrics.
+     */
+    @Nullable
+    static SubscriberMetrics of(@Nullable Reference<?> reference) {
+        return reference instanceof SubscriberReference
+                ? ((SubscriberReference) reference).metrics : null;
+    }
+
+    void record(long nanos, boolean failed) {
+        invocations.increment();
+        if (failed) errors.increment();
+        latency.record(nanos);
+    }
+
+    void reset() {
+        invocations.reset();
+        errors.reset();
+        latency.reset();
+    }
+
+    /**
+     * Returns the subscriber of these metrics, or null if the subscriber
+     * has already been garbage collected.
+     */
+    public @Nullable EventSubscriber<?> getSubscriber() {
+        return subscriber.get();
+    }
+
+    @NonNull
+    public LatencySnapshot getLatency() {
+        return latency.snapshot();
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String getEventType() {
+        return eventType;
+    }
+
+    @Override
+    public long getInvocationCount() {
+        return invocations.sum();
+    }
+
+    @Override
+    public long getErrorCount() {
+        return errors.sum();
+    }
+
+    @Override
+    public double getMeanNanos() {
+        return latency.snapshot().getMeanNanos();
+    }
+
+    @Override
+    public long getMaxNanos() {
+        return latency.snapshot().getMaxNanos();
+    }
+
+    @Override
+    public long get50thPercentileNanos() {
+        return latency.snapshot().getValueAtPercentile(50);
+    }
+
+    @Override
+    public long get99thPercentileNanos() {
+        return latency.snapshot().getValueAtPercentile(99);
+    }
+
+    @Override
+    public long get999thPercentileNanos() {
+        return latency.snapshot().getValueAtPercentile(99.9);
+    }
+
+    @Override
+    public String toString() {
+        return "SubscriberMetrics{" + name + ", invocations=" + getInvocationCount()
+                + ", errors=" + getErrorCount() + ", " + latency.snapshot() + "}";
+    }
+
+    private static final class SubscriberReference extends WeakReference<EventSubscriber<?>> {
+        final @NonNull SubscriberMetrics metrics;
+
+        SubscriberReference(@NonNull EventSubscriber<?> referent,
+                            @NonNull ReferenceQueue<? super EventSubscriber<?>> queue,
+                            @NonNull SubscriberMetrics metrics) {
+            super(referent, queue);
+            this.metrics = metrics;
+        }
+    }
+
+}
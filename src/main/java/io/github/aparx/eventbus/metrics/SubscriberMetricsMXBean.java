@@ -0,0 +1,32 @@
+package io.github.aparx.eventbus.metrics;
+
+/**
+ * Management interface of {@code SubscriberMetrics}, exposing the
+ * metrics of a single subscriber through JMX.
+ *
+ * @author aparx (Vinzent Zeband)
+ * @version 19:35 CET, 18.10.2026
+ * @see SubscriberMetrics
+ * @since 1.0
+ */
+public interface SubscriberMetricsMXBean {
+
+    String getName();
+
+    String getEventType();
+
+    long getInvocationCount();
+
+    long getErrorCount();
+
+    double getMeanNanos();
+
+    long getMaxNanos();
+
+    long get50thPercentileNanos();
+
+    long get99thPercentileNanos();
+
+    long get999thPercentileNanos();
+
+}
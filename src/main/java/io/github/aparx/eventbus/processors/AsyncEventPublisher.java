@@ -0,0 +1,51 @@
+package io.github.aparx.eventbus.processors;
+
+import io.github.aparx.eventbus.Event;
+import io.github.aparx.eventbus.audience.Subscription;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Event processor extending {@code DeferredEventPublisher}, that publishes
+ * events asynchronously on an {@code Executor}.
+ * <p>Every publish method of an asynchronous publisher returns
+ * immediately. Using {@link #publishAsync(Event, Subscription[], ErrorHandler)}
+ * additionally provides a future, that completes once every subscriber
+ * has been called. Exceptions thrown by subscribers are passed to the
+ * given {@code ErrorHandler}, or complete the future exceptionally if no
+ * handler is given. Publishing without a future instead passes such
+ * exceptions to the uncaught exception handler of a thread of the executor.
+ * <p>The order in which subscribers are called is defined by the
+ * {@link AsyncOrdering} of the publisher.
+ * <p>Standard implementations are specified in {@link EventProcessors}.
+ *
+ * @author aparx (Vinzent Zeband)
+ * @version 19:17 CET, 18.10.2026
+ * @see AsyncOrdering
+ * @see EventProcessors
+ * @since 1.0
+ */
+public interface AsyncEventPublisher extends DeferredEventPublisher {
+
+    @NonNull
+    Executor getExecutor();
+
+    @NonNull
+    AsyncOrdering getOrdering();
+
+    @Override
+    default void publish(@NonNull Event event,
+                         @NonNull Subscription @NonNull [] subscriptions,
+                         @Nullable ErrorHandler errorHandler) {
+        // No future is returned, thus failures cannot be passed to the caller.
+        // They are reported on the executor, as the future might have been
+        // completed already, thus calling back on the publishing thread
+        publishAsync(event, subscriptions, errorHandler).whenComplete((v, thrown) -> {
+            if (thrown == null) return;
+            getExecutor().execute(() -> EventProcessors.handleUncaught(thrown));
+        });
+    }
+
+}
@@ -0,0 +1,33 @@
+package io.github.aparx.eventbus.processors;
+
+/**
+ * Enumeration of the ordering guarantees an {@code AsyncEventPublisher}
+ * provides when calling the subscribers of a published event.
+ *
+ * @author aparx (Vinzent Zeband)
+ * @version 19:17 CET, 18.10.2026
+ * @see AsyncEventPublisher
+ * @since 1.0
+ */
+public enum AsyncOrdering {
+
+    /**
+     * Every subscriber is called within its own task, thus subscribers
+     * are called in parallel and in no defined order.
+     */
+    UNORDERED,
+
+    /**
+     * All subscribers of a single publish are called in dispatch order
+     * within one task, while separate publishes run in parallel.
+     */
+    PER_PUBLISH,
+
+    /**
+     * The subscribers of each listener are called in dispatch order, and
+     * every listener receives events in the order they were published.
+     * Different listeners are called in parallel.
+     */
+    PER_LISTENER
+
+}
@@ -0,0 +1,97 @@
+package io.github.aparx.eventbus.processors;
+
+import com.google.common.base.Preconditions;
+import io.github.aparx.eventbus.Event;
+import io.github.aparx.eventbus.audience.ListenerHandle;
+import io.github.aparx.eventbus.subscriber.EventSubscriber;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.jetbrains.annotations.Contract;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Exception aggregating every failure that occurred while publishing a
+ * batch of events, which is reported once the entire batch has been
+ * published, instead of aborting the batch on its first failure.
+ * <p>Every cause is additionally added as a suppressed exception, thus
+ * the causes are visible within stack traces.
+ *
+ * @author aparx (Vinzent Zeband)
+ * @version 19:30 CET, 18.10.2026
+ * @see EventPublisher.ErrorHandler#handleBatch(BatchPublishException)
+ * @since 1.0
+ */
+public class BatchPublishException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    // Failures reference events and subscribers, which are not serializable,
+    // whereas their causes remain serialized as suppressed exceptions
+    @Nullable
+    private final transient List<Failure> failures;
+
+    public BatchPublishException(@NonNull List<@NonNull Failure> failures) {
+        super(Preconditions.checkNotNull(failures).size() + " subscriber(s) failed in batch");
+        this.failures = Collections.unmodifiableList(failures);
+        for (Failure failure : failures)
+            addSuppressed(failure.getCause());
+    }
+
+    @Contract(pure = true)
+    public @NonNull List<@NonNull Failure> getFailures() {
+        return failures != null ? failures : Collections.emptyList();
+    }
+
+    /**
+     * A single failure of a subscriber receiving an event of the batch.
+     */
+    public static final class Failure {
+
+        @NonNull
+        private final Event event;
+
+        @NonNull
+        private final ListenerHandle scope;
+
+        @Nullable
+        private final EventSubscriber<?> subscriber;
+
+        @NonNull
+        private final Throwable cause;
+
+        public Failure(@NonNull Event event,
+                       @NonNull ListenerHandle scope,
+                       @Nullable EventSubscriber<?> subscriber,
+                       @NonNull Throwable cause) {
+            this.event = Preconditions.checkNotNull(event);
+            this.scope = Preconditions.checkNotNull(scope);
+            this.subscriber = subscriber;
+            this.cause = Preconditions.checkNotNull(cause);
+        }
+
+        public @NonNull Event getEvent() {
+            return event;
+        }
+
+        public @NonNull ListenerHandle getScope() {
+            return scope;
+        }
+
+        public @Nullable EventSubscriber<?> getSubscriber() {
+            return subscriber;
+        }
+
+        public @NonNull Throwable getCause() {
+            return cause;
+        }
+
+        @Override
+        public String toString() {
+            return "Failure{" + event.getClass().getSimpleName()
+                    + " -> " + subscriber + ": " + cause + "}";
+        }
+    }
+
+}
@@ -0,0 +1,44 @@
+package io.github.aparx.eventbus.processors;
+
+import io.github.aparx.eventbus.Listener;
+import io.github.aparx.eventbus.subscriber.EventSubscriber;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.jetbrains.annotations.Contract;
+
+/**
+ * Event processor extending {@code SubscriberCollector}, that analyzes
+ * every {@code Listener} class only once and caches the resulting
+ * subscriber template per class.
+ * <p>Collecting the subscribers of another instance of an already analyzed
+ * class only binds the instance to the precomputed subscribers, which are
+ * shared amongst all instances of that class. The cache is weakly bound to
+ * the classes it contains, similar to a {@link ClassValue}, thus it never
+ * prevents classes from being unloaded.
+ * <p>Standard implementations are specified in {@link EventProcessors}.
+ *
+ * @param <E> The type of {@code EventSubscriber} the collector will
+ *            collect and return in its collection.
+ * @author aparx (Vinzent Zeband)
+ * @version 19:15 CET, 18.10.2026
+ * @see SubscriberCollector
+ * @see SubscriberCacheStats
+ * @see EventProcessors
+ * @since 1.0
+ */
+public interface CachingSubscriberCollector<E extends EventSubscriber<?>>
+        extends SubscriberCollector<E> {
+
+    @NonNull
+    @Contract(pure = true)
+    SubscriberCacheStats getCacheStats();
+
+    /**
+     * Invalidates the cached template of {@code type}, which is analyzed
+     * again once an instance of it is collected. This is usually used as
+     * a hook whenever a class has been redefined or reloaded.
+     */
+    void invalidate(@NonNull Class<? extends Listener> type);
+
+    void invalidateAll();
+
+}
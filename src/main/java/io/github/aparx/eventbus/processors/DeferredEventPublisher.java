@@ -0,0 +1,34 @@
+package io.github.aparx.eventbus.processors;
+
+import io.github.aparx.eventbus.Event;
+import io.github.aparx.eventbus.audience.Subscription;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Event processor extending {@code IndexedEventPublisher}, that dispatches
+ * published events after publishing returned, such as on other threads.
+ * <p>Publishing through {@link #publishAsync(Event, Subscription[], ErrorHandler)}
+ * provides a future, that completes once every subscriber has been called,
+ * or once the event has been dropped or replaced by the publisher.
+ * Exceptions thrown by subscribers and events rejected by the publisher
+ * are passed to the given {@code ErrorHandler}, or complete the future
+ * exceptionally if no handler is given.
+ *
+ * @author aparx (Vinzent Zeband)
+ * @version 20:10 CET, 18.10.2026
+ * @see AsyncEventPublisher
+ * @see EventProcessors
+ * @since 1.0
+ */
+public interface DeferredEventPublisher extends IndexedEventPublisher {
+
+    @NonNull
+    CompletableFuture<Void> publishAsync(
+            @NonNull Event event,
+            @NonNull Subscription @NonNull [] subscriptions,
+            @Nullable ErrorHandler errorHandler);
+
+}
@@ -1,21 +1,38 @@
 package io.github.aparx.eventbus.processors;
 
 import com.google.common.base.Preconditions;
+import io.github.aparx.eventbus.Cancellable;
+import io.github.aparx.eventbus.ConflatedEvent;
 import io.github.aparx.eventbus.Event;
 import io.github.aparx.eventbus.Listener;
+import io.github.aparx.eventbus.RequestEvent;
+import io.github.aparx.eventbus.audience.ListenerHandle;
+import io.github.aparx.eventbus.audience.Subscription;
+import io.github.aparx.eventbus.jfr.DispatchRecording;
+import io.github.aparx.eventbus.jfr.FlightRecording;
 import io.github.aparx.eventbus.subscriber.EventCallback;
 import io.github.aparx.eventbus.subscriber.EventSubscriber;
 import io.github.aparx.eventbus.subscriber.EventSubscribers;
 import io.github.aparx.eventbus.subscriber.collection.SubscriberCollection;
 import io.github.aparx.eventbus.subscriber.collection.SubscriberCollections;
+import io.github.aparx.eventbus.subscriber.index.SubscriberIndex;
+import io.github.aparx.eventbus.subscriber.index.SubscriberIndexes;
 import io.github.aparx.eventbus.subscriber.member.ClassMemberEventSubscriber;
 import io.github.aparx.eventbus.subscriber.member.EventMethodDeducer;
 import io.github.aparx.eventbus.subscriber.member.MethodSubscriberFactory;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.lang.ref.Reference;
 import java.lang.reflect.Method;
-import java.util.Collection;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -27,7 +44,11 @@ import java.util.function.Supplier;
  * @author aparx (Vinzent Zeband)
  * @version 15:28 CET, 30.07.2022
  * @see EventPublisher
+ * @see IndexedEventPublisher
+ * @see AsyncEventPublisher
+ * @see RingBufferEventPublisher
  * @see SubscriberCollector
+ * @see CachingSubscriberCollector
  * @since 1.0
  */
 public final class EventProcessors {
@@ -39,62 +60,1481 @@ public final class EventProcessors {
     /* EventPublisher factory methods */
 
     @NonNull
-    public static EventPublisher newPolymorphicPublisher() {
+    public static IndexedEventPublisher newPolymorphicPublisher() {
         return newPublisher(true);
     }
 
     @NonNull
-    public static EventPublisher newPolymorphicPublisher(
+    public static IndexedEventPublisher newPolymorphicPublisher(
             @Nullable Collection<? extends Predicate<? super EventSubscriber<?>>> filters) {
         return newPublisher(true, filters);
     }
 
     @NonNull
-    public static EventPublisher newPublisher(boolean polymorphic) {
+    public static IndexedEventPublisher newPublisher(boolean polymorphic) {
         return newPublisher(polymorphic, null);
     }
 
     /* EventPublisher default implementation */
 
     @NonNull
-    @SuppressWarnings({"unchecked", "rawtypes"})
-    public static EventPublisher newPublisher(
+    public static IndexedEventPublisher newPublisher(
             final boolean polymorphic,
             final @Nullable Collection<? extends Predicate<? super EventSubscriber<?>>> filters) {
-        // Allocates a new anonymous publisher implementation
-        return (event, scope, errorHandler) -> {
+        // Allocates a new default publisher implementation
+        return new DefaultPublisher(polymorphic, filters);
+    }
+
+    /**
+     * Default synchronous publisher. Publishing to an array of
+     * subscriptions does not allocate any memory, as long as no subscriber
+     * fails without an error handler being given, since filters are kept
+     * in an array and every loop is indexed.
+     */
+    private static class DefaultPublisher implements IndexedEventPublisher {
+
+        final boolean polymorphic;
+        final @Nullable Predicate<? super EventSubscriber<?>> @Nullable [] filters;
+
+        @SuppressWarnings("unchecked")
+        public DefaultPublisher(
+                boolean polymorphic,
+                @Nullable Collection<? extends Predicate<? super EventSubscriber<?>>> filters) {
+            this.polymorphic = polymorphic;
+            // Copies `filters` once, so that no iterator is allocated on publish
+            this.filters = filters == null || filters.isEmpty() ? null
+                    : filters.stream().filter(Objects::nonNull).toArray(Predicate[]::new);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void publish(@NonNull Event event,
+                            @NonNull ListenerHandle scope,
+                            @Nullable ErrorHandler errorHandler) {
             Preconditions.checkNotNull(event);
-            Class<? extends Event> eventType = event.getClass();
             SubscriberCollection<?, ?> col = scope.getSubscribers();
-            for (Collection<? extends EventSubscriber<?>> subs; ; ) {
-                subs = col.getGroup(eventType);
-                l0:
+            Cancellable cancellable = event instanceof Cancellable ? (Cancellable) event : null;
+            RequestEvent<?> request = event instanceof RequestEvent ? (RequestEvent<?>) event : null;
+            for (Class<?> type : getDispatchTypes(event.getClass())) {
+                var subs = col.getGroup((Class<? extends Event>) type);
                 for (EventSubscriber<?> s : subs) {
-                    // Check if `s` is wanted, if not, skip iteration
-                    if (filters != null && !filters.isEmpty()) {
-                        for (var filter : filters) {
-                            if (filter != null && !filter.test(s))
-                                continue l0;
+                    if (request != null && request.isCompleted()) return;
+                    if (cancellable != null && !s.isReceivingCancelled()
+                            && cancellable.isCancelled()) continue;
+                    // Indexed publishes only resolve subscribers that are routed to `event`
+                    if (!s.isMatchingTopic(event) || !s.isMatchingCondition(event)) continue;
+                    dispatch(event, scope, s, errorHandler);
+                }
+            }
+        }
+
+        @Override
+        public void publish(@NonNull Event event,
+                            @NonNull Subscription @NonNull [] subscriptions,
+                            @Nullable ErrorHandler errorHandler) {
+            Preconditions.checkNotNull(event);
+            if (event instanceof Cancellable) {
+                publishCancellable(event, subscriptions, errorHandler);
+                return;
+            }
+            // Events that are not cancellable skip any cancellation check
+            for (int i = 0, n = subscriptions.length; i < n; ++i) {
+                Subscription sub = subscriptions[i];
+                dispatch(event, sub.getScope(), sub.getSubscriber(), errorHandler);
+            }
+        }
+
+        private void publishCancellable(@NonNull Event event,
+                                        @NonNull Subscription @NonNull [] subscriptions,
+                                        @Nullable ErrorHandler errorHandler) {
+            final Cancellable cancellable = (Cancellable) event;
+            // Completed requests stop, regardless of any cancellation
+            final RequestEvent<?> request = event instanceof RequestEvent
+                    ? (RequestEvent<?>) event : null;
+            for (int i = 0, n = subscriptions.length; i < n; ++i) {
+                if (request != null && request.isCompleted()) return;
+                Subscription sub = subscriptions[i];
+                EventSubscriber<?> s = sub.getSubscriber();
+                // Skips `s` while the event is cancelled, which is checked
+                // before every call, as subscribers might also uncancel it
+                if (!s.isReceivingCancelled() && cancellable.isCancelled()) continue;
+                dispatch(event, sub.getScope(), s, errorHandler);
+            }
+        }
+
+        @Override
+        public @NonNull Class<?> @NonNull [] getDispatchTypes(
+                @NonNull Class<? extends Event> eventType) {
+            // Polymorphic hierarchies are cached, including interfaces
+            if (polymorphic) return EventTypeHierarchy.of(eventType);
+            return new Class<?>[]{eventType};
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private void dispatch(@NonNull Event event,
+                              @NonNull ListenerHandle scope,
+                              @NonNull EventSubscriber<?> s,
+                              @Nullable ErrorHandler errorHandler) {
+            // Check if `s` is wanted, if not, skip it
+            final Predicate<? super EventSubscriber<?>>[] filters = this.filters;
+            if (filters != null) {
+                for (int i = 0, n = filters.length; i < n; ++i) {
+                    if (!filters[i].test(s)) return;
+                }
+            }
+            // Handles of collected listeners are skipped, until they are purged
+            final Listener owner = scope.findOwner();
+            if (owner == null) return;
+            try {
+                // If `event` is not passable to `s`, skip it
+                if (!s.isCallablePassingEvent(event)) return;
+                if (!FlightRecording.isDispatchEnabled()) {
+                    ((EventSubscriber) s).call(scope, event);
+                    return;
+                }
+                DispatchRecording recording = DispatchRecording.begin(event, scope, s);
+                try {
+                    ((EventSubscriber) s).call(scope, event);
+                } catch (Throwable t) {
+                    recording.failed(t);
+                    throw t;
+                } finally {
+                    recording.finish();
+                }
+            } catch (Throwable t) {
+                if (errorHandler != null) {
+                    // If given, use handler's exception handling
+                    errorHandler.handle(t, scope, s);
+                    return;
+                }
+                // Unchecked throwables are rethrown without being wrapped
+                if (t instanceof RuntimeException) throw (RuntimeException) t;
+                if (t instanceof Error) throw (Error) t;
+                throw new RuntimeException(t);
+            } finally {
+                // Keeps weakly referenced owners alive, until `s` returned
+                Reference.reachabilityFence(owner);
+            }
+        }
+    }
+
+    /* AsyncEventPublisher factory methods */
+
+    @NonNull
+    public static AsyncEventPublisher newAsyncPublisher(
+            final @NonNull Executor executor) {
+        return newAsyncPublisher(executor, AsyncOrdering.PER_PUBLISH);
+    }
+
+    @NonNull
+    public static AsyncEventPublisher newAsyncPublisher(
+            final @NonNull Executor executor,
+            final @NonNull AsyncOrdering ordering) {
+        return newAsyncPublisher(executor, ordering, newPolymorphicPublisher());
+    }
+
+    /**
+     * Returns a publisher scheduling the synchronous {@code delegate} on
+     * {@code executor}, whereas the subscribers of a publish are split into
+     * tasks according to {@code ordering}.
+     */
+    @NonNull
+    public static AsyncEventPublisher newAsyncPublisher(
+            final @NonNull Executor executor,
+            final @NonNull AsyncOrdering ordering,
+            final @NonNull IndexedEventPublisher delegate) {
+        Preconditions.checkNotNull(executor);
+        Preconditions.checkNotNull(ordering);
+        Preconditions.checkNotNull(delegate);
+        return new AsyncPublisher(executor, ordering, delegate);
+    }
+
+    /**
+     * Returns an asynchronous publisher starting a new virtual thread for
+     * every task, which is suited for subscribers performing blocking I/O.
+     *
+     * @throws UnsupportedOperationException if the runtime does not
+     *                                       support virtual threads
+     */
+    @NonNull
+    public static AsyncEventPublisher newVirtualThreadPublisher(
+            final @NonNull AsyncOrdering ordering) {
+        return newAsyncPublisher(newVirtualThreadExecutor(), ordering);
+    }
+
+    /**
+     * Returns an executor starting a new virtual thread for every task.
+     *
+     * @throws UnsupportedOperationException if the runtime does not
+     *                                       support virtual threads
+     */
+    @NonNull
+    public static ExecutorService newVirtualThreadExecutor() {
+        try {
+            // Virtual threads are looked up reflectively, as they are not
+            // available on every runtime this library is compatible with
+            return (ExecutorService) Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            throw new UnsupportedOperationException(
+                    "Virtual threads are not supported by this runtime", e);
+        }
+    }
+
+    /* AsyncEventPublisher default implementation */
+
+    /**
+     * Passes {@code thrown} to the uncaught exception handler of the
+     * current thread, so that asynchronous dispatchers survive failures of
+     * subscribers published to without an error handler. Failures of
+     * futures are unwrapped to their cause.
+     */
+    static void handleUncaught(@NonNull Throwable thrown) {
+        if (thrown instanceof CompletionException && thrown.getCause() != null)
+            thrown = thrown.getCause();
+        Thread thread = Thread.currentThread();
+        thread.getUncaughtExceptionHandler().uncaughtException(thread, thrown);
+    }
+
+    private static class AsyncPublisher implements AsyncEventPublisher {
+
+        final @NonNull Executor executor;
+        final @NonNull AsyncOrdering ordering;
+        final @NonNull IndexedEventPublisher delegate;
+
+        // Serial lanes of every listener, used for `PER_LISTENER` ordering
+        final @NonNull Map<ListenerHandle, Executor> lanes
+                = Collections.synchronizedMap(new WeakHashMap<>());
+
+        public AsyncPublisher(
+                @NonNull Executor executor,
+                @NonNull AsyncOrdering ordering,
+                @NonNull IndexedEventPublisher delegate) {
+            this.executor = executor;
+            this.ordering = ordering;
+            this.delegate = delegate;
+        }
+
+        @Override
+        public @NonNull Executor getExecutor() {
+            return executor;
+        }
+
+        @Override
+        public @NonNull AsyncOrdering getOrdering() {
+            return ordering;
+        }
+
+        @Override
+        public @NonNull Class<?> @NonNull [] getDispatchTypes(
+                @NonNull Class<? extends Event> eventType) {
+            return delegate.getDispatchTypes(eventType);
+        }
+
+        @Override
+        public void publish(@NonNull Event event,
+                            @NonNull ListenerHandle scope,
+                            @Nullable ErrorHandler errorHandler) {
+            Preconditions.checkNotNull(event);
+            Executor target = ordering == AsyncOrdering.PER_LISTENER ? laneOf(scope) : executor;
+            // No future is returned, thus failures cannot be passed to the caller
+            target.execute(() -> {
+                try {
+                    delegate.publish(event, scope, errorHandler);
+                } catch (Throwable t) {
+                    handleUncaught(t);
+                }
+            });
+        }
+
+        @Override
+        public @NonNull CompletableFuture<Void> publishAsync(
+                @NonNull Event event,
+                @NonNull Subscription @NonNull [] subscriptions,
+                @Nullable ErrorHandler errorHandler) {
+            Preconditions.checkNotNull(event);
+            if (subscriptions.length == 0)
+                return CompletableFuture.completedFuture(null);
+            switch (ordering) {
+                case PER_PUBLISH:
+                    return CompletableFuture.runAsync(() ->
+                            delegate.publish(event, subscriptions, errorHandler), executor);
+                case PER_LISTENER:
+                    // Groups subscriptions by their scope, keeping their order
+                    Map<ListenerHandle, List<Subscription>> groups = new LinkedHashMap<>();
+                    for (Subscription sub : subscriptions)
+                        groups.computeIfAbsent(sub.getScope(), k -> new ArrayList<>()).add(sub);
+                    CompletableFuture<?>[] futures = new CompletableFuture<?>[groups.size()];
+                    int index = 0;
+                    for (Map.Entry<ListenerHandle, List<Subscription>> e : groups.entrySet()) {
+                        Subscription[] group = e.getValue().toArray(new Subscription[0]);
+                        futures[index++] = CompletableFuture.runAsync(() ->
+                                delegate.publish(event, group, errorHandler), laneOf(e.getKey()));
+                    }
+                    return CompletableFuture.allOf(futures);
+                default:
+                    futures = new CompletableFuture<?>[subscriptions.length];
+                    for (int i = 0; i < subscriptions.length; ++i) {
+                        Subscription[] single = {subscriptions[i]};
+                        futures[i] = CompletableFuture.runAsync(() ->
+                                delegate.publish(event, single, errorHandler), executor);
+                    }
+                    return CompletableFuture.allOf(futures);
+            }
+        }
+
+        @NonNull
+        private Executor laneOf(@NonNull ListenerHandle scope) {
+            return lanes.computeIfAbsent(scope, k -> new SerialExecutor(executor));
+        }
+    }
+
+    /**
+     * Executor running its tasks one after another in submission order,
+     * by scheduling at most one draining task on the underlying executor.
+     */
+    private static final class SerialExecutor implements Executor {
+
+        final @NonNull Executor executor;
+        final @NonNull Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+        final @NonNull AtomicBoolean scheduled = new AtomicBoolean();
+
+        public SerialExecutor(@NonNull Executor executor) {
+            this.executor = executor;
+        }
+
+        @Override
+        public void execute(@NonNull Runnable command) {
+            tasks.add(Preconditions.checkNotNull(command));
+            schedule();
+        }
+
+        private void schedule() {
+            if (tasks.isEmpty() || !scheduled.compareAndSet(false, true)) return;
+            try {
+                executor.execute(this::drain);
+            } catch (RuntimeException e) {
+                scheduled.set(false);
+                throw e;
+            }
+        }
+
+        private void drain() {
+            try {
+                for (Runnable task; (task = tasks.poll()) != null; )
+                    task.run();
+            } finally {
+                scheduled.set(false);
+                // Tasks might have been added after the last poll
+                schedule();
+            }
+        }
+    }
+
+    /* RingBufferEventPublisher factory methods */
+
+    @NonNull
+    public static RingBufferEventPublisher newRingBufferPublisher(
+            final int capacity,
+            final RingBufferEventPublisher.@NonNull ProducerType producerType,
+            final @NonNull WaitStrategy waitStrategy) {
+        return newRingBufferPublisher(capacity, producerType, waitStrategy, 1,
+                newDaemonThreadFactory("eventbus-ring-consumer-"), newPolymorphicPublisher());
+    }
+
+    /**
+     * Returns a publisher storing events in a ring buffer of
+     * {@code capacity} slots, which is drained by {@code consumerCount}
+     * threads created by {@code threadFactory}, that dispatch the events
+     * through the synchronous {@code delegate}. The consumer threads are
+     * started immediately and run until the publisher is closed.
+     *
+     * @throws IllegalArgumentException if {@code capacity} is not a
+     *                                  positive power of two
+     */
+    @NonNull
+    public static RingBufferEventPublisher newRingBufferPublisher(
+            final int capacity,
+            final RingBufferEventPublisher.@NonNull ProducerType producerType,
+            final @NonNull WaitStrategy waitStrategy,
+            final int consumerCount,
+            final @NonNull ThreadFactory threadFactory,
+            final @NonNull IndexedEventPublisher delegate) {
+        Preconditions.checkArgument(capacity > 0 && (capacity & capacity - 1) == 0,
+                "Capacity must be a positive power of two");
+        Preconditions.checkArgument(consumerCount > 0, "Consumer count must be positive");
+        Preconditions.checkNotNull(producerType);
+        Preconditions.checkNotNull(waitStrategy);
+        Preconditions.checkNotNull(threadFactory);
+        Preconditions.checkNotNull(delegate);
+        return new RingBufferPublisher(capacity, producerType, waitStrategy,
+                consumerCount, threadFactory, delegate);
+    }
+
+    @NonNull
+    private static ThreadFactory newDaemonThreadFactory(@NonNull String prefix) {
+        final AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /* RingBufferEventPublisher default implementation */
+
+    /**
+     * Ring buffer, whose slots carry a sequence telling producers and
+     * consumers whether a slot is free or published for a given position,
+     * similar to a bounded queue of Dmitry Vyukov. A slot at position
+     * {@code p} is free if its sequence is {@code p} and published if its
+     * sequence is {@code p + 1}.
+     */
+    private static final class RingBufferPublisher implements RingBufferEventPublisher {
+
+        static final int SPIN_TRIES = 100;
+        static final int YIELD_TRIES = 200;
+
+        final RingBufferEventPublisher.@NonNull ProducerType producerType;
+        final @NonNull WaitStrategy waitStrategy;
+        final @NonNull IndexedEventPublisher delegate;
+        final @NonNull Slot @NonNull [] slots;
+        final int mask;
+
+        final AtomicLong producerCursor = new AtomicLong();
+        final AtomicLong consumerCursor = new AtomicLong();
+        final @NonNull Thread @NonNull [] consumers;
+
+        // Amount of consumers within the wait strategy, which publishers
+        // read after publishing, thus only signalling if any is waiting
+        final AtomicInteger waiting = new AtomicInteger();
+
+        volatile boolean running = true;
+
+        // Allocated once, as it is passed to the wait strategy repeatedly
+        final BooleanSupplier available = () -> !running || isAvailable();
+
+        public RingBufferPublisher(
+                int capacity,
+                RingBufferEventPublisher.@NonNull ProducerType producerType,
+                @NonNull WaitStrategy waitStrategy,
+                int consumerCount,
+                @NonNull ThreadFactory threadFactory,
+                @NonNull IndexedEventPublisher delegate) {
+            this.producerType = producerType;
+            this.waitStrategy = waitStrategy;
+            this.delegate = delegate;
+            this.slots = new Slot[capacity];
+            this.mask = capacity - 1;
+            for (int i = 0; i < capacity; ++i)
+                slots[i] = new Slot(i);
+            this.consumers = new Thread[consumerCount];
+            for (int i = 0; i < consumerCount; ++i)
+                consumers[i] = Preconditions.checkNotNull(threadFactory.newThread(this::consume));
+            for (Thread consumer : consumers)
+                consumer.start();
+        }
+
+        @Override
+        public int getCapacity() {
+            return slots.length;
+        }
+
+        @Override
+        public int remainingCapacity() {
+            long used = producerCursor.get() - consumerCursor.get();
+            return (int) Math.max(0, slots.length - used);
+        }
+
+        @Override
+        public RingBufferEventPublisher.@NonNull ProducerType getProducerType() {
+            return producerType;
+        }
+
+        @Override
+        public @NonNull WaitStrategy getWaitStrategy() {
+            return waitStrategy;
+        }
+
+        @Override
+        public @NonNull Class<?> @NonNull [] getDispatchTypes(
+                @NonNull Class<? extends Event> eventType) {
+            return delegate.getDispatchTypes(eventType);
+        }
+
+        @Override
+        public void publish(@NonNull Event event,
+                            @NonNull ListenerHandle scope,
+                            @Nullable ErrorHandler errorHandler) {
+            Preconditions.checkNotNull(event);
+            Preconditions.checkNotNull(scope);
+            offer(event, null, scope, errorHandler, null);
+        }
+
+        @Override
+        public void publish(@NonNull Event event,
+                            @NonNull Subscription @NonNull [] subscriptions,
+                            @Nullable ErrorHandler errorHandler) {
+            Preconditions.checkNotNull(event);
+            Preconditions.checkNotNull(subscriptions);
+            // Resolved subscription arrays are never mutated, thus shareable
+            if (subscriptions.length != 0) offer(event, subscriptions, null, errorHandler, null);
+        }
+
+        @Override
+        public @NonNull CompletableFuture<Void> publishAsync(
+                @NonNull Event event,
+                @NonNull Subscription @NonNull [] subscriptions,
+                @Nullable ErrorHandler errorHandler) {
+            Preconditions.checkNotNull(event);
+            if (subscriptions.length == 0) return CompletableFuture.completedFuture(null);
+            CompletableFuture<Void> completion = new CompletableFuture<>();
+            offer(event, subscriptions, null, errorHandler, completion);
+            return completion;
+        }
+
+        @Override
+        public void close() {
+            running = false;
+            waitStrategy.signalAll();
+            boolean interrupted = false;
+            for (Thread consumer : consumers) {
+                // Consumers might close their own publisher from a subscriber
+                if (consumer == Thread.currentThread()) continue;
+                try {
+                    consumer.join();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) Thread.currentThread().interrupt();
+        }
+
+        private void offer(@NonNull Event event,
+                           @NonNull Subscription @Nullable [] subscriptions,
+                           @Nullable ListenerHandle scope,
+                           @Nullable ErrorHandler errorHandler,
+                           @Nullable CompletableFuture<Void> completion) {
+            if (!running) throw new IllegalStateException("Publisher is closed");
+            long position = claim();
+            Slot slot = slots[(int) position & mask];
+            slot.event = event;
+            slot.subscriptions = subscriptions;
+            slot.scope = scope;
+            slot.errorHandler = errorHandler;
+            slot.completion = completion;
+            // Publishes the slot to consumers, through the volatile write
+            slot.sequence = position + 1;
+            if (waiting.get() != 0) waitStrategy.signalAll();
+            // Consumers might have stopped between the check above and the
+            // claim, thus late publishers consume the remaining slots
+            if (!running) drain();
+        }
+
+        private long claim() {
+            if (producerType == RingBufferEventPublisher.ProducerType.SINGLE) {
+                long position = producerCursor.get();
+                Slot slot = slots[(int) position & mask];
+                for (int n = 0; slot.sequence != position; ++n) backoff(n);
+                producerCursor.lazySet(position + 1);
+                return position;
+            }
+            for (int n = 0; ; ) {
+                long position = producerCursor.get();
+                long difference = slots[(int) position & mask].sequence - position;
+                if (difference == 0) {
+                    if (producerCursor.compareAndSet(position, position + 1))
+                        return position;
+                } else if (difference < 0) {
+                    // The buffer is full, thus wait for consumers to free it
+                    backoff(n++);
+                }
+            }
+        }
+
+        private void consume() {
+            for (; ; ) {
+                if (tryConsume()) continue;
+                // Stops once closed and every claimed slot is consumed
+                if (!running && producerCursor.get() == consumerCursor.get()) return;
+                waiting.incrementAndGet();
+                try {
+                    waitStrategy.await(available);
+                } catch (InterruptedException e) {
+                    if (!running) return;
+                } finally {
+                    waiting.decrementAndGet();
+                }
+            }
+        }
+
+        private void drain() {
+            while (producerCursor.get() != consumerCursor.get()) {
+                // Slots might be claimed, but not yet published
+                if (!tryConsume()) Thread.onSpinWait();
+            }
+        }
+
+        // Returns false if the slot at the consumer cursor is not yet published
+        private boolean tryConsume() {
+            long position = consumerCursor.get();
+            Slot slot = slots[(int) position & mask];
+            long difference = slot.sequence - (position + 1);
+            if (difference < 0) return false;
+            // Other consumers might have consumed the slot already
+            if (difference > 0 || !consumerCursor.compareAndSet(position, position + 1))
+                return true;
+            Event event = slot.event;
+            Subscription[] subscriptions = slot.subscriptions;
+            ListenerHandle scope = slot.scope;
+            ErrorHandler errorHandler = slot.errorHandler;
+            CompletableFuture<Void> completion = slot.completion;
+            slot.clear();
+            // Frees the slot for the next cycle of the buffer
+            slot.sequence = position + slots.length;
+            dispatch(delegate, event, subscriptions, scope, errorHandler, completion);
+            return true;
+        }
+
+        private boolean isAvailable() {
+            long position = consumerCursor.get();
+            return slots[(int) position & mask].sequence - (position + 1) >= 0;
+        }
+
+        private static void backoff(int tries) {
+            if (tries < SPIN_TRIES) Thread.onSpinWait();
+            else if (tries < YIELD_TRIES) Thread.yield();
+            else LockSupport.parkNanos(1000L);
+        }
+
+        private static final class Slot {
+            volatile long sequence;
+
+            // Guarded by the publication through `sequence`
+            Event event;
+            Subscription[] subscriptions;
+            ListenerHandle scope;
+            ErrorHandler errorHandler;
+            CompletableFuture<Void> completion;
+
+            Slot(long sequence) {
+                this.sequence = sequence;
+            }
+
+            void clear() {
+                event = null;
+                subscriptions = null;
+                scope = null;
+                errorHandler = null;
+                completion = null;
+            }
+        }
+    }
+
+    /* KeyedEventPublisher factory methods */
+
+    @NonNull
+    public static KeyedEventPublisher newKeyedPublisher(
+            final int laneCount,
+            final int laneCapacity,
+            final @NonNull Function<? super Event, ?> keyExtractor) {
+        return newKeyedPublisher(laneCount, laneCapacity, keyExtractor, OverflowPolicy.BLOCK,
+                newDaemonThreadFactory("eventbus-lane-"), newPolymorphicPublisher());
+    }
+
+    /**
+     * Returns a publisher partitioning events onto {@code laneCount} lanes
+     * by the key {@code keyExtractor} returns for them. Every lane queues
+     * up to {@code laneCapacity} events and is drained by its own thread
+     * created by {@code threadFactory}, that dispatches the events through
+     * the synchronous {@code delegate}. The lane threads are started
+     * immediately and run until the publisher is closed.
+     */
+    @NonNull
+    public static KeyedEventPublisher newKeyedPublisher(
+            final int laneCount,
+            final int laneCapacity,
+            final @NonNull Function<? super Event, ?> keyExtractor,
+            final @NonNull OverflowPolicy overflowPolicy,
+            final @NonNull ThreadFactory threadFactory,
+            final @NonNull IndexedEventPublisher delegate) {
+        Preconditions.checkArgument(laneCount > 0, "Lane count must be positive");
+        Preconditions.checkArgument(laneCapacity > 0, "Lane capacity must be positive");
+        Preconditions.checkArgument(overflowPolicy != OverflowPolicy.COALESCE,
+                "Lanes cannot coalesce events");
+        Preconditions.checkNotNull(keyExtractor);
+        Preconditions.checkNotNull(threadFactory);
+        Preconditions.checkNotNull(delegate);
+        return new KeyedPublisher(laneCount, laneCapacity, keyExtractor,
+                overflowPolicy, threadFactory, delegate);
+    }
+
+    /* KeyedEventPublisher default implementation */
+
+    /**
+     * Rejects an event published into a full queue, by passing a
+     * {@code RejectedExecutionException} to {@code errorHandler} for every
+     * subscriber missing the event. If no handler is given, the exception
+     * completes {@code completion} exceptionally, or is thrown if no
+     * completion is given either.
+     */
+    private static void reject(@NonNull String message,
+                               @NonNull Subscription @Nullable [] subscriptions,
+                               @Nullable ListenerHandle scope,
+                               EventPublisher.@Nullable ErrorHandler errorHandler,
+                               @Nullable CompletableFuture<Void> completion) {
+        RejectedExecutionException e = new RejectedExecutionException(message);
+        if (errorHandler == null) {
+            if (completion == null) throw e;
+            completion.completeExceptionally(e);
+            return;
+        }
+        if (subscriptions == null) {
+            errorHandler.handle(e, Preconditions.checkNotNull(scope), null);
+        } else {
+            for (Subscription sub : subscriptions)
+                errorHandler.handle(e, sub.getScope(), sub.getSubscriber());
+        }
+        if (completion != null) completion.complete(null);
+    }
+
+    /**
+     * Dispatches {@code event} through {@code delegate} and completes
+     * {@code completion} once done. Failures without an error handler
+     * complete {@code completion} exceptionally, or are passed to the
+     * uncaught exception handler if no completion is given, so that
+     * dispatching threads survive them.
+     */
+    private static void dispatch(@NonNull IndexedEventPublisher delegate,
+                                 @NonNull Event event,
+                                 @NonNull Subscription @Nullable [] subscriptions,
+                                 @Nullable ListenerHandle scope,
+                                 EventPublisher.@Nullable ErrorHandler errorHandler,
+                                 @Nullable CompletableFuture<Void> completion) {
+        try {
+            if (subscriptions != null)
+                delegate.publish(event, subscriptions, errorHandler);
+            else if (scope != null)
+                delegate.publish(event, scope, errorHandler);
+        } catch (Throwable t) {
+            if (completion == null) handleUncaught(t);
+            else completion.completeExceptionally(t);
+            return;
+        }
+        if (completion != null) completion.complete(null);
+    }
+
+    private static final class KeyedPublisher implements KeyedEventPublisher {
+
+        final int laneCapacity;
+        final @NonNull Function<? super Event, ?> keyExtractor;
+        final @NonNull OverflowPolicy overflowPolicy;
+        final @NonNull IndexedEventPublisher delegate;
+        final @NonNull Lane @NonNull [] lanes;
+
+        public KeyedPublisher(
+                int laneCount,
+                int laneCapacity,
+                @NonNull Function<? super Event, ?> keyExtractor,
+                @NonNull OverflowPolicy overflowPolicy,
+                @NonNull ThreadFactory threadFactory,
+                @NonNull IndexedEventPublisher delegate) {
+            this.laneCapacity = laneCapacity;
+            this.keyExtractor = keyExtractor;
+            this.overflowPolicy = overflowPolicy;
+            this.delegate = delegate;
+            this.lanes = new Lane[laneCount];
+            for (int i = 0; i < laneCount; ++i)
+                lanes[i] = new Lane(i, threadFactory);
+            for (Lane lane : lanes)
+                lane.thread.start();
+        }
+
+        @Override
+        public int getLaneCount() {
+            return lanes.length;
+        }
+
+        @Override
+        public int getLaneCapacity() {
+            return laneCapacity;
+        }
+
+        @Override
+        public @NonNull OverflowPolicy getOverflowPolicy() {
+            return overflowPolicy;
+        }
+
+        @Override
+        public int getLane(@NonNull Event event) {
+            Object key = keyExtractor.apply(Preconditions.checkNotNull(event));
+            if (key == null) return 0;
+            int hash = key.hashCode();
+            // Spreads the higher bits, as keys might only differ in those
+            return Math.floorMod(hash ^ (hash >>> 16), lanes.length);
+        }
+
+        @Override
+        public int getQueueDepth(int lane) {
+            return lanes[lane].size();
+        }
+
+        @Override
+        public long getDropCount(int lane) {
+            return lanes[lane].dropped.sum();
+        }
+
+        @Override
+        public @NonNull Class<?> @NonNull [] getDispatchTypes(
+                @NonNull Class<? extends Event> eventType) {
+            return delegate.getDispatchTypes(eventType);
+        }
+
+        @Override
+        public void publish(@NonNull Event event,
+                            @NonNull ListenerHandle scope,
+                            @Nullable ErrorHandler errorHandler) {
+            Preconditions.checkNotNull(event);
+            Preconditions.checkNotNull(scope);
+            offer(new Task(event, null, scope, errorHandler, null));
+        }
+
+        @Override
+        public void publish(@NonNull Event event,
+                            @NonNull Subscription @NonNull [] subscriptions,
+                            @Nullable ErrorHandler errorHandler) {
+            Preconditions.checkNotNull(event);
+            Preconditions.checkNotNull(subscriptions);
+            // Resolved subscription arrays are never mutated, thus shareable
+            if (subscriptions.length != 0)
+                offer(new Task(event, subscriptions, null, errorHandler, null));
+        }
+
+        @Override
+        public @NonNull CompletableFuture<Void> publishAsync(
+                @NonNull Event event,
+                @NonNull Subscription @NonNull [] subscriptions,
+                @Nullable ErrorHandler errorHandler) {
+            Preconditions.checkNotNull(event);
+            if (subscriptions.length == 0) return CompletableFuture.completedFuture(null);
+            CompletableFuture<Void> completion = new CompletableFuture<>();
+            offer(new Task(event, subscriptions, null, errorHandler, completion));
+            return completion;
+        }
+
+        @Override
+        public void close() {
+            // Offers either complete before their lane is closed, and are
+            // thus drained, or fail as they are coordinated by its monitor
+            for (Lane lane : lanes)
+                lane.close();
+            boolean interrupted = false;
+            for (Lane lane : lanes) {
+                // Lanes might close their own publisher from a subscriber
+                if (lane.thread == Thread.currentThread()) continue;
+                try {
+                    lane.thread.join();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) Thread.currentThread().interrupt();
+        }
+
+        private void offer(@NonNull Task task) {
+            lanes[getLane(task.event)].offer(task);
+        }
+
+        private final class Lane {
+            final int index;
+            final @NonNull LongAdder dropped = new LongAdder();
+            final @NonNull Thread thread;
+
+            // Guarded by the monitor of this lane
+            final @NonNull ArrayDeque<Task> queue;
+            boolean closed;
+            // Amount of threads waiting on the monitor, being either the lane
+            // or blocked publishers, as the queue is never empty and full
+            int waiting;
+
+            Lane(int index, @NonNull ThreadFactory threadFactory) {
+                this.index = index;
+                this.queue = new ArrayDeque<>(laneCapacity);
+                this.thread = Preconditions.checkNotNull(threadFactory.newThread(this::drain));
+            }
+
+            synchronized int size() {
+                return queue.size();
+            }
+
+            void offer(@NonNull Task task) {
+                String rejected = null;
+                // Task dropped by this offer, whose completion is settled as well
+                Task discarded = null;
+                synchronized (this) {
+                    if (closed) throw new IllegalStateException("Publisher is closed");
+                    if (queue.size() >= laneCapacity) {
+                        switch (overflowPolicy) {
+                            case BLOCK:
+                                // Lanes would otherwise wait for themselves,
+                                // thus the task is rejected rather than lost
+                                if (thread == Thread.currentThread())
+                                    rejected = "Lane " + index + " cannot wait for itself";
+                                else if (!awaitCapacity())
+                                    rejected = "Interrupted while waiting for lane capacity";
+                                break;
+                            case DROP_NEWEST:
+                                discarded = task;
+                                break;
+                            case DROP_OLDEST:
+                                discarded = queue.poll();
+                                break;
+                            default:
+                                rejected = "Lane " + index + " is full";
                         }
                     }
-                    try {
-                        // If `event` is not passable to `s`, skip iteration
-                        if (!s.isCallablePassingEvent(event)) continue;
-                        ((EventSubscriber) s).call(scope, event);
-                    } catch (Throwable t) {
-                        if (errorHandler == null)
-                            throw new RuntimeException(t);
-                        // If given, use handler's exception handling
-                        errorHandler.handle(t, scope, s);
+                    if (discarded != null) dropped.increment();
+                    if (rejected == null && discarded != task) {
+                        queue.add(task);
+                        if (waiting != 0) notifyAll();
                     }
                 }
-                // Continue iterating the inheritance tree if enabled
-                if (!polymorphic) break;
-                Class<?> spr = eventType.getSuperclass();
-                if (spr == Event.class || spr == Object.class) break;
-                eventType = (Class<? extends Event>) spr;
+                // Error handlers and completions are called outside of the monitor
+                if (rejected != null) {
+                    reject(rejected, task.subscriptions,
+                            task.scope, task.errorHandler, task.completion);
+                } else if (discarded != null && discarded.completion != null) {
+                    discarded.completion.complete(null);
+                }
             }
-        };
+
+            // Returns false if the publishing thread was interrupted
+            private boolean awaitCapacity() {
+                ++waiting;
+                try {
+                    while (!closed && queue.size() >= laneCapacity) wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                } finally {
+                    --waiting;
+                }
+                if (closed) throw new IllegalStateException("Publisher is closed");
+                return true;
+            }
+
+            synchronized void close() {
+                closed = true;
+                notifyAll();
+            }
+
+            void drain() {
+                for (; ; ) {
+                    Task task;
+                    synchronized (this) {
+                        // Closed lanes still drain every task offered before
+                        while (queue.isEmpty()) {
+                            if (closed) return;
+                            ++waiting;
+                            try {
+                                wait();
+                            } catch (InterruptedException e) {
+                                // Lanes only ever stop once closed
+                            } finally {
+                                --waiting;
+                            }
+                        }
+                        task = queue.poll();
+                        if (waiting != 0) notifyAll();
+                    }
+                    dispatch(delegate, task.event, task.subscriptions,
+                            task.scope, task.errorHandler, task.completion);
+                }
+            }
+        }
+
+        private static final class Task {
+            final Event event;
+            final Subscription[] subscriptions;
+            final ListenerHandle scope;
+            final ErrorHandler errorHandler;
+            final CompletableFuture<Void> completion;
+
+            Task(@NonNull Event event,
+                 @NonNull Subscription @Nullable [] subscriptions,
+                 @Nullable ListenerHandle scope,
+                 @Nullable ErrorHandler errorHandler,
+                 @Nullable CompletableFuture<Void> completion) {
+                this.event = event;
+                this.subscriptions = subscriptions;
+                this.scope = scope;
+                this.errorHandler = errorHandler;
+                this.completion = completion;
+            }
+        }
+    }
+
+    /* MailboxEventPublisher factory methods */
+
+    @NonNull
+    public static MailboxEventPublisher newMailboxPublisher(
+            final @NonNull Executor executor,
+            final int mailboxCapacity,
+            final @NonNull OverflowPolicy overflowPolicy) {
+        return newMailboxPublisher(executor, mailboxCapacity,
+                overflowPolicy, newPolymorphicPublisher());
+    }
+
+    @NonNull
+    public static MailboxEventPublisher newMailboxPublisher(
+            final @NonNull Executor executor,
+            final int mailboxCapacity,
+            final @NonNull OverflowPolicy overflowPolicy,
+            final @NonNull IndexedEventPublisher delegate) {
+        return newMailboxPublisher(executor, mailboxCapacity, overflowPolicy, false, delegate);
+    }
+
+    /**
+     * Returns a mailbox publisher, that replaces queued events with newer
+     * events of the same type and conflation key.
+     *
+     * @see io.github.aparx.eventbus.ConflatedEvent
+     */
+    @NonNull
+    public static MailboxEventPublisher newConflatingPublisher(
+            final @NonNull Executor executor,
+            final int mailboxCapacity,
+            final @NonNull OverflowPolicy overflowPolicy) {
+        return newMailboxPublisher(executor, mailboxCapacity,
+                overflowPolicy, true, newPolymorphicPublisher());
+    }
+
+    /**
+     * Returns a publisher queueing events into a mailbox of up to
+     * {@code mailboxCapacity} events per listener, that is drained on
+     * {@code executor} through the synchronous {@code delegate}. Events
+     * published into a full mailbox are handled according to
+     * {@code overflowPolicy}, whereas conflated events are replaced before
+     * if {@code conflating} is true.
+     */
+    @NonNull
+    public static MailboxEventPublisher newMailboxPublisher(
+            final @NonNull Executor executor,
+            final int mailboxCapacity,
+            final @NonNull OverflowPolicy overflowPolicy,
+            final boolean conflating,
+            final @NonNull IndexedEventPublisher delegate) {
+        Preconditions.checkArgument(mailboxCapacity > 0, "Mailbox capacity must be positive");
+        Preconditions.checkNotNull(executor);
+        Preconditions.checkNotNull(overflowPolicy);
+        Preconditions.checkNotNull(delegate);
+        return new MailboxPublisher(executor, mailboxCapacity,
+                overflowPolicy, conflating, delegate);
+    }
+
+    /* MailboxEventPublisher default implementation */
+
+    private static final class MailboxPublisher implements MailboxEventPublisher {
+
+        // Maximum amount of events drained per task, so that a busy
+        // mailbox does not starve other mailboxes sharing the executor
+        static final int DRAIN_BATCH = 64;
+
+        final @NonNull Executor executor;
+        final int mailboxCapacity;
+        final @NonNull OverflowPolicy overflowPolicy;
+        final boolean conflating;
+        final @NonNull IndexedEventPublisher delegate;
+
+        final @NonNull Map<ListenerHandle, Mailbox> mailboxes
+                = Collections.synchronizedMap(new WeakHashMap<>());
+        final @NonNull LongAdder dropped = new LongAdder();
+        final @NonNull LongAdder conflated = new LongAdder();
+
+        volatile boolean running = true;
+
+        public MailboxPublisher(
+                @NonNull Executor executor,
+                int mailboxCapacity,
+                @NonNull OverflowPolicy overflowPolicy,
+                boolean conflating,
+                @NonNull IndexedEventPublisher delegate) {
+            this.executor = executor;
+            this.mailboxCapacity = mailboxCapacity;
+            this.overflowPolicy = overflowPolicy;
+            this.conflating = conflating;
+            this.delegate = delegate;
+        }
+
+        @Override
+        public @NonNull Executor getExecutor() {
+            return executor;
+        }
+
+        @Override
+        public int getMailboxCapacity() {
+            return mailboxCapacity;
+        }
+
+        @Override
+        public @NonNull OverflowPolicy getOverflowPolicy() {
+            return overflowPolicy;
+        }
+
+        @Override
+        public boolean isConflating() {
+            return conflating;
+        }
+
+        @Override
+        public int getQueueDepth(@NonNull ListenerHandle scope) {
+            Mailbox mailbox = mailboxes.get(Preconditions.checkNotNull(scope));
+            return mailbox != null ? mailbox.size() : 0;
+        }
+
+        @Override
+        public long getDropCount(@NonNull ListenerHandle scope) {
+            Mailbox mailbox = mailboxes.get(Preconditions.checkNotNull(scope));
+            return mailbox != null ? mailbox.dropped.sum() : 0;
+        }
+
+        @Override
+        public long getDropCount() {
+            return dropped.sum();
+        }
+
+        @Override
+        public long getConflationCount() {
+            return conflated.sum();
+        }
+
+        @Override
+        public @NonNull Class<?> @NonNull [] getDispatchTypes(
+                @NonNull Class<? extends Event> eventType) {
+            return delegate.getDispatchTypes(eventType);
+        }
+
+        @Override
+        public void publish(@NonNull Event event,
+                            @NonNull ListenerHandle scope,
+                            @Nullable ErrorHandler errorHandler) {
+            Preconditions.checkNotNull(event);
+            Preconditions.checkNotNull(scope);
+            Letter letter = new Letter(event, null, scope, errorHandler, keyOf(event), null);
+            mailboxOf(scope).offer(letter);
+        }
+
+        @Override
+        public void publish(@NonNull Event event,
+                            @NonNull Subscription @NonNull [] subscriptions,
+                            @Nullable ErrorHandler errorHandler) {
+            Preconditions.checkNotNull(event);
+            if (subscriptions.length != 0) offer(event, subscriptions, errorHandler, false);
+        }
+
+        @Override
+        public @NonNull CompletableFuture<Void> publishAsync(
+                @NonNull Event event,
+                @NonNull Subscription @NonNull [] subscriptions,
+                @Nullable ErrorHandler errorHandler) {
+            Preconditions.checkNotNull(event);
+            if (subscriptions.length == 0) return CompletableFuture.completedFuture(null);
+            return Preconditions.checkNotNull(offer(event, subscriptions, errorHandler, true));
+        }
+
+        @Override
+        public void close() {
+            running = false;
+            List<Mailbox> snapshot;
+            synchronized (mailboxes) {
+                snapshot = new ArrayList<>(mailboxes.values());
+            }
+            boolean interrupted = false;
+            for (Mailbox mailbox : snapshot) {
+                try {
+                    mailbox.awaitIdle();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) Thread.currentThread().interrupt();
+        }
+
+        /**
+         * Offers a letter of {@code event} to the mailbox of every scope of
+         * {@code subscriptions}, returning a future of all letters if
+         * {@code complete} is true, or null otherwise.
+         */
+        @Nullable
+        private CompletableFuture<Void> offer(@NonNull Event event,
+                                              @NonNull Subscription @NonNull [] subscriptions,
+                                              @Nullable ErrorHandler errorHandler,
+                                              boolean complete) {
+            ConflationKey key = keyOf(event);
+            // Groups subscriptions by their scope, keeping their order
+            Map<ListenerHandle, List<Subscription>> groups = new LinkedHashMap<>();
+            for (Subscription sub : subscriptions)
+                groups.computeIfAbsent(sub.getScope(), k -> new ArrayList<>()).add(sub);
+            CompletableFuture<?>[] futures
+                    = complete ? new CompletableFuture<?>[groups.size()] : null;
+            int index = 0;
+            for (Map.Entry<ListenerHandle, List<Subscription>> e : groups.entrySet()) {
+                Subscription[] group = e.getValue().toArray(new Subscription[0]);
+                CompletableFuture<Void> completion = complete ? new CompletableFuture<>() : null;
+                if (futures != null) futures[index++] = completion;
+                mailboxOf(e.getKey()).offer(
+                        new Letter(event, group, e.getKey(), errorHandler, key, completion));
+            }
+            return futures != null ? CompletableFuture.allOf(futures) : null;
+        }
+
+        @NonNull
+        private Mailbox mailboxOf(@NonNull ListenerHandle scope) {
+            return mailboxes.computeIfAbsent(scope, k -> new Mailbox());
+        }
+
+        @Nullable
+        private ConflationKey keyOf(@NonNull Event event) {
+            if (!(conflating || overflowPolicy == OverflowPolicy.COALESCE)
+                    || !(event instanceof ConflatedEvent)) return null;
+            Object key = ((ConflatedEvent) event).getConflationKey();
+            return new ConflationKey(event.getClass(), Preconditions.checkNotNull(key));
+        }
+
+        /**
+         * Bounded queue of the events of a single listener, draining at
+         * most one batch at a time on the executor of the publisher.
+         */
+        private final class Mailbox {
+
+            // Guarded by the monitor of this mailbox
+            final @NonNull ArrayDeque<Letter> letters = new ArrayDeque<>();
+            final @NonNull Map<ConflationKey, Letter> pending = new HashMap<>();
+            boolean scheduled;
+
+            final @NonNull LongAdder dropped = new LongAdder();
+
+            volatile @Nullable Thread drainer;
+
+            synchronized int size() {
+                return letters.size();
+            }
+
+            void offer(@NonNull Letter letter) {
+                String rejected = null;
+                boolean schedule = false;
+                // Letter dropped or replaced by this offer, whose completion
+                // is settled as well, being `letter` itself if not added
+                Letter discarded = null;
+                synchronized (this) {
+                    if (!running) throw new IllegalStateException("Publisher is closed");
+                    // Conflated letters never grow the mailbox, thus never overflow
+                    if (conflating && letter.key != null && conflate(letter)) {
+                        discarded = letter;
+                    } else if (letters.size() >= mailboxCapacity) {
+                        if (overflowPolicy == OverflowPolicy.FAIL) {
+                            rejected = "Mailbox is full";
+                        } else if (overflowPolicy == OverflowPolicy.BLOCK) {
+                            // Draining threads would otherwise wait for themselves,
+                            // thus the letter is rejected rather than lost
+                            if (drainer == Thread.currentThread())
+                                rejected = "Mailbox is full and cannot wait for its drainer";
+                            else if (!awaitCapacity())
+                                rejected = "Interrupted while waiting for mailbox capacity";
+                        } else {
+                            discarded = overflow(letter);
+                        }
+                    }
+                    if (rejected == null && discarded != letter) {
+                        letters.add(letter);
+                        if (letter.key != null) pending.put(letter.key, letter);
+                        schedule = !scheduled;
+                        scheduled = true;
+                    }
+                }
+                // Error handlers and completions are called outside of the monitor
+                if (rejected != null) {
+                    reject(rejected, letter.subscriptions,
+                            letter.scope, letter.errorHandler, letter.completion);
+                    return;
+                }
+                if (discarded != null && discarded.completion != null)
+                    discarded.completion.complete(null);
+                if (schedule) schedule();
+            }
+
+            // Returns false if the publishing thread was interrupted
+            private boolean awaitCapacity() {
+                try {
+                    while (running && letters.size() >= mailboxCapacity) wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+                if (!running) throw new IllegalStateException("Publisher is closed");
+                return true;
+            }
+
+            private boolean conflate(@NonNull Letter letter) {
+                Letter queued = pending.get(letter.key);
+                if (queued == null) return false;
+                queued.replace(letter);
+                MailboxPublisher.this.conflated.increment();
+                return true;
+            }
+
+            @Nullable
+            private Letter poll() {
+                Letter letter = letters.poll();
+                if (letter != null && letter.key != null) pending.remove(letter.key, letter);
+                return letter;
+            }
+
+            // Returns the letter discarded by the overflow, being `letter`
+            // itself if it is not to be added
+            @NonNull
+            private Letter overflow(@NonNull Letter letter) {
+                drop();
+                switch (overflowPolicy) {
+                    case DROP_OLDEST:
+                        return Preconditions.checkNotNull(poll());
+                    case COALESCE:
+                        // Only letters of equal type and conflation key are replaced
+                        Letter queued = letter.key != null ? pending.get(letter.key) : null;
+                        if (queued != null) {
+                            queued.replace(letter);
+                            return letter;
+                        }
+                        return Preconditions.checkNotNull(poll());
+                    default:
+                        // Drops the published letter, as of `DROP_NEWEST`
+                        return letter;
+                }
+            }
+
+            private void drop() {
+                dropped.increment();
+                MailboxPublisher.this.dropped.increment();
+            }
+
+            private void schedule() {
+                try {
+                    executor.execute(this::drain);
+                } catch (RuntimeException e) {
+                    synchronized (this) {
+                        scheduled = false;
+                        notifyAll();
+                    }
+                    throw e;
+                }
+            }
+
+            private void drain() {
+                drainer = Thread.currentThread();
+                try {
+                    for (int n = 0; n < DRAIN_BATCH; ++n) {
+                        Event event;
+                        Subscription[] subscriptions;
+                        ListenerHandle scope;
+                        ErrorHandler errorHandler;
+                        CompletableFuture<Void> completion;
+                        synchronized (this) {
+                            Letter letter = poll();
+                            if (letter == null) {
+                                scheduled = false;
+                                notifyAll();
+                                return;
+                            }
+                            // Letters might be replaced while queued
+                            event = letter.event;
+                            subscriptions = letter.subscriptions;
+                            scope = letter.scope;
+                            errorHandler = letter.errorHandler;
+                            completion = letter.completion;
+                            if (overflowPolicy == OverflowPolicy.BLOCK) notifyAll();
+                        }
+                        dispatch(delegate, event, subscriptions, scope, errorHandler, completion);
+                    }
+                } finally {
+                    drainer = null;
+                }
+                // Remaining letters are drained behind other pending tasks
+                schedule();
+            }
+
+            synchronized void awaitIdle() throws InterruptedException {
+                // Mailboxes might close their own publisher from a subscriber
+                while ((scheduled || !letters.isEmpty()) && drainer != Thread.currentThread())
+                    wait();
+            }
+        }
+
+        private static final class Letter {
+            // Guarded by the monitor of the mailbox containing this letter
+            Event event;
+            Subscription[] subscriptions;
+            ListenerHandle scope;
+            ErrorHandler errorHandler;
+            ConflationKey key;
+            CompletableFuture<Void> completion;
+
+            Letter(@NonNull Event event,
+                   @NonNull Subscription @Nullable [] subscriptions,
+                   @NonNull ListenerHandle scope,
+                   @Nullable ErrorHandler errorHandler,
+                   @Nullable ConflationKey key,
+                   @Nullable CompletableFuture<Void> completion) {
+                this.event = event;
+                this.subscriptions = subscriptions;
+                this.scope = scope;
+                this.errorHandler = errorHandler;
+                this.key = key;
+                this.completion = completion;
+            }
+
+            /**
+             * Replaces this letter with {@code letter}, whereas the completions
+             * of both are swapped, so that {@code letter} carries the completion
+             * of the replaced event.
+             */
+            void replace(@NonNull Letter letter) {
+                event = letter.event;
+                subscriptions = letter.subscriptions;
+                scope = letter.scope;
+                errorHandler = letter.errorHandler;
+                key = letter.key;
+                CompletableFuture<Void> replaced = completion;
+                completion = letter.completion;
+                letter.completion = replaced;
+            }
+        }
+
+        /**
+         * Key of pending letters, as events of different types only conflate
+         * if both their type and their conflation key are equal.
+         */
+        private static final class ConflationKey {
+            final @NonNull Class<?> type;
+            final @NonNull Object key;
+
+            ConflationKey(@NonNull Class<?> type, @NonNull Object key) {
+                this.type = type;
+                this.key = key;
+            }
+
+            @Override
+            public boolean equals(Object o) {
+                if (this == o) return true;
+                if (!(o instanceof ConflationKey)) return false;
+                ConflationKey that = (ConflationKey) o;
+                return type == that.type && key.equals(that.key);
+            }
+
+            @Override
+            public int hashCode() {
+                return 31 * type.hashCode() + key.hashCode();
+            }
+        }
     }
 
     /* SubscriberCollector factory methods */
@@ -109,28 +1549,44 @@ public final class EventProcessors {
     }
 
     private static SubscriberCollection<?, ?> newTypeErasedSubscriberCollection() {
-        return SubscriberCollections.newOfMultimapFactory(
-                SubscriberCollections.MultimapFactory.newUnsortedHashset());
+        // Listeners usually only subscribe to few event types
+        return SubscriberCollections.newCompact();
     }
 
     @NonNull
     @SuppressWarnings("unchecked")
     public static <T extends Event>
-    SubscriberCollector<ClassMemberEventSubscriber<T, Method>> newDefaultMethodCollector() {
+    CachingSubscriberCollector<ClassMemberEventSubscriber<T, Method>> newDefaultMethodCollector() {
         var fp = (EventMethodDeducer<? super T>) EventMethodDeducer.FIRST_PARAMETER;
         return newDefaultMethodCollector(fp, null);
     }
 
     @NonNull
     public static <T extends Event>
-    SubscriberCollector<ClassMemberEventSubscriber<T, Method>> newDefaultMethodCollector(
+    CachingSubscriberCollector<ClassMemberEventSubscriber<T, Method>> newCompiledMethodCollector() {
+        return newCompiledMethodCollector(null);
+    }
+
+    @NonNull
+    @SuppressWarnings("unchecked")
+    public static <T extends Event>
+    CachingSubscriberCollector<ClassMemberEventSubscriber<T, Method>> newCompiledMethodCollector(
+            final @Nullable Collection<? extends Predicate<Method>> filters) {
+        // Uses compiled invokers instead of reflectively invoking methods
+        var cp = (EventMethodDeducer<? super T>) EventMethodDeducer.COMPILED_FIRST_PARAMETER;
+        return newDefaultMethodCollector(cp, filters);
+    }
+
+    @NonNull
+    public static <T extends Event>
+    CachingSubscriberCollector<ClassMemberEventSubscriber<T, Method>> newDefaultMethodCollector(
             final @NonNull EventMethodDeducer<? super T> methodDeducer) {
         return newDefaultMethodCollector(methodDeducer, null);
     }
 
     @NonNull
     public static <T extends Event>
-    SubscriberCollector<ClassMemberEventSubscriber<T, Method>> newDefaultMethodCollector(
+    CachingSubscriberCollector<ClassMemberEventSubscriber<T, Method>> newDefaultMethodCollector(
             final @NonNull EventMethodDeducer<? super T> methodDeducer,
             final @Nullable Collection<? extends Predicate<Method>> filters) {
         return newDefaultMethodCollector(getCollectionFactory(), methodDeducer, filters);
@@ -138,7 +1594,7 @@ public final class EventProcessors {
 
     @NonNull
     public static <T extends Event>
-    SubscriberCollector<ClassMemberEventSubscriber<T, Method>> newDefaultMethodCollector(
+    CachingSubscriberCollector<ClassMemberEventSubscriber<T, Method>> newDefaultMethodCollector(
             final @NonNull Supplier<@NonNull SubscriberCollection<
                     ? super T, ClassMemberEventSubscriber<T, Method>>> collectionFactory,
             final @NonNull EventMethodDeducer<? super T> methodDeducer,
@@ -153,7 +1609,7 @@ public final class EventProcessors {
     @NonNull
     @SuppressWarnings("unchecked")
     public static <T extends Event, E extends ClassMemberEventSubscriber<T, Method>>
-    SubscriberCollector<E> newMethodCollector(
+    CachingSubscriberCollector<E> newMethodCollector(
             final @NonNull Supplier<@NonNull SubscriberCollection<? super T, E>> collectionFactory,
             final @NonNull MethodSubscriberFactory<T, ? extends E> subscriberFactory,
             final @Nullable Collection<? extends Predicate<Method>> filters) {
@@ -163,7 +1619,7 @@ public final class EventProcessors {
 
     @NonNull
     public static <T extends Event, E extends ClassMemberEventSubscriber<T, Method>>
-    SubscriberCollector<E> newMethodCollector(
+    CachingSubscriberCollector<E> newMethodCollector(
             final @NonNull EventMethodDeducer<? super T> methodDeducer,
             final @NonNull MethodSubscriberFactory<T, ? extends E> subscriberFactory,
             final @Nullable Collection<? extends Predicate<Method>> filters) {
@@ -175,7 +1631,7 @@ public final class EventProcessors {
 
     @NonNull
     public static <T extends Event, E extends ClassMemberEventSubscriber<T, Method>>
-    SubscriberCollector<E> newMethodCollector(
+    CachingSubscriberCollector<E> newMethodCollector(
             final @NonNull Supplier<@NonNull SubscriberCollection<? super T, E>> collectionFactory,
             final @NonNull EventMethodDeducer<? super T> methodDeducer,
             final @NonNull MethodSubscriberFactory<T, ? extends E> subscriberFactory,
@@ -183,12 +1639,85 @@ public final class EventProcessors {
         Preconditions.checkNotNull(collectionFactory);
         Preconditions.checkNotNull(methodDeducer);
         Preconditions.checkNotNull(subscriberFactory);
-        return listener -> {
-            final Function<Method, ? extends EventCallback<? super T>>
-                    pNewEventCallback = methodDeducer::newEventCallback;
+        return new MethodCollector<>(collectionFactory, methodDeducer, subscriberFactory, filters);
+    }
+
+    private static class MethodCollector<
+            T extends Event,
+            E extends ClassMemberEventSubscriber<T, Method>>
+            implements CachingSubscriberCollector<E> {
+
+        final @NonNull Supplier<@NonNull SubscriberCollection<? super T, E>> collectionFactory;
+        final @NonNull EventMethodDeducer<? super T> methodDeducer;
+        final @NonNull MethodSubscriberFactory<T, ? extends E> subscriberFactory;
+        final @Nullable Collection<? extends Predicate<Method>> filters;
+
+        final LongAdder requestCount = new LongAdder();
+        final LongAdder missCount = new LongAdder();
+        final LongAdder invalidationCount = new LongAdder();
+
+        // Replaced as a whole, whenever all templates are invalidated
+        volatile @NonNull ClassValue<List<E>> templates = newTemplateCache();
+
+        public MethodCollector(
+                @NonNull Supplier<@NonNull SubscriberCollection<? super T, E>> collectionFactory,
+                @NonNull EventMethodDeducer<? super T> methodDeducer,
+                @NonNull MethodSubscriberFactory<T, ? extends E> subscriberFactory,
+                @Nullable Collection<? extends Predicate<Method>> filters) {
+            this.collectionFactory = collectionFactory;
+            this.methodDeducer = methodDeducer;
+            this.subscriberFactory = subscriberFactory;
+            this.filters = filters;
+        }
+
+        @Override
+        public @NonNull SubscriberCollection<?, E> collect(@NonNull Listener listener) {
             SubscriberCollection<?, E> out = collectionFactory.get();
             Preconditions.checkNotNull(out);
-            Class<? extends Listener> type = listener.getClass();
+            requestCount.increment();
+            // Binds `listener` to the subscribers shared across its class
+            List<E> template = templates.get(listener.getClass());
+            for (int i = 0, n = template.size(); i < n; ++i)
+                out.add(template.get(i));
+            return out;
+        }
+
+        @Override
+        public @NonNull SubscriberCacheStats getCacheStats() {
+            long misses = missCount.sum();
+            return new SubscriberCacheStats(Math.max(0, requestCount.sum() - misses),
+                    misses, invalidationCount.sum());
+        }
+
+        @Override
+        public void invalidate(@NonNull Class<? extends Listener> type) {
+            Preconditions.checkNotNull(type);
+            templates.remove(type);
+            invalidationCount.increment();
+        }
+
+        @Override
+        public void invalidateAll() {
+            templates = newTemplateCache();
+            invalidationCount.increment();
+        }
+
+        @NonNull
+        private ClassValue<List<E>> newTemplateCache() {
+            return new ClassValue<>() {
+                @Override
+                protected List<E> computeValue(Class<?> type) {
+                    missCount.increment();
+                    return analyze(type);
+                }
+            };
+        }
+
+        @NonNull
+        private List<E> analyze(@NonNull Class<?> type) {
+            final Function<Method, ? extends EventCallback<? super T>>
+                    pNewEventCallback = methodDeducer::newEventCallback;
+            List<E> out = new ArrayList<>();
             l0:
             for (Method method : type.getDeclaredMethods()) {
                 if (!methodDeducer.isEventMethod(method)) continue;
@@ -201,8 +1730,129 @@ public final class EventProcessors {
                 out.add(EventSubscribers.newFactoredMethodSubscriber(methodDeducer,
                         pNewEventCallback, method, subscriberFactory));
             }
+            return Collections.unmodifiableList(out);
+        }
+    }
+
+    /* SubscriberCollector freezing implementation */
+
+    /**
+     * Returns a collector freezing every collection collected by
+     * {@code delegate}, so that lookups during publish neither lock nor
+     * allocate. Handles of the returned collector cannot be mutated.
+     *
+     * @see SubscriberCollections#freeze(SubscriberCollection)
+     */
+    @NonNull
+    public static <E extends EventSubscriber<?>>
+    CachingSubscriberCollector<E> newFrozenCollector(
+            final @NonNull CachingSubscriberCollector<E> delegate) {
+        Preconditions.checkNotNull(delegate);
+        return new FrozenCollector<>(delegate);
+    }
+
+    private static class FrozenCollector<E extends EventSubscriber<?>>
+            implements CachingSubscriberCollector<E> {
+
+        final @NonNull CachingSubscriberCollector<E> delegate;
+
+        public FrozenCollector(@NonNull CachingSubscriberCollector<E> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        public @NonNull SubscriberCollection<?, E> collect(@NonNull Listener listener) {
+            return SubscriberCollections.freeze((SubscriberCollection) delegate.collect(listener));
+        }
+
+        @Override
+        public @NonNull SubscriberCacheStats getCacheStats() {
+            return delegate.getCacheStats();
+        }
+
+        @Override
+        public void invalidate(@NonNull Class<? extends Listener> type) {
+            delegate.invalidate(type);
+        }
+
+        @Override
+        public void invalidateAll() {
+            delegate.invalidateAll();
+        }
+    }
+
+    /* SubscriberCollector index consulting implementation */
+
+    @NonNull
+    public static CachingSubscriberCollector<EventSubscriber<?>> newIndexedCollector() {
+        return newIndexedCollector(newCompiledMethodCollector());
+    }
+
+    /**
+     * Returns a collector using the generated {@code SubscriberIndex} of a
+     * listener class if available, which does not require any reflective
+     * analysis of that class. Classes without an index are collected by
+     * {@code fallback} instead.
+     */
+    @NonNull
+    public static CachingSubscriberCollector<EventSubscriber<?>> newIndexedCollector(
+            final @NonNull CachingSubscriberCollector<?> fallback) {
+        Preconditions.checkNotNull(fallback);
+        return new IndexedCollector(getCollectionFactory(), fallback);
+    }
+
+    private static class IndexedCollector
+            implements CachingSubscriberCollector<EventSubscriber<?>> {
+
+        final @NonNull Supplier<@NonNull SubscriberCollection<
+                ? super Event, EventSubscriber<?>>> collectionFactory;
+        final @NonNull CachingSubscriberCollector<?> fallback;
+
+        final LongAdder indexedCount = new LongAdder();
+
+        public IndexedCollector(
+                @NonNull Supplier<@NonNull SubscriberCollection<
+                        ? super Event, EventSubscriber<?>>> collectionFactory,
+                @NonNull CachingSubscriberCollector<?> fallback) {
+            this.collectionFactory = collectionFactory;
+            this.fallback = fallback;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public @NonNull SubscriberCollection<?, EventSubscriber<?>> collect(
+                @NonNull Listener listener) {
+            SubscriberIndex<?> index = SubscriberIndexes.find(listener.getClass());
+            if (index == null)
+                return (SubscriberCollection<?, EventSubscriber<?>>) fallback.collect(listener);
+            SubscriberCollection<?, EventSubscriber<?>> out = collectionFactory.get();
+            Preconditions.checkNotNull(out);
+            indexedCount.increment();
+            // Binds `listener` to the subscribers shared across its class
+            List<? extends EventSubscriber<?>> template = index.getSubscribers();
+            for (int i = 0, n = template.size(); i < n; ++i)
+                out.add(template.get(i));
             return out;
-        };
+        }
+
+        @Override
+        public @NonNull SubscriberCacheStats getCacheStats() {
+            // Indexed classes never miss, as they are analyzed at compile time
+            SubscriberCacheStats stats = fallback.getCacheStats();
+            return new SubscriberCacheStats(stats.hitCount() + indexedCount.sum(),
+                    stats.missCount(), stats.invalidationCount());
+        }
+
+        @Override
+        public void invalidate(@NonNull Class<? extends Listener> type) {
+            fallback.invalidate(type);
+        }
+
+        @Override
+        public void invalidateAll() {
+            fallback.invalidateAll();
+        }
     }
 
 }
@@ -34,5 +34,15 @@ public interface EventPublisher {
         void handle(@NonNull Throwable thrown,
                     @NonNull ListenerHandle scope,
                     @Nullable EventSubscriber<?> sub);
+
+        /**
+         * Handles all failures of a published batch at once, after the
+         * entire batch has been published. By default, every failure is
+         * passed to {@link #handle(Throwable, ListenerHandle, EventSubscriber)}.
+         */
+        default void handleBatch(@NonNull BatchPublishException exception) {
+            for (BatchPublishException.Failure failure : exception.getFailures())
+                handle(failure.getCause(), failure.getScope(), failure.getSubscriber());
+        }
     }
 }
\ No newline at end of file
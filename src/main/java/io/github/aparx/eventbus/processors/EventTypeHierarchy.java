@@ -0,0 +1,71 @@
+package io.github.aparx.eventbus.processors;
+
+import com.google.common.base.Preconditions;
+import io.github.aparx.eventbus.Event;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Class {@code EventTypeHierarchy} is representing a class providing the
+ * flattened and ordered types, an event of a concrete type is dispatched
+ * to by polymorphic publishers.
+ * <p>The hierarchy of a type consists of the type itself and all of its
+ * superclasses from the most to the least specific, followed by every
+ * interface implemented by any of these classes in breadth-first order of
+ * their declaration. Neither {@link Event} nor {@link Object} are part of
+ * any hierarchy, as they are the roots of every event.
+ * <p>Hierarchies are computed once per type and cached weakly alongside
+ * the type, thus a lookup never walks the type hierarchy reflectively
+ * again.
+ *
+ * @author aparx (Vinzent Zeband)
+ * @version 19:18 CET, 18.10.2026
+ * @see EventProcessors#newPolymorphicPublisher()
+ * @since 1.0
+ */
+public final class EventTypeHierarchy {
+
+    private static final ClassValue<Class<?>[]> HIERARCHY_CACHE = new ClassValue<>() {
+        @Override
+        protected Class<?>[] computeValue(Class<?> type) {
+            return computeHierarchy(type);
+        }
+    };
+
+    private EventTypeHierarchy() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Returns the cached hierarchy of {@code eventType}. The returned array
+     * is shared and must not be mutated.
+     */
+    @NonNull
+    public static Class<?> @NonNull [] of(@NonNull Class<? extends Event> eventType) {
+        return HIERARCHY_CACHE.get(Preconditions.checkNotNull(eventType));
+    }
+
+    @NonNull
+    private static Class<?> @NonNull [] computeHierarchy(@NonNull Class<?> eventType) {
+        Set<Class<?>> types = new LinkedHashSet<>();
+        Deque<Class<?>> interfaces = new ArrayDeque<>();
+        for (Class<?> type = eventType; type != null; type = type.getSuperclass()) {
+            if (type == Event.class || type == Object.class) break;
+            types.add(type);
+            Collections.addAll(interfaces, type.getInterfaces());
+        }
+        // Interfaces are visited breadth-first, including super interfaces
+        while (!interfaces.isEmpty()) {
+            Class<?> type = interfaces.poll();
+            if (types.add(type))
+                Collections.addAll(interfaces, type.getInterfaces());
+        }
+        return types.toArray(new Class<?>[0]);
+    }
+
+}
@@ -0,0 +1,40 @@
+package io.github.aparx.eventbus.processors;
+
+import io.github.aparx.eventbus.Event;
+import io.github.aparx.eventbus.audience.Subscription;
+import io.github.aparx.eventbus.audience.SubscriptionIndex;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Event processor extending {@code EventPublisher} with the ability to
+ * publish an {@code Event} instance to a flat array of subscriptions,
+ * usually precomputed by a {@code SubscriptionIndex}.
+ * <p>An {@code EventBus} using an indexed publisher is not required to
+ * visit every registered {@code ListenerHandle} on publish, as the index
+ * already resolved all subscriptions accepting a given event type. The
+ * types the index resolves to are defined by the publisher through
+ * {@link #getDispatchTypes(Class)}.
+ *
+ * @author aparx (Vinzent Zeband)
+ * @version 19:12 CET, 18.10.2026
+ * @see EventPublisher
+ * @see SubscriptionIndex
+ * @see EventProcessors
+ * @since 1.0
+ */
+public interface IndexedEventPublisher extends EventPublisher {
+
+    /**
+     * Returns the ordered event types, whose subscribers are meant to
+     * receive an event of given type. The returned array must not be
+     * mutated.
+     */
+    @NonNull Class<?> @NonNull [] getDispatchTypes(
+            @NonNull Class<? extends Event> eventType);
+
+    void publish(@NonNull Event event,
+                 @NonNull Subscription @NonNull [] subscriptions,
+                 @Nullable ErrorHandler errorHandler);
+
+}
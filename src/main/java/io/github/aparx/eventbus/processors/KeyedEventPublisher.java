@@ -0,0 +1,66 @@
+package io.github.aparx.eventbus.processors;
+
+import io.github.aparx.eventbus.Event;
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.index.qual.Positive;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.jetbrains.annotations.Contract;
+
+/**
+ * Event processor extending {@code DeferredEventPublisher}, that partitions
+ * published events onto a fixed amount of lanes by a key extracted from
+ * every event.
+ * <p>Every lane consists of a bounded queue, which is drained by a single
+ * dedicated thread dispatching to the actual subscribers. Events of equal
+ * key are always published onto the same lane, thus they are dispatched
+ * in the order they have been published, whereas events of different
+ * keys are dispatched in parallel across lanes. Events without a key are
+ * published onto the first lane.
+ * <p>If the queue of a lane is full, the published event is handled
+ * according to the {@link OverflowPolicy} of the publisher. Exceptions
+ * thrown by subscribers are passed to the given {@code ErrorHandler}, or
+ * to the uncaught exception handler of the lane thread if no handler and
+ * no future is given.
+ * <p>Standard implementations are specified in {@link EventProcessors}.
+ *
+ * @author aparx (Vinzent Zeband)
+ * @version 19:53 CET, 18.10.2026
+ * @see OverflowPolicy
+ * @see EventProcessors
+ * @since 1.0
+ */
+public interface KeyedEventPublisher extends DeferredEventPublisher, AutoCloseable {
+
+    @Positive
+    @Contract(pure = true)
+    int getLaneCount();
+
+    @Positive
+    @Contract(pure = true)
+    int getLaneCapacity();
+
+    @NonNull
+    @Contract(pure = true)
+    OverflowPolicy getOverflowPolicy();
+
+    /** Returns the index of the lane {@code event} is published onto. */
+    @NonNegative
+    int getLane(@NonNull Event event);
+
+    /** Returns the amount of events currently queued on {@code lane}. */
+    @NonNegative
+    int getQueueDepth(@NonNegative int lane);
+
+    /** Returns the amount of events that {@code lane} has dropped so far. */
+    @NonNegative
+    long getDropCount(@NonNegative int lane);
+
+    /**
+     * Rejects any further events and waits until every lane has
+     * dispatched the events published before. Events published
+     * concurrently to closing might not be dispatched.
+     */
+    @Override
+    void close();
+
+}
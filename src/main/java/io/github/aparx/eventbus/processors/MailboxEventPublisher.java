@@ -0,0 +1,78 @@
+package io.github.aparx.eventbus.processors;
+
+import io.github.aparx.eventbus.ConflatedEvent;
+import io.github.aparx.eventbus.audience.ListenerHandle;
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.index.qual.Positive;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.jetbrains.annotations.Contract;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Event processor extending {@code DeferredEventPublisher}, that queues
+ * published events into a bounded mailbox per listener, which is drained
+ * asynchronously on an {@code Executor}.
+ * <p>Every listener receives events in the order they were published,
+ * whereas different listeners are called in parallel. Since mailboxes
+ * are bounded, a slow listener never lets its mailbox grow indefinitely.
+ * Instead, events published into a full mailbox are handled according to
+ * the {@link OverflowPolicy} of the publisher, without affecting the
+ * mailboxes of any other listener. Exceptions thrown by subscribers are
+ * passed to the given {@code ErrorHandler}, or to the uncaught exception
+ * handler of the draining thread if no handler and no future is given.
+ * <p>Conflating publishers replace a queued {@link ConflatedEvent} with
+ * a newer event of the same type and conflation key in place, before the
+ * overflow policy is ever applied. Slow listeners thus only receive the
+ * latest state of every key, at the position of the replaced event.
+ * <p>Standard implementations are specified in {@link EventProcessors}.
+ *
+ * @author aparx (Vinzent Zeband)
+ * @version 19:58 CET, 18.10.2026
+ * @see OverflowPolicy
+ * @see ConflatedEvent
+ * @see EventProcessors
+ * @since 1.0
+ */
+public interface MailboxEventPublisher extends DeferredEventPublisher, AutoCloseable {
+
+    @NonNull
+    @Contract(pure = true)
+    Executor getExecutor();
+
+    @Positive
+    @Contract(pure = true)
+    int getMailboxCapacity();
+
+    @NonNull
+    @Contract(pure = true)
+    OverflowPolicy getOverflowPolicy();
+
+    @Contract(pure = true)
+    boolean isConflating();
+
+    /** Returns the amount of events currently queued for {@code scope}. */
+    @NonNegative
+    int getQueueDepth(@NonNull ListenerHandle scope);
+
+    /** Returns the amount of events the mailbox of {@code scope} dropped. */
+    @NonNegative
+    long getDropCount(@NonNull ListenerHandle scope);
+
+    /** Returns the amount of events all mailboxes have dropped so far. */
+    @NonNegative
+    long getDropCount();
+
+    /** Returns the amount of events all mailboxes have conflated so far. */
+    @NonNegative
+    long getConflationCount();
+
+    /**
+     * Rejects any further events and waits until every mailbox has been
+     * drained. Events published concurrently to closing might not be
+     * dispatched.
+     */
+    @Override
+    void close();
+
+}
@@ -0,0 +1,54 @@
+package io.github.aparx.eventbus.processors;
+
+/**
+ * Enumeration of the behaviours of a bounded queue, when an event is
+ * published into it while it is full.
+ * <p>Events that are dropped are counted by the publisher owning the
+ * queue, but are never passed to any subscriber or error handler.
+ *
+ * @author aparx (Vinzent Zeband)
+ * @version 19:53 CET, 18.10.2026
+ * @see KeyedEventPublisher
+ * @see MailboxEventPublisher
+ * @since 1.0
+ */
+public enum OverflowPolicy {
+
+    /**
+     * The publishing thread waits until the queue has room for the event,
+     * thus slow subscribers slow down their publishers. If the waiting
+     * thread is interrupted, the event is rejected equally to
+     * {@link #FAIL}, while the interrupt status of the thread is kept.
+     * Events published by the thread dispatching the full queue itself are
+     * rejected as well, as that thread cannot wait for itself.
+     */
+    BLOCK,
+
+    /** The published event is dropped, keeping every queued event. */
+    DROP_NEWEST,
+
+    /**
+     * The oldest queued event is dropped, to make room for the published
+     * event. Subscribers thus only ever miss outdated events.
+     */
+    DROP_OLDEST,
+
+    /**
+     * A published {@link io.github.aparx.eventbus.ConflatedEvent} replaces
+     * the queued event of the same type and conflation key in place, thus
+     * keeping the position of the replaced event. If no such event is
+     * queued, or the published event is not conflated, the oldest queued
+     * event is dropped instead, equally to {@link #DROP_OLDEST}. This
+     * policy is only supported by mailboxes.
+     */
+    COALESCE,
+
+    /**
+     * The published event is rejected with a
+     * {@link java.util.concurrent.RejectedExecutionException}, which is
+     * passed to the error handler of the publish, or thrown to the
+     * publishing thread if no handler is given.
+     */
+    FAIL
+
+}
@@ -0,0 +1,74 @@
+package io.github.aparx.eventbus.processors;
+
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.index.qual.Positive;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.jetbrains.annotations.Contract;
+
+/**
+ * Event processor extending {@code DeferredEventPublisher}, that publishes
+ * events into a preallocated ring buffer, which is drained by dedicated
+ * consumer threads dispatching to the actual subscribers.
+ * <p>Publishing only claims a slot of the buffer and stores the event in
+ * it, thus no task or other object is allocated per event. If the buffer
+ * is full, the publishing thread waits until a slot is freed. Idle
+ * consumers wait for events according to the {@link WaitStrategy} of the
+ * publisher.
+ * <p>A single consumer dispatches events in the order they have been
+ * published, whereas multiple consumers dispatch events in parallel and
+ * in no defined order. Exceptions thrown by subscribers are passed to the
+ * given {@code ErrorHandler}, or to the uncaught exception handler of the
+ * consumer thread if no handler and no future is given.
+ * <p>Standard implementations are specified in {@link EventProcessors}.
+ *
+ * @author aparx (Vinzent Zeband)
+ * @version 19:33 CET, 18.10.2026
+ * @see WaitStrategy
+ * @see EventProcessors
+ * @since 1.0
+ */
+public interface RingBufferEventPublisher extends DeferredEventPublisher, AutoCloseable {
+
+    @Positive
+    @Contract(pure = true)
+    int getCapacity();
+
+    @NonNegative
+    int remainingCapacity();
+
+    @NonNull
+    @Contract(pure = true)
+    ProducerType getProducerType();
+
+    @NonNull
+    @Contract(pure = true)
+    WaitStrategy getWaitStrategy();
+
+    /**
+     * Rejects any further events and waits until the consumers have
+     * dispatched every event published before. Events published
+     * concurrently to closing might not be dispatched.
+     */
+    @Override
+    void close();
+
+    /**
+     * Enumeration of the producers a ring buffer is prepared for.
+     */
+    enum ProducerType {
+
+        /**
+         * Events are only ever published by one thread at a time, thus
+         * slots are claimed without any atomic read-modify-write.
+         */
+        SINGLE,
+
+        /**
+         * Events are published by any amount of threads concurrently,
+         * thus slots are claimed through compare-and-set.
+         */
+        MULTI
+
+    }
+
+}
@@ -0,0 +1,62 @@
+package io.github.aparx.eventbus.processors;
+
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.jetbrains.annotations.Contract;
+
+/**
+ * Immutable snapshot of the statistics of a
+ * {@code CachingSubscriberCollector}.
+ *
+ * @author aparx (Vinzent Zeband)
+ * @version 19:15 CET, 18.10.2026
+ * @see CachingSubscriberCollector
+ * @since 1.0
+ */
+public final class SubscriberCacheStats {
+
+    private final @NonNegative long hitCount;
+    private final @NonNegative long missCount;
+    private final @NonNegative long invalidationCount;
+
+    public SubscriberCacheStats(
+            @NonNegative long hitCount,
+            @NonNegative long missCount,
+            @NonNegative long invalidationCount) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.invalidationCount = invalidationCount;
+    }
+
+    @Contract(pure = true)
+    public @NonNegative long hitCount() {
+        return hitCount;
+    }
+
+    @Contract(pure = true)
+    public @NonNegative long missCount() {
+        return missCount;
+    }
+
+    @Contract(pure = true)
+    public @NonNegative long invalidationCount() {
+        return invalidationCount;
+    }
+
+    @Contract(pure = true)
+    public @NonNegative long requestCount() {
+        return hitCount + missCount;
+    }
+
+    @Contract(pure = true)
+    public double hitRate() {
+        long requests = requestCount();
+        return requests == 0 ? 1.0 : (double) hitCount / requests;
+    }
+
+    @Override
+    public String toString() {
+        return "SubscriberCacheStats{hitCount=" + hitCount
+                + ", missCount=" + missCount
+                + ", invalidationCount=" + invalidationCount + "}";
+    }
+}
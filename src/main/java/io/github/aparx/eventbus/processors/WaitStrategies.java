@@ -0,0 +1,123 @@
+package io.github.aparx.eventbus.processors;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Class {@code WaitStrategies} is representing a class of default
+ * {@code WaitStrategy} implementations and factory methods for those.
+ * <p>Busy spinning provides the lowest latency, while occupying a core
+ * per consumer. Yielding gives other threads the chance to run, and
+ * blocking parks consumers until an event is published, at the cost of
+ * signalling waiting consumers on publish.
+ *
+ * @author aparx (Vinzent Zeband)
+ * @version 19:33 CET, 18.10.2026
+ * @see WaitStrategy
+ * @since 1.0
+ */
+public final class WaitStrategies {
+
+    private static final WaitStrategy BUSY_SPIN = new BusySpinStrategy();
+
+    private static final WaitStrategy YIELDING = new YieldingStrategy();
+
+    private WaitStrategies() {
+        throw new AssertionError();
+    }
+
+    @NonNull
+    public static WaitStrategy busySpin() {
+        return BUSY_SPIN;
+    }
+
+    @NonNull
+    public static WaitStrategy yielding() {
+        return YIELDING;
+    }
+
+    @NonNull
+    public static WaitStrategy blocking() {
+        // Every instance guards its own consumers
+        return new BlockingStrategy();
+    }
+
+    /* WaitStrategy default implementations */
+
+    private static class BusySpinStrategy implements WaitStrategy {
+
+        @Override
+        public void await(@NonNull BooleanSupplier available) throws InterruptedException {
+            while (!available.getAsBoolean()) {
+                if (Thread.interrupted()) throw new InterruptedException();
+                Thread.onSpinWait();
+            }
+        }
+
+        @Override
+        public void signalAll() {
+        }
+    }
+
+    private static class YieldingStrategy implements WaitStrategy {
+
+        static final int SPIN_TRIES = 100;
+
+        @Override
+        public void await(@NonNull BooleanSupplier available) throws InterruptedException {
+            for (int n = 0; !available.getAsBoolean(); ++n) {
+                if (Thread.interrupted()) throw new InterruptedException();
+                // Spins shortly before giving up the time slice
+                if (n < SPIN_TRIES) Thread.onSpinWait();
+                else Thread.yield();
+            }
+        }
+
+        @Override
+        public void signalAll() {
+        }
+    }
+
+    private static class BlockingStrategy implements WaitStrategy {
+
+        final ReentrantLock lock = new ReentrantLock();
+        final Condition published = lock.newCondition();
+        final AtomicInteger waiters = new AtomicInteger();
+
+        @Override
+        public void await(@NonNull BooleanSupplier available) throws InterruptedException {
+            if (available.getAsBoolean()) return;
+            lock.lock();
+            try {
+                // Registering before checking again ensures, that either
+                // this consumer sees the event or the publisher sees it
+                waiters.incrementAndGet();
+                try {
+                    while (!available.getAsBoolean())
+                        published.await();
+                } finally {
+                    waiters.decrementAndGet();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public void signalAll() {
+            // Publishers only acquire the lock if any consumer is waiting
+            if (waiters.get() == 0) return;
+            lock.lock();
+            try {
+                published.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+}
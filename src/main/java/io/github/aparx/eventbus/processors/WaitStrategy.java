@@ -0,0 +1,32 @@
+package io.github.aparx.eventbus.processors;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.function.BooleanSupplier;
+
+/**
+ * Strategy defining how idle consumers of a {@code RingBufferEventPublisher}
+ * wait for events to be published.
+ * <p>Standard implementations are specified in {@link WaitStrategies}.
+ *
+ * @author aparx (Vinzent Zeband)
+ * @version 19:33 CET, 18.10.2026
+ * @see WaitStrategies
+ * @see RingBufferEventPublisher
+ * @since 1.0
+ */
+public interface WaitStrategy {
+
+    /**
+     * Waits until {@code available} returns true. Implementations might
+     * return earlier, thus callers have to check for availability again.
+     */
+    void await(@NonNull BooleanSupplier available) throws InterruptedException;
+
+    /**
+     * Wakes up all consumers waiting within {@link #await(BooleanSupplier)},
+     * which is called after a published event if any consumer is waiting.
+     */
+    void signalAll();
+
+}
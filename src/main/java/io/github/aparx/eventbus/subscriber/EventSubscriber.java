@@ -3,6 +3,9 @@ package io.github.aparx.eventbus.subscriber;
 import com.google.common.base.Preconditions;
 import com.google.errorprone.annotations.CompatibleWith;
 import io.github.aparx.eventbus.Event;
+import io.github.aparx.eventbus.RoutedEvent;
+import io.github.aparx.eventbus.TopicEvent;
+import io.github.aparx.eventbus.audience.TopicTrie;
 import io.github.aparx.eventbus.subscriber.EventCallback;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -14,13 +17,51 @@ import org.jetbrains.annotations.Contract;
  * @since 1.0
  */
 public abstract class EventSubscriber<T extends Event>
-        implements EventCallback<T>, Comparable<T> {
+        implements EventCallback<T>, Comparable<EventSubscriber<?>> {
+
+    public static final int DEFAULT_PRIORITY = 0;
 
     @NonNull
     private final Class<? extends T> eventType;
 
+    private final int priority;
+
+    private final boolean receiveCancelled;
+
+    @Nullable
+    private final String topic;
+
+    @Nullable
+    private final RoutingCondition condition;
+
     public EventSubscriber(@NonNull Class<? extends T> eventType) {
+        this(eventType, DEFAULT_PRIORITY, false);
+    }
+
+    public EventSubscriber(@NonNull Class<? extends T> eventType, boolean receiveCancelled) {
+        this(eventType, DEFAULT_PRIORITY, receiveCancelled);
+    }
+
+    public EventSubscriber(@NonNull Class<? extends T> eventType,
+                           int priority, boolean receiveCancelled) {
+        this(eventType, priority, receiveCancelled, null);
+    }
+
+    public EventSubscriber(@NonNull Class<? extends T> eventType,
+                           int priority, boolean receiveCancelled,
+                           @Nullable String topic) {
+        this(eventType, priority, receiveCancelled, topic, null);
+    }
+
+    public EventSubscriber(@NonNull Class<? extends T> eventType,
+                           int priority, boolean receiveCancelled,
+                           @Nullable String topic,
+                           @Nullable RoutingCondition condition) {
         this.eventType = Preconditions.checkNotNull(eventType);
+        this.priority = priority;
+        this.receiveCancelled = receiveCancelled;
+        this.topic = topic != null ? TopicTrie.checkPattern(topic) : null;
+        this.condition = condition;
     }
 
     @Contract("null->false")
@@ -32,8 +73,76 @@ public abstract class EventSubscriber<T extends Event>
         return eventType;
     }
 
+    /**
+     * Returns the priority of this subscriber, whereas subscribers with a
+     * higher priority are called before subscribers with a lower one. The
+     * priority must not change, as it is used to order subscribers once
+     * they are registered.
+     */
+    public int getPriority() {
+        return priority;
+    }
+
+    /**
+     * Returns true if this subscriber is called for events, that have
+     * already been cancelled by a previous subscriber. Otherwise, such
+     * events are skipped for this subscriber.
+     *
+     * @see io.github.aparx.eventbus.Cancellable
+     */
+    public boolean isReceivingCancelled() {
+        return receiveCancelled;
+    }
+
+    /**
+     * Returns the topic pattern of this subscriber, or null if this
+     * subscriber is called regardless of the topic of an event. A
+     * subscriber with a topic pattern is only called for events that
+     * are published on a matching topic.
+     *
+     * @see io.github.aparx.eventbus.TopicEvent
+     */
+    public final @Nullable String getTopic() {
+        return topic;
+    }
+
+    /**
+     * Returns true if this subscriber is called for {@code event}
+     * regarding its topic pattern, without considering its event type.
+     */
+    public final boolean isMatchingTopic(@NonNull Event event) {
+        if (topic == null) return true;
+        if (!(event instanceof TopicEvent)) return false;
+        String eventTopic = ((TopicEvent) event).getTopic();
+        return eventTopic != null && TopicTrie.matches(topic, eventTopic);
+    }
+
+    /**
+     * Returns the condition on the attributes of events this subscriber
+     * is routed by, or null if this subscriber is called regardless of
+     * any attribute.
+     *
+     * @see io.github.aparx.eventbus.RoutedEvent
+     */
+    public final @Nullable RoutingCondition getCondition() {
+        return condition;
+    }
+
+    /**
+     * Returns true if {@code event} satisfies the routing condition of
+     * this subscriber, without considering its event type.
+     */
+    public final boolean isMatchingCondition(@NonNull Event event) {
+        if (condition == null) return true;
+        return event instanceof RoutedEvent && condition.test((RoutedEvent) event);
+    }
+
+    /**
+     * Compares this subscriber to {@code o} by their priority, whereas
+     * subscribers with a higher priority are ordered first.
+     */
     @Override
-    public int compareTo(@NonNull T o) {
-        return 0;
+    public int compareTo(@NonNull EventSubscriber<?> o) {
+        return Integer.compare(o.getPriority(), getPriority());
     }
 }
@@ -6,8 +6,11 @@ import io.github.aparx.eventbus.audience.ListenerHandle;
 import io.github.aparx.eventbus.subscriber.member.ClassMemberEventSubscriber;
 import io.github.aparx.eventbus.subscriber.member.EventMethodDeducer;
 import io.github.aparx.eventbus.subscriber.member.MethodSubscriberFactory;
+import io.github.aparx.eventbus.subscriber.member.SubscriberOptions;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Member;
 import java.lang.reflect.Method;
 import java.util.function.Function;
@@ -37,9 +40,52 @@ public final class EventSubscribers {
     EventSubscriber<T> newCallbackSubscriber(
             final @NonNull Class<? extends T> eventType,
             final @NonNull EventCallback<? super T> delegate) {
+        return newCallbackSubscriber(eventType, delegate, false);
+    }
+
+    @NonNull
+    public static <T extends Event>
+    EventSubscriber<T> newCallbackSubscriber(
+            final @NonNull Class<? extends T> eventType,
+            final @NonNull EventCallback<? super T> delegate,
+            final boolean receiveCancelled) {
+        return newCallbackSubscriber(eventType, delegate,
+                EventSubscriber.DEFAULT_PRIORITY, receiveCancelled);
+    }
+
+    @NonNull
+    public static <T extends Event>
+    EventSubscriber<T> newCallbackSubscriber(
+            final @NonNull Class<? extends T> eventType,
+            final @NonNull EventCallback<? super T> delegate,
+            final int priority,
+            final boolean receiveCancelled) {
+        return newCallbackSubscriber(eventType, delegate, priority, receiveCancelled, null);
+    }
+
+    @NonNull
+    public static <T extends Event>
+    EventSubscriber<T> newCallbackSubscriber(
+            final @NonNull Class<? extends T> eventType,
+            final @NonNull EventCallback<? super T> delegate,
+            final int priority,
+            final boolean receiveCancelled,
+            final @Nullable String topic) {
+        return newCallbackSubscriber(eventType, delegate, priority, receiveCancelled, topic, null);
+    }
+
+    @NonNull
+    public static <T extends Event>
+    EventSubscriber<T> newCallbackSubscriber(
+            final @NonNull Class<? extends T> eventType,
+            final @NonNull EventCallback<? super T> delegate,
+            final int priority,
+            final boolean receiveCancelled,
+            final @Nullable String topic,
+            final @Nullable RoutingCondition condition) {
         // Allocates a new anonymous callback subscriber implementation
         Preconditions.checkNotNull(delegate);
-        return new EventSubscriber<>(eventType) {
+        return new EventSubscriber<>(eventType, priority, receiveCancelled, topic, condition) {
             @Override
             public void call(ListenerHandle origin, T event) throws Throwable {
                 delegate.call(origin, event);
@@ -57,8 +103,15 @@ public final class EventSubscribers {
             final @NonNull V member) {
         Preconditions.checkNotNull(delegate);
         Preconditions.checkNotNull(member);
+        // Reads the optional attributes of the subscriber from `member`
+        SubscriberOptions options = member instanceof AnnotatedElement
+                ? ((AnnotatedElement) member).getAnnotation(SubscriberOptions.class)
+                : null;
+        int priority = options != null ? options.priority() : EventSubscriber.DEFAULT_PRIORITY;
+        boolean receiveCancelled = options != null && options.receiveCancelled();
+        String topic = options != null && !options.topic().isEmpty() ? options.topic() : null;
         // Allocates a new anonymous member subscriber implementation
-        return new ClassMemberEventSubscriber<>(eventType) {
+        return new ClassMemberEventSubscriber<>(eventType, priority, receiveCancelled, topic) {
             @Override
             public @NonNull V getMember() {
                 return member;
@@ -106,4 +159,20 @@ public final class EventSubscribers {
                 method);
     }
 
+    /**
+     * Returns a descriptive name of {@code subscriber}. Subscribers of class
+     * members are named after their declaring class and member, such as
+     * {@code com.example.MyListener#onEvent}, whereas other subscribers are
+     * named after their class and identity.
+     */
+    @NonNull
+    public static String nameOf(final @NonNull EventSubscriber<?> subscriber) {
+        if (subscriber instanceof ClassMemberEventSubscriber) {
+            Member member = ((ClassMemberEventSubscriber<?, ?>) subscriber).getMember();
+            return member.getDeclaringClass().getName() + "#" + member.getName();
+        }
+        return subscriber.getClass().getName() + "@"
+                + Integer.toHexString(System.identityHashCode(subscriber));
+    }
+
 }
@@ -0,0 +1,151 @@
+package io.github.aparx.eventbus.subscriber;
+
+import com.google.common.base.Preconditions;
+import io.github.aparx.eventbus.RoutedEvent;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.jetbrains.annotations.Contract;
+
+import java.util.Objects;
+
+/**
+ * Declarative condition on a single attribute of a {@code RoutedEvent},
+ * being either an equality to a value or a range of values.
+ * <p>Other than arbitrary predicates, conditions are indexed by the bus.
+ * Equality conditions are kept within a hash table of their values and
+ * range conditions are split into segments between their sorted bounds,
+ * thus the cost of routing an event only scales with the amount of
+ * matching conditions.
+ * <p>Values are compared by their {@code equals} method, thus an attribute
+ * of {@code 42L} does not equal a value of {@code 42}. Bounds of ranges on
+ * the same attribute must be mutually comparable, which is checked once
+ * the subscriber is registered. Attributes that are not comparable to the
+ * bounds of a range never satisfy it.
+ * <p>Conditions are only declared programmatically, such as by
+ * {@link EventSubscribers#newCallbackSubscriber}, since annotations
+ * cannot carry their typed values.
+ *
+ * @author aparx (Vinzent Zeband)
+ * @version 19:50 CET, 18.10.2026
+ * @see RoutedEvent
+ * @see EventSubscriber#getCondition()
+ * @since 1.0
+ */
+public final class RoutingCondition {
+
+    @NonNull
+    private final String attribute;
+
+    // Equality value, or null if this is a range condition
+    @Nullable
+    private final Object value;
+
+    // Inclusive lower and exclusive upper bound, null being unbounded
+    @Nullable
+    private final Comparable<?> low, high;
+
+    private RoutingCondition(@NonNull String attribute, @Nullable Object value,
+                             @Nullable Comparable<?> low, @Nullable Comparable<?> high) {
+        this.attribute = Preconditions.checkNotNull(attribute);
+        this.value = value;
+        this.low = low;
+        this.high = high;
+    }
+
+    @NonNull
+    public static RoutingCondition equalTo(@NonNull String attribute, @NonNull Object value) {
+        Preconditions.checkNotNull(value);
+        return new RoutingCondition(attribute, value, null, null);
+    }
+
+    /**
+     * Returns a condition matching attributes within {@code low}
+     * (inclusive) and {@code high} (exclusive), whereas a null bound is
+     * unbounded.
+     */
+    @NonNull
+    public static <T extends Comparable<? super T>> RoutingCondition between(
+            @NonNull String attribute, @Nullable T low, @Nullable T high) {
+        return new RoutingCondition(attribute, null, low, high);
+    }
+
+    @NonNull
+    public static <T extends Comparable<? super T>> RoutingCondition atLeast(
+            @NonNull String attribute, @NonNull T low) {
+        return between(attribute, Preconditions.checkNotNull(low), null);
+    }
+
+    @NonNull
+    public static <T extends Comparable<? super T>> RoutingCondition below(
+            @NonNull String attribute, @NonNull T high) {
+        return between(attribute, null, Preconditions.checkNotNull(high));
+    }
+
+    @Contract(pure = true)
+    public @NonNull String getAttribute() {
+        return attribute;
+    }
+
+    @Contract(pure = true)
+    public boolean isRange() {
+        return value == null;
+    }
+
+    @Contract(pure = true)
+    public @Nullable Object getValue() {
+        return value;
+    }
+
+    @Contract(pure = true)
+    public @Nullable Comparable<?> getLow() {
+        return low;
+    }
+
+    @Contract(pure = true)
+    public @Nullable Comparable<?> getHigh() {
+        return high;
+    }
+
+    @Contract(pure = true)
+    public boolean test(@NonNull RoutedEvent event) {
+        return test(event.getAttribute(attribute));
+    }
+
+    @Contract(pure = true)
+    public boolean test(@Nullable Object attribute) {
+        if (attribute == null) return false;
+        if (value != null) return value.equals(attribute);
+        try {
+            return (low == null || compare(low, attribute) <= 0)
+                    && (high == null || compare(high, attribute) > 0);
+        } catch (ClassCastException e) {
+            return false;
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static int compare(@NonNull Comparable bound, @NonNull Object attribute) {
+        return bound.compareTo(attribute);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof RoutingCondition)) return false;
+        RoutingCondition that = (RoutingCondition) o;
+        return attribute.equals(that.attribute) && Objects.equals(value, that.value)
+                && Objects.equals(low, that.low) && Objects.equals(high, that.high);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(attribute, value, low, high);
+    }
+
+    @Override
+    public String toString() {
+        if (value != null) return attribute + " == " + value;
+        return attribute + " in [" + (low != null ? low : "-inf")
+                + ", " + (high != null ? high : "inf") + ")";
+    }
+}
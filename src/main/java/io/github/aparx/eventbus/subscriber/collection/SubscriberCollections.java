@@ -9,6 +9,9 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.function.Supplier;
 
 /**
@@ -21,6 +24,12 @@ public final class SubscriberCollections {
     private static final Set<?> EMPTY_SET
             = Collections.unmodifiableSet(new HashSet<>());
 
+    /**
+     * The default amount of event types, above which a compact collection
+     * indexes its groups within a hash table, rather than scanning them.
+     */
+    public static final int DEFAULT_HASH_THRESHOLD = 8;
+
     private SubscriberCollections() {
         throw new AssertionError();
     }
@@ -91,6 +100,56 @@ public final class SubscriberCollections {
     }
 
 
+    /* Compact SubscriberCollection factory methods */
+
+    @NonNull
+    public static <T extends Event, E extends EventSubscriber<? extends T>>
+    SubscriberCollection<T, E> newCompact() {
+        return newCompact(DEFAULT_HASH_THRESHOLD);
+    }
+
+    /**
+     * Returns a new collection storing its subscribers within plain
+     * arrays, one per event type, that are looked up by scanning the
+     * event types linearly. Once the collection contains more than
+     * {@code hashThreshold} event types, the groups are additionally
+     * indexed by their event type.
+     * <p>Subscribers are unique by their {@code equals} method, equally
+     * to a hashset multimap. The collection is safe for concurrent use,
+     * whereas groups and iterators are immutable snapshots.
+     */
+    @NonNull
+    public static <T extends Event, E extends EventSubscriber<? extends T>>
+    SubscriberCollection<T, E> newCompact(int hashThreshold) {
+        Preconditions.checkArgument(hashThreshold >= 0, "Threshold must be non-negative");
+        return new CompactCollection<>(hashThreshold);
+    }
+
+
+    /* Frozen SubscriberCollection factory methods */
+
+    /**
+     * Returns an immutable copy of {@code collection}, whose groups are
+     * read without taking any lock and without allocating a view. Every
+     * mutating operation throws an {@code UnsupportedOperationException}.
+     * Collections derived of the returned collection are mutable again.
+     * <p>This is usually used to freeze the collection of a listener once
+     * all of its subscribers are collected.
+     */
+    @NonNull
+    @SuppressWarnings("unchecked")
+    public static <T extends Event, E extends EventSubscriber<? extends T>>
+    SubscriberCollection<T, E> freeze(@NonNull SubscriberCollection<T, E> collection) {
+        Preconditions.checkNotNull(collection);
+        if (collection instanceof FrozenCollection) return collection;
+        ImmutableListMultimap.Builder<Class<? extends T>, E> builder
+                = ImmutableListMultimap.builder();
+        for (E subscriber : collection)
+            builder.put((Class<? extends T>) subscriber.getEventType(), subscriber);
+        return new FrozenCollection<>(builder.build());
+    }
+
+
     /**
      * Functional factory interface used to generically allocate new
      * {@code Multimap} instances based upon the types given.
@@ -102,6 +161,37 @@ public final class SubscriberCollections {
         MultimapFactory<?> UNSORTED_ARRAYLIST = MultimapFactory.typeErased(
                 () -> Multimaps.newListMultimap(new Hashtable<>(), ArrayList::new));
 
+        /**
+         * Preset of copy-on-write groups within a {@code ConcurrentHashMap}.
+         * Collections of this preset read their groups directly from that
+         * map, thus group lookups neither lock nor allocate, and iterate a
+         * snapshot that is unaffected by concurrent updates.
+         * <p>Updates, in turn, are not thread-safe with respect to each
+         * other, equally to every multimap of {@link Multimaps}, and must
+         * thus be serialized externally. This is usually the case, as
+         * collections are only filled once, when their listener is
+         * collected. Groups returned by lookups must not be mutated.
+         */
+        MultimapFactory<?> CONCURRENT_HASHSET
+                = MultimapFactory.typeErased(ConcurrentSetMultimap::new);
+
+        /**
+         * Preset of copy-on-write groups, which is equal to
+         * {@link #CONCURRENT_HASHSET}, but allows duplicate subscribers.
+         */
+        MultimapFactory<?> CONCURRENT_ARRAYLIST
+                = MultimapFactory.typeErased(ConcurrentListMultimap::new);
+
+        @SuppressWarnings("unchecked")
+        static <K, V> MultimapFactory<SetMultimap<K, V>> newConcurrentHashset() {
+            return (MultimapFactory<SetMultimap<K, V>>) CONCURRENT_HASHSET;
+        }
+
+        @SuppressWarnings("unchecked")
+        static <K, V> MultimapFactory<ListMultimap<K, V>> newConcurrentArraylist() {
+            return (MultimapFactory<ListMultimap<K, V>>) CONCURRENT_ARRAYLIST;
+        }
+
         @SuppressWarnings("unchecked")
         static <K, V> MultimapFactory<SetMultimap<K, V>> newUnsortedHashset() {
             return (MultimapFactory<SetMultimap<K, V>>) UNSORTED_HASHSET;
@@ -166,6 +256,11 @@ public final class SubscriberCollections {
         @Override
         @SuppressWarnings("unchecked")
         public @NonNull Collection<? extends E> getGroup(@NonNull Class<? extends Event> eventType) {
+            if (delegate instanceof ConcurrentGroups) {
+                // Reads the copy-on-write group itself, rather than a view of it
+                Collection<?> group = ((ConcurrentGroups) delegate).getRawGroup(eventType);
+                return (Collection<? extends E>) (group != null ? group : EMPTY_SET);
+            }
             try {
                 // First we try and cast the type to the necessary type
                 return delegate.get((Class<? extends T>) eventType);
@@ -296,6 +391,47 @@ public final class SubscriberCollections {
         }
     }
 
+    /** Multimap whose groups are read directly from a concurrent map. */
+    private interface ConcurrentGroups {
+        @Nullable Collection<?> getRawGroup(@NonNull Object key);
+    }
+
+    private static final class ConcurrentSetMultimap<K, V>
+            extends ForwardingSetMultimap<K, V> implements ConcurrentGroups {
+
+        final @NonNull Map<K, Collection<V>> groups = new ConcurrentHashMap<>();
+        final @NonNull SetMultimap<K, V> delegate
+                = Multimaps.newSetMultimap(groups, CopyOnWriteArraySet::new);
+
+        @Override
+        protected SetMultimap<K, V> delegate() {
+            return delegate;
+        }
+
+        @Override
+        public @Nullable Collection<?> getRawGroup(@NonNull Object key) {
+            return groups.get(key);
+        }
+    }
+
+    private static final class ConcurrentListMultimap<K, V>
+            extends ForwardingListMultimap<K, V> implements ConcurrentGroups {
+
+        final @NonNull Map<K, Collection<V>> groups = new ConcurrentHashMap<>();
+        final @NonNull ListMultimap<K, V> delegate
+                = Multimaps.newListMultimap(groups, CopyOnWriteArrayList::new);
+
+        @Override
+        protected ListMultimap<K, V> delegate() {
+            return delegate;
+        }
+
+        @Override
+        public @Nullable Collection<?> getRawGroup(@NonNull Object key) {
+            return groups.get(key);
+        }
+    }
+
     private static class SortableCollection<
             T extends Event,
             E extends EventSubscriber<? extends T>>
@@ -330,4 +466,357 @@ public final class SubscriberCollections {
 
     }
 
+    /**
+     * Collection whose state is an immutable {@code Table} read through a
+     * volatile reference, which is replaced on every mutation. Since a
+     * listener usually only subscribes to a handful of event types, this
+     * avoids allocating a map and a set per listener.
+     */
+    private static final class CompactCollection<
+            T extends Event,
+            E extends EventSubscriber<? extends T>>
+            implements SubscriberCollection<T, E> {
+
+        final int hashThreshold;
+
+        volatile @NonNull Table<E> table = Table.empty();
+
+        CompactCollection(int hashThreshold) {
+            this.hashThreshold = hashThreshold;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public @NonNull <_T extends T, _E extends EventSubscriber<? extends _T>>
+        SubscriberCollection<_T, _E> getDerivedOf(
+                final @NonNull Class<? extends _T> baseEventType,
+                final @NonNull Class<_E> baseSubscriberType) {
+            Preconditions.checkNotNull(baseEventType);
+            Preconditions.checkNotNull(baseSubscriberType);
+            CompactCollection<_T, _E> out = new CompactCollection<>(hashThreshold);
+            Table<E> table = this.table;
+            for (int i = 0; i < table.types.length; ++i) {
+                if (!baseEventType.isAssignableFrom(table.types[i])) continue;
+                for (Object s : table.groups[i].elements) {
+                    if (baseSubscriberType.isInstance(s))
+                        out.add((_E) s);
+                }
+            }
+            return out;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public @NonNull Collection<? extends E> getGroup(@NonNull Class<? extends Event> eventType) {
+            Group<E> group = table.get(eventType);
+            return group != null ? group : (Collection<? extends E>) EMPTY_SET;
+        }
+
+        @Override
+        public @NonNull Collection<E> getGroups() {
+            Table<E> table = this.table;
+            if (table.groups.length == 1) return table.groups[0];
+            Object[] all = new Object[table.size];
+            int n = 0;
+            for (Group<E> group : table.groups) {
+                System.arraycopy(group.elements, 0, all, n, group.elements.length);
+                n += group.elements.length;
+            }
+            return new Group<>(all);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public @NonNull Multimap<@NonNull Class<? extends T>, ? extends E> asMultimap() {
+            // Other than the multimap collections, this is an immutable copy
+            Table<E> table = this.table;
+            ImmutableListMultimap.Builder<Class<? extends T>, E> builder
+                    = ImmutableListMultimap.builder();
+            for (int i = 0; i < table.types.length; ++i)
+                builder.putAll((Class<? extends T>) table.types[i], table.groups[i]);
+            return builder.build();
+        }
+
+        @Override
+        public int size() {
+            return table.size;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            if (o instanceof Class)
+                return table.get((Class<?>) o) != null;
+            if (!(o instanceof EventSubscriber)) return false;
+            Group<E> group = table.get(((EventSubscriber<?>) o).getEventType());
+            return group != null && group.indexOf(o) >= 0;
+        }
+
+        @NonNull
+        @Override
+        public Iterator<E> iterator() {
+            return getGroups().iterator();
+        }
+
+        @Override
+        @CanIgnoreReturnValue
+        public synchronized boolean add(@NonNull E subscriber) {
+            Preconditions.checkNotNull(subscriber);
+            Table<E> table = this.table;
+            Class<?> type = subscriber.getEventType();
+            int index = table.indexOf(type);
+            if (index < 0) {
+                this.table = table.withGroup(type, new Group<>(
+                        new Object[]{subscriber}), hashThreshold);
+                return true;
+            }
+            Group<E> group = table.groups[index];
+            if (group.indexOf(subscriber) >= 0) return false;
+            Object[] elements = Arrays.copyOf(group.elements, group.elements.length + 1);
+            elements[group.elements.length] = subscriber;
+            this.table = table.withGroup(index, new Group<>(elements), hashThreshold);
+            return true;
+        }
+
+        @Override
+        public boolean remove(@NonNull Object subscriber) {
+            if (!(subscriber instanceof EventSubscriber)) return false;
+            return removeIf(Collections.singleton(subscriber), true);
+        }
+
+        @Override
+        public boolean containsAll(@NonNull Collection<?> c) {
+            if (c.isEmpty() ^ isEmpty())
+                return false;
+            for (Object o : c) {
+                if (!contains(o))
+                    return false;
+            }
+            return true;
+        }
+
+        @Override
+        public boolean addAll(@NonNull Collection<? extends E> c) {
+            boolean rv = false;
+            for (E e : c) {
+                rv |= add(e);
+            }
+            return rv;
+        }
+
+        @Override
+        public boolean removeAll(@NonNull Collection<?> c) {
+            return removeIf(c, true);
+        }
+
+        @Override
+        public boolean retainAll(@NonNull Collection<?> c) {
+            return removeIf(c, false);
+        }
+
+        @Override
+        @CanIgnoreReturnValue
+        public synchronized boolean removeAll(@NonNull Class<? extends T> eventType) {
+            Preconditions.checkNotNull(eventType);
+            Table<E> table = this.table;
+            int index = table.indexOf(eventType);
+            if (index < 0) return false;
+            this.table = table.withGroup(index, null, hashThreshold);
+            return true;
+        }
+
+        @Override
+        public synchronized void clear() {
+            table = Table.empty();
+        }
+
+        private synchronized boolean removeIf(Collection<?> c, boolean cmp) {
+            // Removes every subscriber whose containment in `c` equals `cmp`
+            Table<E> table = this.table;
+            boolean rv = false;
+            for (int i = table.types.length - 1; i >= 0; --i) {
+                Object[] elements = table.groups[i].elements;
+                Object[] kept = new Object[elements.length];
+                int n = 0;
+                for (Object e : elements) {
+                    if (c.contains(e) != cmp) kept[n++] = e;
+                }
+                if (n == elements.length) continue;
+                table = table.withGroup(i, n == 0 ? null
+                        : new Group<>(Arrays.copyOf(kept, n)), hashThreshold);
+                rv = true;
+            }
+            this.table = table;
+            return rv;
+        }
+
+        @Override
+        public String toString() {
+            return Objects.toString(asMultimap());
+        }
+    }
+
+    private static final class FrozenCollection<
+            T extends Event,
+            E extends EventSubscriber<? extends T>>
+            extends BaseCollection<T, E> {
+
+        FrozenCollection(
+                @NonNull ImmutableListMultimap<@NonNull Class<? extends T>, @NonNull E> delegate) {
+            super(delegate, MultimapFactory.newUnsortedArraylist());
+        }
+
+        @Override
+        public boolean add(@NonNull E subscriber) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean remove(@NonNull Object subscriber) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean removeAll(@NonNull Collection<?> c) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean retainAll(@NonNull Collection<?> c) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean removeAll(@NonNull Class<? extends T> eventType) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void clear() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    /** Immutable list over the subscribers of a single event type. */
+    private static final class Group<E> extends AbstractList<E> implements RandomAccess {
+
+        final Object @NonNull [] elements;
+
+        Group(Object @NonNull [] elements) {
+            this.elements = elements;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public E get(int index) {
+            return (E) elements[index];
+        }
+
+        @Override
+        public int size() {
+            return elements.length;
+        }
+
+        @Override
+        public int indexOf(Object o) {
+            for (int i = 0; i < elements.length; ++i) {
+                if (elements[i].equals(o)) return i;
+            }
+            return -1;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return indexOf(o) >= 0;
+        }
+
+        @Override
+        public Object @NonNull [] toArray() {
+            return elements.clone();
+        }
+    }
+
+    /**
+     * Immutable snapshot of a compact collection, being the distinct event
+     * types and their groups at the same indices. If the amount of event
+     * types exceeds the hash threshold, {@code index} maps every event
+     * type to its group.
+     */
+    private static final class Table<E> {
+
+        @SuppressWarnings({"rawtypes", "unchecked"})
+        static final Table<?> EMPTY = new Table<>(new Class<?>[0], new Group[0], 0, -1);
+
+        final Class<?> @NonNull [] types;
+        final Group<E> @NonNull [] groups;
+        final int size;
+        final @Nullable Map<Class<?>, Group<E>> index;
+
+        Table(Class<?> @NonNull [] types, Group<E> @NonNull [] groups,
+              int size, int hashThreshold) {
+            this.types = types;
+            this.groups = groups;
+            this.size = size;
+            if (hashThreshold < 0 || types.length <= hashThreshold) {
+                this.index = null;
+                return;
+            }
+            this.index = new IdentityHashMap<>(types.length);
+            for (int i = 0; i < types.length; ++i)
+                this.index.put(types[i], groups[i]);
+        }
+
+        @SuppressWarnings("unchecked")
+        static <E> Table<E> empty() {
+            return (Table<E>) EMPTY;
+        }
+
+        @SuppressWarnings({"rawtypes", "unchecked"})
+        private static <E> Group<E> @NonNull [] newGroups(int length) {
+            return new Group[length];
+        }
+
+        int indexOf(Class<?> type) {
+            for (int i = 0; i < types.length; ++i) {
+                if (types[i] == type) return i;
+            }
+            return -1;
+        }
+
+        @Nullable Group<E> get(Class<?> type) {
+            if (index != null) return index.get(type);
+            for (int i = 0; i < types.length; ++i) {
+                if (types[i] == type) return groups[i];
+            }
+            return null;
+        }
+
+        Table<E> withGroup(Class<?> type, Group<E> group, int hashThreshold) {
+            int n = types.length;
+            Class<?>[] types = Arrays.copyOf(this.types, n + 1);
+            Group<E>[] groups = Arrays.copyOf(this.groups, n + 1);
+            types[n] = type;
+            groups[n] = group;
+            return new Table<>(types, groups, size + group.size(), hashThreshold);
+        }
+
+        Table<E> withGroup(int i, @Nullable Group<E> group, int hashThreshold) {
+            int size = this.size - groups[i].size();
+            if (group != null) {
+                Group<E>[] groups = this.groups.clone();
+                groups[i] = group;
+                return new Table<>(types, groups, size + group.size(), hashThreshold);
+            }
+            // Removes the event type of an emptied group entirely
+            if (types.length == 1) return empty();
+            int n = types.length - 1;
+            Class<?>[] types = new Class<?>[n];
+            Group<E>[] groups = newGroups(n);
+            System.arraycopy(this.types, 0, types, 0, i);
+            System.arraycopy(this.types, i + 1, types, i, n - i);
+            System.arraycopy(this.groups, 0, groups, 0, i);
+            System.arraycopy(this.groups, i + 1, groups, i, n - i);
+            return new Table<>(types, groups, size, hashThreshold);
+        }
+    }
+
 }
@@ -0,0 +1,39 @@
+package io.github.aparx.eventbus.subscriber.index;
+
+import io.github.aparx.eventbus.Listener;
+import io.github.aparx.eventbus.subscriber.EventSubscriber;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.jetbrains.annotations.Contract;
+
+import java.util.List;
+
+/**
+ * Index of the subscribers declared by a single {@code Listener} class,
+ * which is usually generated at compile time by the subscriber index
+ * annotation processor, instead of being analyzed through reflection.
+ * <p>A generated index is a public class with a public no-arg constructor,
+ * located in the package of its listener class and named after the binary
+ * name of that class, suffixed by {@link #CLASS_SUFFIX}. Its subscribers
+ * are shared amongst all instances of the listener class, thus they must
+ * only access the listener through the {@code ListenerHandle} they are
+ * called with.
+ *
+ * @param <L> the type of listener this index is generated for
+ * @author aparx (Vinzent Zeband)
+ * @version 19:29 CET, 18.10.2026
+ * @see SubscriberIndexes
+ * @since 1.0
+ */
+public interface SubscriberIndex<L extends Listener> {
+
+    String CLASS_SUFFIX = "$$SubscriberIndex";
+
+    @NonNull
+    @Contract(pure = true)
+    Class<L> getListenerType();
+
+    @NonNull
+    @Contract(pure = true)
+    List<? extends EventSubscriber<?>> getSubscribers();
+
+}
@@ -0,0 +1,140 @@
+package io.github.aparx.eventbus.subscriber.index;
+
+import com.google.common.base.Preconditions;
+import io.github.aparx.eventbus.Event;
+import io.github.aparx.eventbus.Listener;
+import io.github.aparx.eventbus.subscriber.EventSubscriber;
+import io.github.aparx.eventbus.subscriber.EventSubscribers;
+import io.github.aparx.eventbus.subscriber.member.ClassMemberEventSubscriber;
+import io.github.aparx.eventbus.subscriber.member.EventMethodDeducer;
+import io.github.aparx.eventbus.subscriber.member.EventMethodInvoker;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.lang.reflect.Method;
+import java.util.Optional;
+
+/**
+ * Class {@code SubscriberIndexes} is representing a class of methods used
+ * to look up generated {@code SubscriberIndex} classes, and to create the
+ * subscribers that are contained in such class.
+ * <p>Every listener class is only looked up once, whereas the result of
+ * that lookup is cached in a {@code ClassValue}. Classes, whose index
+ * cannot be loaded or instantiated, are treated as not being indexed.
+ *
+ * @author aparx (Vinzent Zeband)
+ * @version 19:29 CET, 18.10.2026
+ * @see SubscriberIndex
+ * @since 1.0
+ */
+public final class SubscriberIndexes {
+
+    private static final ClassValue<Optional<SubscriberIndex<?>>> INDEX_CACHE
+            = new ClassValue<>() {
+        @Override
+        protected Optional<SubscriberIndex<?>> computeValue(Class<?> type) {
+            return Optional.ofNullable(load(type));
+        }
+    };
+
+    private SubscriberIndexes() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Returns the generated index of {@code listenerType}, or null if no
+     * index has been generated for exactly that class.
+     */
+    @Nullable
+    public static SubscriberIndex<?> find(final @NonNull Class<?> listenerType) {
+        Preconditions.checkNotNull(listenerType);
+        return INDEX_CACHE.get(listenerType).orElse(null);
+    }
+
+    /**
+     * Returns a new member subscriber of the event method called
+     * {@code methodName}, that is declared by {@code listenerType} and
+     * accepts {@code eventType}, calling {@code invoker} with the owner of
+     * the handle it is called with. The method is looked up once, so that
+     * indexed subscribers are identified by their method equally to
+     * collected ones, whereas its {@code SubscriberOptions} are applied.
+     * <p>The methods of this class are used by generated indexes, thus
+     * their signatures must remain unchanged.
+     *
+     * @throws IllegalArgumentException if no such method is declared
+     */
+    @NonNull
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static ClassMemberEventSubscriber<Event, Method> newSubscriber(
+            final @NonNull Class<?> listenerType,
+            final @NonNull String methodName,
+            final @NonNull Class<?> eventType,
+            final @NonNull EventMethodInvoker invoker) {
+        Preconditions.checkNotNull(listenerType);
+        Preconditions.checkNotNull(methodName);
+        Preconditions.checkNotNull(invoker);
+        Method method;
+        try {
+            method = listenerType.getDeclaredMethod(methodName, eventType);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalArgumentException("Event method not found: " + methodName, e);
+        }
+        // Interfaces are only accepted by methods opting into them
+        Preconditions.checkArgument(Event.class.isAssignableFrom(eventType)
+                || (eventType.isInterface() && EventMethodDeducer.isAcceptingInterface(method)),
+                "Invalid event type");
+        return EventSubscribers.newClassMemberSubscriber((Class) eventType,
+                (origin, event) -> invoker.invoke(origin.getOwner(), event), method);
+    }
+
+    /**
+     * Returns a new subscriber of {@code eventType} calling {@code invoker}
+     * with the owner of the handle it is called with. Subscribers created
+     * this way do not expose their event method, thus indexes generated
+     * since use {@link #newSubscriber(Class, String, Class, EventMethodInvoker)}.
+     */
+    @NonNull
+    public static EventSubscriber<Event> newSubscriber(
+            final @NonNull Class<?> eventType,
+            final int priority,
+            final boolean receiveCancelled,
+            final @NonNull EventMethodInvoker invoker) {
+        return newSubscriber(eventType, priority, receiveCancelled, null, invoker);
+    }
+
+    @NonNull
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static EventSubscriber<Event> newSubscriber(
+            final @NonNull Class<?> eventType,
+            final int priority,
+            final boolean receiveCancelled,
+            final @Nullable String topic,
+            final @NonNull EventMethodInvoker invoker) {
+        Preconditions.checkNotNull(eventType);
+        Preconditions.checkNotNull(invoker);
+        // Interfaces cannot be opted into without the event method
+        Preconditions.checkArgument(Event.class.isAssignableFrom(eventType),
+                "Invalid event type");
+        return EventSubscribers.newCallbackSubscriber((Class) eventType,
+                (origin, event) -> invoker.invoke(origin.getOwner(), event),
+                priority, receiveCancelled, topic);
+    }
+
+    @Nullable
+    private static SubscriberIndex<?> load(@NonNull Class<?> listenerType) {
+        if (!Listener.class.isAssignableFrom(listenerType)) return null;
+        try {
+            Class<?> indexType = Class.forName(
+                    listenerType.getName() + SubscriberIndex.CLASS_SUFFIX,
+                    true, listenerType.getClassLoader());
+            if (!SubscriberIndex.class.isAssignableFrom(indexType)) return null;
+            SubscriberIndex<?> index = (SubscriberIndex<?>)
+                    indexType.getConstructor().newInstance();
+            // Ignores indexes that have been generated for another class
+            return index.getListenerType() == listenerType ? index : null;
+        } catch (ReflectiveOperationException | RuntimeException | LinkageError e) {
+            return null;
+        }
+    }
+
+}
@@ -2,7 +2,9 @@ package io.github.aparx.eventbus.subscriber.member;
 
 import io.github.aparx.eventbus.Event;
 import io.github.aparx.eventbus.subscriber.EventSubscriber;
+import io.github.aparx.eventbus.subscriber.RoutingCondition;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.lang.reflect.Member;
 
@@ -18,6 +20,29 @@ public abstract class ClassMemberEventSubscriber<
         super(eventType);
     }
 
+    public ClassMemberEventSubscriber(@NonNull Class<? extends U> eventType,
+                                      boolean receiveCancelled) {
+        super(eventType, receiveCancelled);
+    }
+
+    public ClassMemberEventSubscriber(@NonNull Class<? extends U> eventType,
+                                      int priority, boolean receiveCancelled) {
+        super(eventType, priority, receiveCancelled);
+    }
+
+    public ClassMemberEventSubscriber(@NonNull Class<? extends U> eventType,
+                                      int priority, boolean receiveCancelled,
+                                      @Nullable String topic) {
+        super(eventType, priority, receiveCancelled, topic);
+    }
+
+    public ClassMemberEventSubscriber(@NonNull Class<? extends U> eventType,
+                                      int priority, boolean receiveCancelled,
+                                      @Nullable String topic,
+                                      @Nullable RoutingCondition condition) {
+        super(eventType, priority, receiveCancelled, topic, condition);
+    }
+
     @NonNull
     abstract public V getMember();
 
@@ -17,6 +17,8 @@ public interface EventMethodDeducer<T extends Event> {
 
     EventMethodDeducer<?> FIRST_PARAMETER = newFirstParameterDeducer(Event.class);
 
+    EventMethodDeducer<?> COMPILED_FIRST_PARAMETER = newCompiledDeducer(Event.class);
+
     boolean isEventMethod(@NonNull Method method);
 
     @NonNull
@@ -27,6 +29,15 @@ public interface EventMethodDeducer<T extends Event> {
 
     /* Global factory methods and variables */
 
+    /**
+     * Returns true if {@code method} opted into accepting an interface as
+     * its event parameter through {@link SubscriberOptions#acceptInterface()}.
+     */
+    static boolean isAcceptingInterface(@NonNull Method method) {
+        SubscriberOptions options = method.getAnnotation(SubscriberOptions.class);
+        return options != null && options.acceptInterface();
+    }
+
     @NonNull
     static <T extends Event> EventMethodDeducer<? extends T> newDeducer(
             final @NonNull Class<? extends T> eventParamBaseType,
@@ -41,8 +52,15 @@ public interface EventMethodDeducer<T extends Event> {
             public boolean isEventMethod(@NonNull Method method) {
                 if (method.getParameterCount() < 1 + eventParamIndex)
                     return false;
-                Class<?> paramType = method.getParameters()[0].getType();
-                if (!eventParamBaseType.isAssignableFrom(paramType))
+                // Compiler generated methods, such as lambda bodies, are
+                // never meant to be event methods
+                if (method.isSynthetic() || method.isBridge())
+                    return false;
+                Class<?> paramType = method.getParameterTypes()[0];
+                // Interfaces might be implemented by any subtype of
+                // `eventParamBaseType`, but are only accepted if opted in
+                if (!eventParamBaseType.isAssignableFrom(paramType)
+                        && !(paramType.isInterface() && isAcceptingInterface(method)))
                     return false;
                 // In the end we have to confirm that we do not have
                 // disallowed modifiers in the `modifiers` bitmask
@@ -52,7 +70,7 @@ public interface EventMethodDeducer<T extends Event> {
             @Override
             @SuppressWarnings("unchecked")
             public @NonNull Class<? extends T> getEventType(@NonNull Method method) {
-                return (Class<? extends T>) method.getParameters()[0].getType();
+                return (Class<? extends T>) method.getParameterTypes()[0];
             }
 
             @Override
@@ -81,4 +99,35 @@ public interface EventMethodDeducer<T extends Event> {
         return newDeducer(eventParamBaseType, (origin, event) -> new Object[]{event}, 0, Modifier.STATIC);
     }
 
-}
\ No newline at end of file
+    /**
+     * Returns a deducer equal to {@link #newFirstParameterDeducer(Class)},
+     * but whose callbacks invoke the event method through a compiled
+     * {@code EventMethodInvoker}, instead of reflection. The invoker is
+     * created once when the callback is created, thus an invocation does
+     * neither allocate an argument array nor check accessibility.
+     */
+    @NonNull
+    static <T extends Event> EventMethodDeducer<? extends T> newCompiledDeducer(
+            final @NonNull Class<? extends T> eventParamBaseType) {
+        final EventMethodDeducer<? extends T> base = newFirstParameterDeducer(eventParamBaseType);
+        return new EventMethodDeducer<T>() {
+
+            @Override
+            public boolean isEventMethod(@NonNull Method method) {
+                return base.isEventMethod(method);
+            }
+
+            @Override
+            public @NonNull Class<? extends T> getEventType(@NonNull Method method) {
+                return base.getEventType(method);
+            }
+
+            @Override
+            public @NonNull EventCallback<? super T> newEventCallback(@NonNull Method method) {
+                final EventMethodInvoker invoker = EventMethodInvokers.newInvoker(method);
+                return (origin, event) -> invoker.invoke(origin.getOwner(), event);
+            }
+        };
+    }
+
+}
@@ -0,0 +1,23 @@
+package io.github.aparx.eventbus.subscriber.member;
+
+import io.github.aparx.eventbus.Event;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Functional interface invoking a single event method on a listener
+ * instance, with an event as its only argument.
+ * <p>Implementations are usually created through
+ * {@link EventMethodInvokers#newInvoker(java.lang.reflect.Method)}, which
+ * compiles a direct call to the method instead of invoking it reflectively.
+ *
+ * @author aparx (Vinzent Zeband)
+ * @version 19:14 CET, 18.10.2026
+ * @see EventMethodInvokers
+ * @since 1.0
+ */
+@FunctionalInterface
+public interface EventMethodInvoker {
+
+    void invoke(@NonNull Object listener, @NonNull Event event) throws Throwable;
+
+}
@@ -0,0 +1,115 @@
+package io.github.aparx.eventbus.subscriber.member;
+
+import com.google.common.base.Preconditions;
+import io.github.aparx.eventbus.Event;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.lang.invoke.*;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Class {@code EventMethodInvokers} is representing a class of factory
+ * methods for {@code EventMethodInvoker} implementations.
+ * <p>The preferred invoker is generated through the
+ * {@code LambdaMetafactory}, resulting in a hidden class directly calling
+ * the event method. If the listener class cannot be linked by such class,
+ * for example because its class loader cannot see this library, a bound
+ * {@code MethodHandle} is used instead. Reflective invocation is only used
+ * as the last resort, if the method cannot be looked up at all.
+ * <p>Non-public listener classes and methods are accessed through a
+ * private lookup in the declaring class of the method.
+ *
+ * @author aparx (Vinzent Zeband)
+ * @version 19:14 CET, 18.10.2026
+ * @see EventMethodInvoker
+ * @since 1.0
+ */
+public final class EventMethodInvokers {
+
+    private static final MethodType INVOKER_TYPE
+            = MethodType.methodType(void.class, Object.class, Event.class);
+
+    private static final ClassValue<Map<Method, EventMethodInvoker>> INVOKER_CACHE
+            = new ClassValue<>() {
+        @Override
+        protected Map<Method, EventMethodInvoker> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private EventMethodInvokers() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Returns the most direct invoker available for {@code method}.
+     * Invokers are cached per method, thus compiling the same method is
+     * only done once for every class it is declared in.
+     */
+    @NonNull
+    public static EventMethodInvoker newInvoker(final @NonNull Method method) {
+        Preconditions.checkNotNull(method);
+        return INVOKER_CACHE.get(method.getDeclaringClass())
+                .computeIfAbsent(method, EventMethodInvokers::compile);
+    }
+
+    @NonNull
+    public static EventMethodInvoker newReflectiveInvoker(final @NonNull Method method) {
+        Preconditions.checkNotNull(method);
+        method.trySetAccessible();
+        return (listener, event) -> method.invoke(listener, event);
+    }
+
+    @NonNull
+    public static EventMethodInvoker newMethodHandleInvoker(
+            final @NonNull MethodHandle handle) {
+        // Adapts the handle once, so that `invokeExact` needs no conversion
+        final MethodHandle target = handle.asType(INVOKER_TYPE);
+        return (listener, event) -> {
+            // The statement form keeps the symbolic return type `void`
+            target.invokeExact(listener, event);
+        };
+    }
+
+    @NonNull
+    private static EventMethodInvoker compile(@NonNull Method method) {
+        Preconditions.checkArgument(!Modifier.isStatic(method.getModifiers()),
+                "Event method must not be static");
+        MethodHandles.Lookup lookup;
+        MethodHandle handle;
+        try {
+            lookup = MethodHandles.privateLookupIn(
+                    method.getDeclaringClass(), MethodHandles.lookup());
+            handle = lookup.unreflect(method);
+        } catch (IllegalAccessException | RuntimeException e) {
+            // The declaring class is not accessible to this library
+            return newReflectiveInvoker(method);
+        }
+        try {
+            return newLambdaInvoker(lookup, handle, method);
+        } catch (Throwable t) { /* discard */ }
+        try {
+            return newMethodHandleInvoker(handle);
+        } catch (RuntimeException e) { /* discard */ }
+        return newReflectiveInvoker(method);
+    }
+
+    @NonNull
+    private static EventMethodInvoker newLambdaInvoker(
+            MethodHandles.@NonNull Lookup lookup,
+            @NonNull MethodHandle handle,
+            @NonNull Method method) throws Throwable {
+        Preconditions.checkArgument(method.getParameterCount() == 1);
+        CallSite site = LambdaMetafactory.metafactory(lookup, "invoke",
+                MethodType.methodType(EventMethodInvoker.class),
+                INVOKER_TYPE, handle,
+                MethodType.methodType(void.class,
+                        method.getDeclaringClass(),
+                        method.getParameterTypes()[0]));
+        return (EventMethodInvoker) site.getTarget().invoke();
+    }
+
+}
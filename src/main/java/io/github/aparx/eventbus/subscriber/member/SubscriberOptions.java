@@ -0,0 +1,63 @@
+package io.github.aparx.eventbus.subscriber.member;
+
+import io.github.aparx.eventbus.subscriber.EventSubscriber;
+
+import java.lang.annotation.*;
+
+/**
+ * Annotation optionally configuring the {@code ClassMemberEventSubscriber}
+ * created for an event method.
+ * <p>Whether a method is an event method is still only deduced by the
+ * {@code EventMethodDeducer} in use, this annotation only provides the
+ * attributes of the resulting subscriber. The only exception is
+ * {@link #acceptInterface()}, which opts a method, whose first parameter
+ * is an interface, into being deduced as event method at all.
+ *
+ * @author aparx (Vinzent Zeband)
+ * @version 19:19 CET, 18.10.2026
+ * @see io.github.aparx.eventbus.subscriber.EventSubscriber
+ * @since 1.0
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface SubscriberOptions {
+
+    /**
+     * The priority of the subscriber, whereas subscribers with a higher
+     * priority are called before subscribers with a lower one, across all
+     * listeners of a bus.
+     */
+    int priority() default EventSubscriber.DEFAULT_PRIORITY;
+
+    /**
+     * Whether the subscriber is called for events that have already been
+     * cancelled by a previous subscriber.
+     *
+     * @see io.github.aparx.eventbus.Cancellable
+     */
+    boolean receiveCancelled() default false;
+
+    /**
+     * The topic pattern of the subscriber, such as {@code orders.eu.*},
+     * whereas an empty pattern subscribes to every topic.
+     *
+     * @see io.github.aparx.eventbus.TopicEvent
+     */
+    String topic() default "";
+
+    // There is deliberately no routing condition, as annotations cannot
+    // carry the typed values and bounds a RoutingCondition compares with.
+    // Routed subscribers are thus only created programmatically, through
+    // EventSubscribers#newCallbackSubscriber.
+
+    /**
+     * Whether the first parameter of the method may be an interface, that
+     * is implemented by the events the subscriber is called with. Methods
+     * accepting an interface are otherwise never event methods, so that
+     * helper methods of a listener, such as {@code log(List)}, are not
+     * subscribed by accident.
+     */
+    boolean acceptInterface() default false;
+
+}
@@ -0,0 +1,879 @@
+package io.github.aparx.eventbus;
+
+import io.github.aparx.eventbus.audience.ListenerHandle;
+import io.github.aparx.eventbus.audience.TopicTrie;
+import io.github.aparx.eventbus.audience.WeakListenerHandle;
+import io.github.aparx.eventbus.processors.BatchPublishException;
+import io.github.aparx.eventbus.processors.EventProcessors;
+import io.github.aparx.eventbus.processors.EventPublisher;
+import io.github.aparx.eventbus.processors.KeyedEventPublisher;
+import io.github.aparx.eventbus.processors.MailboxEventPublisher;
+import io.github.aparx.eventbus.processors.OverflowPolicy;
+import io.github.aparx.eventbus.processors.RingBufferEventPublisher;
+import io.github.aparx.eventbus.processors.WaitStrategies;
+import io.github.aparx.eventbus.subscriber.EventSubscriber;
+import io.github.aparx.eventbus.subscriber.EventSubscribers;
+import io.github.aparx.eventbus.subscriber.RoutingCondition;
+import io.github.aparx.eventbus.subscriber.collection.SubscriberCollection;
+import io.github.aparx.eventbus.subscriber.collection.SubscriberCollections;
+import io.github.aparx.eventbus.subscriber.member.EventMethodDeducer;
+import io.github.aparx.eventbus.subscriber.member.SubscriberOptions;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * @author aparx (Vinzent Zeband)
+ * @version 19:12 CET, 18.10.2026
+ * @since 1.0
+ */
+public class EventBusTests {
+
+    static class BaseEvent extends Event {
+        final List<String> calls = new ArrayList<>();
+    }
+
+    static class TestEvent extends BaseEvent {
+    }
+
+    static class OtherEvent extends Event {
+        final List<String> calls = new ArrayList<>();
+    }
+
+    static class TestListener implements Listener {
+        final String name;
+
+        TestListener(String name) {
+            this.name = name;
+        }
+
+        void onBase(BaseEvent event) {
+            event.calls.add(name + ":base");
+        }
+
+        void onTest(TestEvent event) {
+            event.calls.add(name + ":test");
+        }
+    }
+
+    static class OtherListener implements Listener {
+        int count;
+
+        void onOther(OtherEvent event) {
+            event.calls.add("other");
+            ++count;
+        }
+    }
+
+    @Test
+    public void test_publishPolymorphic() {
+        EventBus bus = new EventBus();
+        bus.register(new TestListener("a"));
+        bus.register(new OtherListener());
+        TestEvent event = new TestEvent();
+        bus.publish(event);
+        // Specific event types are dispatched prior to their super types
+        Assertions.assertEquals(List.of("a:test", "a:base"), event.calls);
+    }
+
+    @Test
+    public void test_publishNonPolymorphic() {
+        EventBus bus = new EventBus(
+                EventProcessors.newPublisher(false),
+                EventProcessors.newDefaultMethodCollector());
+        bus.register(new TestListener("a"));
+        TestEvent event = new TestEvent();
+        bus.publish(event);
+        Assertions.assertEquals(List.of("a:test"), event.calls);
+    }
+
+    @Test
+    public void test_unregister() {
+        EventBus bus = new EventBus();
+        TestListener a = new TestListener("a");
+        TestListener b = new TestListener("b");
+        OtherListener c = new OtherListener();
+        bus.register(a);
+        bus.register(b);
+        bus.register(c);
+        TestEvent event = new TestEvent();
+        bus.publish(event);
+        Assertions.assertEquals(4, event.calls.size());
+        Assertions.assertTrue(bus.unregister(a));
+        Assertions.assertFalse(bus.unregister(a));
+        Assertions.assertFalse(bus.isRegistered(a));
+        event = new TestEvent();
+        bus.publish(event);
+        Assertions.assertEquals(List.of("b:test", "b:base"), event.calls);
+        bus.publish(new OtherEvent());
+        Assertions.assertEquals(1, c.count);
+    }
+
+    @Test
+    public void test_putHandleReplaces() {
+        EventBus bus = new EventBus();
+        TestListener a = new TestListener("a");
+        bus.register(a);
+        bus.register(a);
+        Assertions.assertEquals(1, bus.handleCount());
+        TestEvent event = new TestEvent();
+        bus.publish(event);
+        Assertions.assertEquals(List.of("a:test", "a:base"), event.calls);
+    }
+
+    @Test
+    public void test_customPublisherVisitsHandles() {
+        List<Listener> visited = new ArrayList<>();
+        EventBus bus = new EventBus(
+                (event, scope, errorHandler) -> visited.add(scope.getOwner()),
+                EventProcessors.newDefaultMethodCollector());
+        TestListener a = new TestListener("a");
+        bus.register(a);
+        bus.publish(new OtherEvent());
+        Assertions.assertEquals(List.of(a), visited);
+    }
+
+    @Test
+    public void test_copyOnWrite() {
+        EventBus bus = new EventBus(EventBus.RegistryMode.COPY_ON_WRITE,
+                EventProcessors.newPolymorphicPublisher(),
+                EventProcessors.newDefaultMethodCollector());
+        TestListener a = new TestListener("a");
+        TestListener b = new TestListener("b");
+        bus.register(a);
+        var iterator = bus.iterator();
+        bus.register(b);
+        // Iterators remain on the snapshot present at their creation
+        Assertions.assertSame(a, iterator.next().getOwner());
+        Assertions.assertFalse(iterator.hasNext());
+        Assertions.assertEquals(2, bus.handleCount());
+        TestEvent event = new TestEvent();
+        bus.publish(event);
+        Assertions.assertEquals(4, event.calls.size());
+        Assertions.assertTrue(bus.unregister(a));
+        Assertions.assertFalse(bus.isRegistered(a));
+        event = new TestEvent();
+        bus.publish(event);
+        Assertions.assertEquals(List.of("b:test", "b:base"), event.calls);
+    }
+
+    static class ReplacingListener implements Listener {
+        final EventBus bus;
+        // Strongly referenced, as weak registries would drop it otherwise
+        TestListener replacement;
+
+        ReplacingListener(EventBus bus) {
+            this.bus = bus;
+        }
+
+        void onTest(TestEvent event) {
+            event.calls.add("replacing");
+            bus.unregister(this);
+            bus.register(replacement = new TestListener("late"));
+        }
+    }
+
+    @Test
+    public void test_mutateDuringPublish() {
+        EventPublisher indexed = EventProcessors.newPolymorphicPublisher();
+        EventPublisher visiting = indexed::publish;
+        for (EventBus.RegistryMode mode : EventBus.RegistryMode.values()) {
+            for (EventPublisher publisher : List.of(indexed, visiting)) {
+                EventBus bus = new EventBus(mode, publisher,
+                        EventProcessors.newCompiledMethodCollector());
+                ReplacingListener listener = new ReplacingListener(bus);
+                bus.register(listener);
+                TestEvent event = new TestEvent();
+                bus.publish(event);
+                // Mutations from within a callback only affect the next publish
+                Assertions.assertEquals(List.of("replacing"), event.calls);
+                Assertions.assertFalse(bus.isRegistered(listener));
+                event = new TestEvent();
+                bus.publish(event);
+                Assertions.assertEquals(List.of("late:test", "late:base"), event.calls);
+            }
+        }
+    }
+
+    static class CancellableEvent extends TestEvent implements Cancellable {
+        boolean cancelled;
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        @Override
+        public void setCancelled(boolean cancelled) {
+            this.cancelled = cancelled;
+        }
+    }
+
+    static class InterfaceListener implements Listener {
+        @SubscriberOptions(acceptInterface = true)
+        void onCancellable(Cancellable event) {
+            ((BaseEvent) event).calls.add("cancellable");
+        }
+
+        // Helper accepting an interface, that must not become a subscriber
+        void log(List<?> lines) {
+            throw new AssertionError("Helper method has been subscribed");
+        }
+    }
+
+    @Test
+    public void test_publishToInterfaces() {
+        EventBus bus = new EventBus();
+        bus.register(new TestListener("a"));
+        bus.register(new InterfaceListener());
+        CancellableEvent event = new CancellableEvent();
+        bus.publish(event);
+        // Interfaces are dispatched to after all superclasses
+        Assertions.assertEquals(List.of("a:test", "a:base", "cancellable"), event.calls);
+        TestEvent other = new TestEvent();
+        bus.publish(other);
+        Assertions.assertFalse(other.calls.contains("cancellable"));
+    }
+
+    @Test
+    public void test_interfaceHelperNotCollected() throws Exception {
+        EventMethodDeducer<?> deducer = EventMethodDeducer.FIRST_PARAMETER;
+        Assertions.assertTrue(deducer.isEventMethod(
+                InterfaceListener.class.getDeclaredMethod("onCancellable", Cancellable.class)));
+        Assertions.assertFalse(deducer.isEventMethod(
+                InterfaceListener.class.getDeclaredMethod("log", List.class)));
+        EventBus bus = new EventBus();
+        bus.register(new InterfaceListener());
+        Assertions.assertEquals(1, bus.iterator().next().getSubscribers().size());
+    }
+
+    static class CancellingListener implements Listener {
+        void onTest(CancellableEvent event) {
+            event.calls.add("cancel");
+            event.setCancelled(true);
+        }
+
+        void onBase(BaseEvent event) {
+            event.calls.add("skipped");
+        }
+
+        @SubscriberOptions(receiveCancelled = true, acceptInterface = true)
+        void onCancellable(Cancellable event) {
+            ((BaseEvent) event).calls.add("received");
+        }
+    }
+
+    @Test
+    public void test_publishCancelled() {
+        EventBus bus = new EventBus();
+        bus.register(new CancellingListener());
+        CancellableEvent event = new CancellableEvent();
+        bus.publish(event);
+        Assertions.assertTrue(event.isCancelled());
+        Assertions.assertEquals(List.of("cancel", "received"), event.calls);
+        // Events that are not cancellable reach every subscriber
+        TestEvent other = new TestEvent();
+        bus.publish(other);
+        Assertions.assertEquals(List.of("skipped"), other.calls);
+    }
+
+    static class PriorityListener implements Listener {
+        final String name;
+
+        PriorityListener(String name) {
+            this.name = name;
+        }
+
+        @SubscriberOptions(priority = -10)
+        void onLow(TestEvent event) {
+            event.calls.add(name + ":low");
+        }
+
+        @SubscriberOptions(priority = 10)
+        void onHigh(BaseEvent event) {
+            event.calls.add(name + ":high");
+        }
+    }
+
+    @Test
+    public void test_publishByPriority() {
+        EventBus bus = new EventBus();
+        bus.register(new PriorityListener("a"));
+        bus.register(new TestListener("b"));
+        bus.register(new PriorityListener("c"));
+        TestEvent event = new TestEvent();
+        bus.publish(event);
+        // Priorities are honored across listeners and event types, while
+        // equal priorities remain in registration and type order
+        Assertions.assertEquals(List.of("a:high", "c:high",
+                "b:test", "b:base", "a:low", "c:low"), event.calls);
+    }
+
+    static class CountingListener implements Listener {
+        long count;
+
+        void onTest(TestEvent event) {
+            ++count;
+        }
+
+        void onCancellable(CancellableEvent event) {
+            ++count;
+        }
+    }
+
+    @Test
+    public void test_publishWithoutAllocation() {
+        var threads = java.lang.management.ManagementFactory.getThreadMXBean();
+        Assumptions.assumeTrue(threads instanceof com.sun.management.ThreadMXBean);
+        var allocations = (com.sun.management.ThreadMXBean) threads;
+        Assumptions.assumeTrue(allocations.isThreadAllocatedMemorySupported()
+                && allocations.isThreadAllocatedMemoryEnabled());
+        for (EventBus.RegistryMode mode : EventBus.RegistryMode.values()) {
+            EventBus bus = new EventBus(mode, EventProcessors.newPolymorphicPublisher(),
+                    EventProcessors.newCompiledMethodCollector());
+            CountingListener listener = new CountingListener();
+            for (int i = 0; i < 10; ++i)
+                bus.register(i == 0 ? listener : new CountingListener());
+            TestEvent event = new TestEvent();
+            CancellableEvent cancellable = new CancellableEvent();
+            // Resolves the subscriptions once, so that only the steady
+            // state of publishing is measured
+            bus.publish(event);
+            bus.publish(cancellable);
+            long threadId = Thread.currentThread().getId();
+            long before = allocations.getThreadAllocatedBytes(threadId);
+            for (int i = 0; i < 10_000; ++i) {
+                bus.publish(event);
+                bus.publish(cancellable);
+            }
+            long allocated = allocations.getThreadAllocatedBytes(threadId) - before;
+            // Cancellable events are received by both methods
+            Assertions.assertEquals(30_003, listener.count);
+            // Tolerates the allocations of measuring, but not one per event
+            Assertions.assertTrue(allocated < 10_000, mode + " allocated " + allocated);
+        }
+    }
+
+    static class FailingListener implements Listener {
+        void onOther(OtherEvent event) {
+            event.calls.add("failing");
+            throw new IllegalStateException();
+        }
+    }
+
+    @Test
+    public void test_publishBatch() {
+        EventBus bus = new EventBus();
+        bus.register(new TestListener("a"));
+        bus.register(new FailingListener());
+        TestEvent first = new TestEvent();
+        OtherEvent second = new OtherEvent();
+        OtherEvent third = new OtherEvent();
+        TestEvent fourth = new TestEvent();
+        var exception = Assertions.assertThrows(BatchPublishException.class,
+                () -> bus.publishBatch(first, second, third, fourth));
+        // Failures do not abort the batch, but are reported at its end
+        Assertions.assertEquals(List.of("a:test", "a:base"), fourth.calls);
+        Assertions.assertEquals(List.of("failing"), third.calls);
+        Assertions.assertEquals(2, exception.getFailures().size());
+        Assertions.assertSame(second, exception.getFailures().get(0).getEvent());
+        Assertions.assertSame(third, exception.getFailures().get(1).getEvent());
+        List<Throwable> handled = new ArrayList<>();
+        bus.publishAll(List.of(new OtherEvent(), new TestEvent()),
+                (thrown, scope, sub) -> handled.add(thrown));
+        Assertions.assertEquals(1, handled.size());
+    }
+
+    @Test
+    public void test_weakRegistry() {
+        EventBus bus = new EventBus(EventBus.RegistryMode.WEAK,
+                EventProcessors.newPolymorphicPublisher(),
+                EventProcessors.newCompiledMethodCollector());
+        TestListener kept = new TestListener("kept");
+        TestListener dropped = new TestListener("dropped");
+        bus.register(kept);
+        bus.register(dropped);
+        TestEvent event = new TestEvent();
+        bus.publish(event);
+        Assertions.assertEquals(4, event.calls.size());
+        // Expires the handle as if its owner had been garbage collected
+        WeakListenerHandle handle = null;
+        for (ListenerHandle h : bus) {
+            if (h.findOwner() == dropped) handle = (WeakListenerHandle) h;
+        }
+        Assertions.assertNotNull(handle);
+        Assertions.assertTrue(handle.expire());
+        Assertions.assertTrue(handle.isExpired());
+        Assertions.assertNull(handle.findOwner());
+        Assertions.assertThrows(IllegalStateException.class, handle::getOwner);
+        Assertions.assertFalse(bus.hasHandle(handle));
+        Assertions.assertEquals(1, bus.handleCount());
+        event = new TestEvent();
+        bus.publish(event);
+        Assertions.assertEquals(List.of("kept:test", "kept:base"), event.calls);
+        Assertions.assertFalse(bus.unregister(dropped));
+        Assertions.assertTrue(bus.unregister(kept));
+        Assertions.assertEquals(0, bus.handleCount());
+    }
+
+    static class EqualListener implements Listener {
+        final String name;
+
+        EqualListener(String name) {
+            this.name = name;
+        }
+
+        void onTest(TestEvent event) {
+            event.calls.add(name + ":test");
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof EqualListener;
+        }
+
+        @Override
+        public int hashCode() {
+            return 0;
+        }
+    }
+
+    @Test
+    public void test_weakRegistryIdentity() {
+        EventBus bus = new EventBus(EventBus.RegistryMode.WEAK,
+                EventProcessors.newPolymorphicPublisher(),
+                EventProcessors.newCompiledMethodCollector());
+        EqualListener a = new EqualListener("a");
+        EqualListener b = new EqualListener("b");
+        bus.register(a);
+        bus.register(b);
+        // Listeners are equal, yet are registered separately
+        Assertions.assertEquals(2, bus.handleCount());
+        TestEvent event = new TestEvent();
+        bus.publish(event);
+        Assertions.assertEquals(List.of("a:test", "b:test"), event.calls);
+        Assertions.assertTrue(bus.unregister(a));
+        Assertions.assertTrue(bus.isRegistered(b));
+        Assertions.assertEquals(1, bus.handleCount());
+    }
+
+    static class ResourceRequest extends RequestEvent<String> {
+        final List<String> visited = new ArrayList<>();
+    }
+
+    static class ServingListener implements Listener {
+        final String name;
+
+        ServingListener(String name) {
+            this.name = name;
+        }
+
+        void onRequest(ResourceRequest request) {
+            request.visited.add(name);
+            request.reply(name);
+        }
+    }
+
+    @Test
+    public void test_request() throws Exception {
+        EventBus bus = new EventBus();
+        bus.register(new ServingListener("a"));
+        bus.register(new ServingListener("b"));
+        ResourceRequest request = new ResourceRequest();
+        CompletableFuture<String> first = bus.request(request);
+        Assertions.assertTrue(first.isDone());
+        // The remaining subscriber is skipped, once the first reply is accepted
+        Assertions.assertEquals(List.of(first.get()), request.visited);
+        Assertions.assertTrue(request.isCompleted());
+        Assertions.assertFalse(request.isCancelled());
+        Assertions.assertFalse(request.reply("c"));
+        Assertions.assertThrows(IllegalStateException.class, () -> bus.request(request));
+        List<String> all = bus.requestAll(new ResourceRequest()).get();
+        Assertions.assertEquals(2, all.size());
+        Assertions.assertTrue(all.containsAll(List.of("a", "b")));
+        Assertions.assertEquals(2, bus.requestReduced(new ResourceRequest(),
+                "", (x, y) -> x + y).get().length());
+        Assertions.assertNull(new EventBus().request(new ResourceRequest()).get());
+    }
+
+    @Test
+    public void test_requestTimeout() {
+        // Publishes are never executed, thus the request is never completed
+        EventBus bus = new EventBus(EventProcessors.newAsyncPublisher(command -> {}),
+                EventProcessors.newCompiledMethodCollector());
+        bus.register(new ServingListener("a"));
+        ResourceRequest request = new ResourceRequest();
+        CompletableFuture<List<String>> future = bus.requestAll(request, Duration.ofMillis(10));
+        ExecutionException thrown = Assertions.assertThrows(ExecutionException.class,
+                () -> future.get(10, TimeUnit.SECONDS));
+        Assertions.assertTrue(thrown.getCause() instanceof TimeoutException);
+        Assertions.assertTrue(request.isCompleted());
+        Assertions.assertFalse(request.isCancelled());
+    }
+
+    static class ObservingListener implements Listener {
+        @SubscriberOptions(priority = -1, receiveCancelled = true)
+        void onRequest(ResourceRequest request) {
+            request.visited.add("observer");
+        }
+    }
+
+    @Test
+    public void test_requestCompletionStopsPublish() throws Exception {
+        EventBus bus = new EventBus();
+        bus.register(new ServingListener("a"));
+        bus.register(new ObservingListener());
+        ResourceRequest request = new ResourceRequest();
+        Assertions.assertEquals("a", bus.request(request).get());
+        // Subscribers receiving cancelled events are skipped once completed
+        Assertions.assertEquals(List.of("a"), request.visited);
+        request = new ResourceRequest();
+        request.setCancelled(true);
+        Assertions.assertNull(bus.request(request).get());
+        Assertions.assertEquals(List.of("observer"), request.visited);
+    }
+
+    static class GatedListener implements Listener {
+        final CountDownLatch entered = new CountDownLatch(1);
+        final CountDownLatch gate = new CountDownLatch(1);
+
+        void onRequest(ResourceRequest request) throws InterruptedException {
+            entered.countDown();
+            gate.await();
+            request.reply("gated");
+        }
+    }
+
+    private static void assertRequestAwaitsDispatch(EventBus bus) throws Exception {
+        GatedListener gated = new GatedListener();
+        bus.register(new ServingListener("a"));
+        bus.register(gated);
+        CompletableFuture<List<String>> future = bus.requestAll(new ResourceRequest());
+        // The request only completes once every subscriber has been called
+        Assertions.assertThrows(TimeoutException.class,
+                () -> future.get(50, TimeUnit.MILLISECONDS));
+        gated.gate.countDown();
+        List<String> all = future.get(10, TimeUnit.SECONDS);
+        Assertions.assertEquals(2, all.size());
+        Assertions.assertTrue(all.containsAll(List.of("a", "gated")));
+    }
+
+    @Test
+    public void test_requestOnRingBuffer() throws Exception {
+        RingBufferEventPublisher publisher = EventProcessors.newRingBufferPublisher(
+                8, RingBufferEventPublisher.ProducerType.MULTI, WaitStrategies.blocking());
+        try {
+            assertRequestAwaitsDispatch(EventBus.newRingBuffered(publisher));
+        } finally {
+            publisher.close();
+        }
+    }
+
+    @Test
+    public void test_requestOnKeyedLanes() throws Exception {
+        KeyedEventPublisher publisher = EventProcessors.newKeyedPublisher(2, 8, event -> null);
+        try {
+            assertRequestAwaitsDispatch(EventBus.newKeyed(publisher));
+        } finally {
+            publisher.close();
+        }
+    }
+
+    @Test
+    public void test_requestOnMailboxes() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        MailboxEventPublisher publisher = EventProcessors.newMailboxPublisher(
+                executor, 8, OverflowPolicy.FAIL);
+        try {
+            assertRequestAwaitsDispatch(new EventBus(publisher,
+                    EventProcessors.newCompiledMethodCollector()));
+            // Rejected letters complete the request exceptionally
+            GatedListener gated = new GatedListener();
+            MailboxEventPublisher bounded = EventProcessors.newMailboxPublisher(
+                    executor, 1, OverflowPolicy.FAIL);
+            EventBus bus = new EventBus(bounded, EventProcessors.newCompiledMethodCollector());
+            bus.register(gated);
+            CompletableFuture<List<String>> first = bus.requestAll(new ResourceRequest());
+            Assertions.assertTrue(gated.entered.await(10, TimeUnit.SECONDS));
+            CompletableFuture<List<String>> second = bus.requestAll(new ResourceRequest());
+            CompletableFuture<List<String>> third = bus.requestAll(new ResourceRequest());
+            ExecutionException thrown = Assertions.assertThrows(ExecutionException.class,
+                    () -> third.get(10, TimeUnit.SECONDS));
+            Assertions.assertTrue(thrown.getCause() instanceof RejectedExecutionException);
+            gated.gate.countDown();
+            Assertions.assertEquals(List.of("gated"), first.get(10, TimeUnit.SECONDS));
+            Assertions.assertEquals(List.of("gated"), second.get(10, TimeUnit.SECONDS));
+            bounded.close();
+        } finally {
+            publisher.close();
+            executor.shutdown();
+        }
+    }
+
+    static class OrderEvent extends Event implements TopicEvent {
+        final String topic;
+        final List<String> calls = new ArrayList<>();
+
+        OrderEvent(String topic) {
+            this.topic = topic;
+        }
+
+        @Override
+        public String getTopic() {
+            return topic;
+        }
+    }
+
+    static class OrderListener implements Listener {
+        @SubscriberOptions(topic = "orders.eu.*")
+        void onEurope(OrderEvent event) {
+            event.calls.add("eu");
+        }
+
+        @SubscriberOptions(topic = "orders.#", priority = 1)
+        void onOrder(OrderEvent event) {
+            event.calls.add("orders");
+        }
+
+        void onAny(OrderEvent event) {
+            event.calls.add("any");
+        }
+    }
+
+    @Test
+    public void test_publishOnTopic() {
+        Assertions.assertTrue(TopicTrie.matches("orders.#", "orders"));
+        Assertions.assertTrue(TopicTrie.matches("#.created", "orders.eu.created"));
+        Assertions.assertFalse(TopicTrie.matches("orders.*", "orders.eu.created"));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> TopicTrie.checkPattern("orders.eu*"));
+        EventPublisher indexed = EventProcessors.newPolymorphicPublisher();
+        EventPublisher visiting = indexed::publish;
+        for (EventBus.RegistryMode mode : EventBus.RegistryMode.values()) {
+            for (EventPublisher publisher : List.of(indexed, visiting)) {
+                EventBus bus = new EventBus(mode, publisher,
+                        EventProcessors.newCompiledMethodCollector());
+                OrderListener listener = new OrderListener();
+                bus.register(listener);
+                OrderEvent event = new OrderEvent("orders.eu.created");
+                bus.publish(event);
+                // Visiting publishers do not order subscribers by priority
+                if (publisher != indexed) event.calls.sort(null);
+                Assertions.assertEquals(publisher == indexed ? List.of("orders", "any", "eu")
+                        : List.of("any", "eu", "orders"), event.calls);
+                event = new OrderEvent("orders.us.created");
+                bus.publishBatch(event);
+                Assertions.assertEquals(2, event.calls.size());
+                Assertions.assertTrue(event.calls.containsAll(List.of("orders", "any")));
+                event = new OrderEvent("invoices");
+                bus.publish(event);
+                Assertions.assertEquals(List.of("any"), event.calls);
+                Assertions.assertTrue(bus.unregister(listener));
+                event = new OrderEvent("orders.eu.created");
+                bus.publish(event);
+                Assertions.assertTrue(event.calls.isEmpty());
+            }
+        }
+    }
+
+    @Test
+    public void test_publishOnTopicByPriority() {
+        EventBus bus = new EventBus();
+        SubscriberCollection<Event, EventSubscriber<? extends Event>> subs
+                = SubscriberCollections.newCompact();
+        subs.add(EventSubscribers.newCallbackSubscriber(OrderEvent.class,
+                (origin, event) -> event.calls.add("low"), -1, false, "orders.#", null));
+        subs.add(EventSubscribers.newCallbackSubscriber(OrderEvent.class,
+                (origin, event) -> event.calls.add("type"), 0, false, null, null));
+        subs.add(EventSubscribers.newCallbackSubscriber(OrderEvent.class,
+                (origin, event) -> event.calls.add("high"), 1, false, "orders.#", null));
+        subs.add(EventSubscribers.newCallbackSubscriber(OrderEvent.class,
+                (origin, event) -> event.calls.add("one"), 0, false, "orders.*", null));
+        subs.add(EventSubscribers.newCallbackSubscriber(OrderEvent.class,
+                (origin, event) -> event.calls.add("any"), 0, false, "orders.#", null));
+        bus.putHandle(bus.createHandle(new Listener() {}, subs));
+        OrderEvent event = new OrderEvent("orders.eu");
+        bus.publish(event);
+        // Topic subscribers of equal priority are ordered after the event type
+        Assertions.assertEquals(List.of("high", "type", "any", "one", "low"), event.calls);
+    }
+
+    static class PaymentEvent extends Event implements RoutedEvent {
+        final int customerId;
+        final int amount;
+        final List<String> calls = new ArrayList<>();
+
+        PaymentEvent(int customerId, int amount) {
+            this.customerId = customerId;
+            this.amount = amount;
+        }
+
+        @Override
+        public Object getAttribute(String name) {
+            if (name.equals("customerId")) return customerId;
+            if (name.equals("amount")) return amount;
+            return null;
+        }
+    }
+
+    @Test
+    public void test_publishRouted() {
+        EventPublisher indexed = EventProcessors.newPolymorphicPublisher();
+        EventPublisher visiting = indexed::publish;
+        for (EventPublisher publisher : List.of(indexed, visiting)) {
+            EventBus bus = new EventBus(EventBus.RegistryMode.COPY_ON_WRITE, publisher,
+                    EventProcessors.newCompiledMethodCollector());
+            SubscriberCollection<Event, EventSubscriber<? extends Event>> subs
+                    = SubscriberCollections.newCompact();
+            for (int i = 0; i < 1000; ++i) {
+                String name = "customer" + i;
+                subs.add(EventSubscribers.newCallbackSubscriber(PaymentEvent.class,
+                        (origin, event) -> event.calls.add(name), 0, false, null,
+                        RoutingCondition.equalTo("customerId", i)));
+            }
+            subs.add(EventSubscribers.newCallbackSubscriber(PaymentEvent.class,
+                    (origin, event) -> event.calls.add("large"), 1, false, null,
+                    RoutingCondition.atLeast("amount", 100)));
+            subs.add(EventSubscribers.newCallbackSubscriber(PaymentEvent.class,
+                    (origin, event) -> event.calls.add("small"), 1, false, null,
+                    RoutingCondition.between("amount", 0, 100)));
+            Listener listener = new Listener() {};
+            bus.putHandle(bus.createHandle(listener, subs));
+            PaymentEvent event = new PaymentEvent(42, 150);
+            bus.publish(event);
+            // Visiting publishers do not order subscribers by priority
+            if (publisher != indexed) event.calls.sort(Comparator.reverseOrder());
+            Assertions.assertEquals(List.of("large", "customer42"), event.calls);
+            event = new PaymentEvent(1000, 99);
+            bus.publishBatch(event);
+            Assertions.assertEquals(List.of("small"), event.calls);
+            Assertions.assertTrue(bus.unregister(listener));
+            event = new PaymentEvent(42, 150);
+            bus.publish(event);
+            Assertions.assertTrue(event.calls.isEmpty());
+        }
+    }
+
+    static class AmountEvent extends Event implements RoutedEvent {
+        final Object amount;
+        final List<String> calls = new ArrayList<>();
+
+        AmountEvent(Object amount) {
+            this.amount = amount;
+        }
+
+        @Override
+        public Object getAttribute(String name) {
+            return name.equals("amount") ? amount : null;
+        }
+    }
+
+    @Test
+    public void test_publishRoutedRanges() {
+        EventBus bus = new EventBus(EventBus.RegistryMode.SYNCHRONIZED,
+                EventProcessors.newPolymorphicPublisher(),
+                EventProcessors.newCompiledMethodCollector());
+        SubscriberCollection<Event, EventSubscriber<? extends Event>> subs
+                = SubscriberCollections.newCompact();
+        subs.add(EventSubscribers.newCallbackSubscriber(AmountEvent.class,
+                (origin, event) -> event.calls.add("below50"), 0, false, null,
+                RoutingCondition.below("amount", 50)));
+        subs.add(EventSubscribers.newCallbackSubscriber(AmountEvent.class,
+                (origin, event) -> event.calls.add("10to100"), 2, false, null,
+                RoutingCondition.between("amount", 10, 100)));
+        subs.add(EventSubscribers.newCallbackSubscriber(AmountEvent.class,
+                (origin, event) -> event.calls.add("atLeast50"), 1, false, null,
+                RoutingCondition.atLeast("amount", 50)));
+        Listener listener = new Listener() {};
+        bus.putHandle(bus.createHandle(listener, subs));
+        Map<Object, List<String>> expected = new LinkedHashMap<>();
+        expected.put(5, List.of("below50"));
+        expected.put(10, List.of("10to100", "below50"));
+        expected.put(49, List.of("10to100", "below50"));
+        expected.put(50, List.of("10to100", "atLeast50"));
+        expected.put(100, List.of("atLeast50"));
+        // Values that are not comparable to the bounds never satisfy a range
+        expected.put("50", List.of());
+        for (Map.Entry<Object, List<String>> e : expected.entrySet()) {
+            AmountEvent event = new AmountEvent(e.getKey());
+            bus.publish(event);
+            Assertions.assertEquals(e.getValue(), event.calls, "amount " + e.getKey());
+        }
+        // Bounds that are not comparable to the existing bounds are rejected
+        SubscriberCollection<Event, EventSubscriber<? extends Event>> other
+                = SubscriberCollections.newCompact();
+        other.add(EventSubscribers.newCallbackSubscriber(AmountEvent.class,
+                (origin, event) -> event.calls.add("string"), 0, false, null,
+                RoutingCondition.atLeast("amount", "a")));
+        Listener rejected = new Listener() {};
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> bus.putHandle(bus.createHandle(rejected, other)));
+        Assertions.assertFalse(bus.unregister(rejected));
+        AmountEvent event = new AmountEvent(75);
+        bus.publish(event);
+        Assertions.assertEquals(List.of("10to100", "atLeast50"), event.calls);
+    }
+
+    @Test
+    public void test_publishRoutedRangesAfterMutation() {
+        EventBus bus = new EventBus(EventBus.RegistryMode.COPY_ON_WRITE,
+                EventProcessors.newPolymorphicPublisher(),
+                EventProcessors.newCompiledMethodCollector());
+        Random random = new Random(42);
+        Map<Listener, List<RoutingCondition>> registered = new LinkedHashMap<>();
+        for (int round = 0; round < 20; ++round) {
+            // Registers ranges of equal priority, that overlap one another
+            SubscriberCollection<Event, EventSubscriber<? extends Event>> subs
+                    = SubscriberCollections.newCompact();
+            List<RoutingCondition> conditions = new ArrayList<>();
+            for (int i = 0; i < 10; ++i) {
+                int low = random.nextInt(100);
+                RoutingCondition condition = random.nextInt(10) == 0
+                        ? RoutingCondition.between("amount", null, null)
+                        : RoutingCondition.between("amount",
+                        random.nextBoolean() ? low : null,
+                        random.nextBoolean() ? low + random.nextInt(50) : null);
+                conditions.add(condition);
+                subs.add(EventSubscribers.newCallbackSubscriber(AmountEvent.class,
+                        (origin, event) -> event.calls.add(condition.toString()),
+                        0, false, null, condition));
+            }
+            Listener listener = new Listener() {};
+            bus.putHandle(bus.createHandle(listener, subs));
+            registered.put(listener, conditions);
+            if (round % 3 == 2) {
+                Listener removed = registered.keySet().iterator().next();
+                Assertions.assertTrue(bus.unregister(removed));
+                registered.remove(removed);
+            }
+            for (int amount = -1; amount <= 150; amount += 7) {
+                List<String> expected = new ArrayList<>();
+                for (List<RoutingCondition> list : registered.values()) {
+                    for (RoutingCondition condition : list)
+                        if (condition.test(amount)) expected.add(condition.toString());
+                }
+                AmountEvent event = new AmountEvent(amount);
+                bus.publish(event);
+                Assertions.assertEquals(expected, event.calls, "amount " + amount);
+            }
+        }
+    }
+
+
+}
@@ -0,0 +1,67 @@
+package io.github.aparx.eventbus.jfr;
+
+import io.github.aparx.eventbus.Event;
+import io.github.aparx.eventbus.EventBus;
+import io.github.aparx.eventbus.Listener;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * @author aparx (Vinzent Zeband)
+ * @version 19:36 CET, 18.10.2026
+ * @since 1.0
+ */
+public class FlightRecordingTests {
+
+    static class TestEvent extends Event {
+    }
+
+    static class TestListener implements Listener {
+        void onTest(TestEvent event) {
+        }
+
+        void onFailing(TestEvent event) {
+            throw new IllegalStateException("failure");
+        }
+    }
+
+    @Test
+    public void test_recordsPublishAndDispatch(@TempDir Path dir) throws Exception {
+        EventBus bus = new EventBus();
+        bus.register(new TestListener());
+        Assertions.assertFalse(FlightRecording.isDispatchEnabled());
+        Path file = dir.resolve("eventbus.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(PublishRecording.NAME).withThreshold(Duration.ZERO);
+            recording.enable(DispatchRecording.NAME).withThreshold(Duration.ZERO);
+            recording.start();
+            Assertions.assertTrue(FlightRecording.isPublishEnabled());
+            Assertions.assertTrue(FlightRecording.isDispatchEnabled());
+            bus.publish(new TestEvent(), (thrown, scope, sub) -> {});
+            recording.stop();
+            recording.dump(file);
+        }
+        Assertions.assertFalse(FlightRecording.isDispatchEnabled());
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        Assertions.assertEquals(1, events.stream()
+                .filter(e -> e.getEventType().getName().equals(PublishRecording.NAME))
+                .count());
+        RecordedEvent failing = events.stream()
+                .filter(e -> e.getEventType().getName().equals(DispatchRecording.NAME))
+                .filter(e -> (TestListener.class.getName() + "#onFailing")
+                        .equals(e.getString("subscriber")))
+                .findFirst().orElseThrow();
+        Assertions.assertEquals("failure", failing.getString("message"));
+        Assertions.assertEquals(TestListener.class.getName(),
+                failing.getClass("listenerType").getName());
+    }
+
+}
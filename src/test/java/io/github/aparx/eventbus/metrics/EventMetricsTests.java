@@ -0,0 +1,149 @@
+package io.github.aparx.eventbus.metrics;
+
+import io.github.aparx.eventbus.Event;
+import io.github.aparx.eventbus.EventBus;
+import io.github.aparx.eventbus.Listener;
+import io.github.aparx.eventbus.TopicEvent;
+import io.github.aparx.eventbus.processors.CachingSubscriberCollector;
+import io.github.aparx.eventbus.processors.EventProcessors;
+import io.github.aparx.eventbus.subscriber.member.ClassMemberEventSubscriber;
+import io.github.aparx.eventbus.subscriber.member.SubscriberOptions;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import java.util.*;
+
+/**
+ * @author aparx (Vinzent Zeband)
+ * @version 19:35 CET, 18.10.2026
+ * @since 1.0
+ */
+public class EventMetricsTests {
+
+    static class TestEvent extends Event {
+    }
+
+    static class TestListener implements Listener {
+        void onTest(TestEvent event) {
+        }
+
+        void onFailing(TestEvent event) {
+            throw new IllegalStateException();
+        }
+    }
+
+    @Test
+    public void test_recordsSubscribers() throws Exception {
+        InstrumentedEventPublisher publisher =
+                EventMetrics.instrument(EventProcessors.newPolymorphicPublisher());
+        EventBus bus = new EventBus(publisher, EventProcessors.newCompiledMethodCollector());
+        bus.register(new TestListener());
+        List<Object> failed = new ArrayList<>();
+        for (int i = 0; i < 100; ++i)
+            bus.publish(new TestEvent(), (thrown, scope, sub) -> failed.add(sub));
+        // Error handlers receive the original subscribers
+        Assertions.assertEquals(100, failed.size());
+        Assertions.assertTrue(failed.get(0) instanceof ClassMemberEventSubscriber);
+
+        EventMetrics metrics = publisher.getMetrics();
+        Assertions.assertEquals(2, metrics.getSubscriberMetrics().size());
+        for (SubscriberMetrics m : metrics.getSubscriberMetrics()) {
+            Assertions.assertEquals(100, m.getInvocationCount());
+            boolean failing = m.getName().endsWith("#onFailing");
+            Assertions.assertEquals(failing ? 100 : 0, m.getErrorCount());
+            Assertions.assertEquals(100, m.getLatency().getCount());
+        }
+        EventTypeMetrics typeMetrics = metrics.getEventTypeMetrics(TestEvent.class);
+        Assertions.assertNotNull(typeMetrics);
+        Assertions.assertEquals(100, typeMetrics.getPublishCount());
+
+        MBeanServer server = MBeanServerFactory.newMBeanServer();
+        metrics.registerMBeans(server, "test");
+        Assertions.assertEquals(3, server.queryNames(
+                new ObjectName(EventMetrics.DOMAIN + ":bus=\"test\",*"), null).size());
+        metrics.unregisterMBeans();
+        Assertions.assertEquals(0, server.queryNames(
+                new ObjectName(EventMetrics.DOMAIN + ":*"), null).size());
+    }
+
+    static class TopicTestEvent extends TestEvent implements TopicEvent {
+        final List<String> calls = new ArrayList<>();
+
+        @Override
+        public String getTopic() {
+            return "orders.eu";
+        }
+    }
+
+    static class TopicListener implements Listener {
+        @SubscriberOptions(topic = "orders.*")
+        void onOrder(TopicTestEvent event) {
+            event.calls.add("orders");
+        }
+
+        void onAny(TopicTestEvent event) {
+            event.calls.add("any");
+        }
+    }
+
+    @Test
+    public void test_instrumentedTopics() {
+        Set<Object> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        // Filters receive instrumented subscribers, which retain their topic
+        InstrumentedEventPublisher publisher = EventMetrics.instrument(
+                EventProcessors.newPolymorphicPublisher(List.of(s -> {
+                    seen.add(s);
+                    return s.getTopic() != null;
+                })));
+        EventBus bus = new EventBus(publisher, EventProcessors.newCompiledMethodCollector());
+        bus.register(new TopicListener());
+        TopicTestEvent event = new TopicTestEvent();
+        bus.publish(event);
+        Assertions.assertEquals(List.of("orders"), event.calls);
+        // Topic events resolve new arrays, yet instrumented subscribers are reused
+        bus.publish(new TopicTestEvent());
+        Assertions.assertEquals(2, seen.size());
+    }
+
+    @Test
+    public void test_registersSubscribersOfSameMember() throws Exception {
+        CachingSubscriberCollector<?> collector = EventProcessors.newCompiledMethodCollector();
+        InstrumentedEventPublisher publisher =
+                EventMetrics.instrument(EventProcessors.newPolymorphicPublisher());
+        EventBus bus = new EventBus(publisher, collector);
+        MBeanServer server = MBeanServerFactory.newMBeanServer();
+        publisher.getMetrics().registerMBeans(server, "test");
+        TestListener first = new TestListener();
+        bus.register(first);
+        bus.publish(new TestEvent(), (thrown, scope, sub) -> {});
+        // Collects new subscribers of the same members for the next listener
+        collector.invalidateAll();
+        bus.register(new TestListener());
+        bus.publish(new TestEvent(), (thrown, scope, sub) -> {});
+        Assertions.assertEquals(4, publisher.getMetrics().getSubscriberMetrics().size());
+        Assertions.assertEquals(4, server.queryNames(
+                new ObjectName(EventMetrics.DOMAIN + ":type=Subscriber,*"), null).size());
+        // Bus names are exclusive to a single metrics instance
+        Assertions.assertThrows(IllegalStateException.class,
+                () -> new EventMetrics().registerMBeans(server, "test"));
+        publisher.getMetrics().unregisterMBeans();
+    }
+
+    @Test
+    public void test_histogramPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 1_000_000; ++value)
+            histogram.record(value);
+        LatencySnapshot snapshot = histogram.snapshot();
+        Assertions.assertEquals(1_000_000, snapshot.getCount());
+        Assertions.assertEquals(1_000_000, snapshot.getMaxNanos());
+        // Every value is recorded within a relative error of 1/16
+        Assertions.assertEquals(500_000, snapshot.getValueAtPercentile(50), 500_000 / 16d);
+        Assertions.assertEquals(990_000, snapshot.getValueAtPercentile(99), 990_000 / 16d);
+        Assertions.assertEquals(7, snapshot.getValueAtPercentile(0.0007));
+    }
+
+}
@@ -0,0 +1,727 @@
+package io.github.aparx.eventbus.processors;
+
+import io.github.aparx.eventbus.ConflatedEvent;
+import io.github.aparx.eventbus.Event;
+import io.github.aparx.eventbus.EventBus;
+import io.github.aparx.eventbus.Listener;
+import io.github.aparx.eventbus.audience.ListenerHandle;
+import io.github.aparx.eventbus.subscriber.EventSubscriber;
+import io.github.aparx.eventbus.subscriber.collection.SubscriberCollection;
+import io.github.aparx.eventbus.subscriber.collection.SubscriberCollections;
+import io.github.aparx.eventbus.subscriber.member.EventMethodDeducer;
+import io.github.aparx.eventbus.subscriber.member.ClassMemberEventSubscriber;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @author aparx (Vinzent Zeband)
+ * @version 19:15 CET, 18.10.2026
+ * @since 1.0
+ */
+public class EventProcessorsTests {
+
+    static class TestEvent extends Event {
+    }
+
+    static class TestListener implements Listener {
+        void onFirst(TestEvent event) {
+        }
+
+        void onSecond(TestEvent event) {
+        }
+
+        void notAnEventMethod(String s) {
+        }
+    }
+
+    @Test
+    public void test_collectorCachesTemplates() {
+        CachingSubscriberCollector<ClassMemberEventSubscriber<Event, Method>> collector
+                = EventProcessors.newDefaultMethodCollector();
+        SubscriberCollection<?, ?> first = collector.collect(new TestListener());
+        SubscriberCollection<?, ?> second = collector.collect(new TestListener());
+        Assertions.assertEquals(2, first.size());
+        Assertions.assertNotSame(first, second);
+        // Subscribers are shared amongst instances of the same class
+        Assertions.assertTrue(first.containsAll(second));
+        SubscriberCacheStats stats = collector.getCacheStats();
+        Assertions.assertEquals(1, stats.missCount());
+        Assertions.assertEquals(1, stats.hitCount());
+        collector.invalidate(TestListener.class);
+        collector.collect(new TestListener());
+        stats = collector.getCacheStats();
+        Assertions.assertEquals(2, stats.missCount());
+        Assertions.assertEquals(1, stats.invalidationCount());
+        collector.invalidateAll();
+        collector.collect(new TestListener());
+        Assertions.assertEquals(3, collector.getCacheStats().missCount());
+    }
+
+    @Test
+    public void test_collectorAppliesFilters() {
+        List<Method> visited = new ArrayList<>();
+        var collector = EventProcessors.newCompiledMethodCollector(
+                List.of(method -> visited.add(method) && method.getName().equals("onFirst")));
+        SubscriberCollection<?, ?> subs = collector.collect(new TestListener());
+        Assertions.assertEquals(1, subs.size());
+        for (EventSubscriber<?> s : subs)
+            Assertions.assertEquals("onFirst", ((ClassMemberEventSubscriber<?, ?>) s).getMember().getName());
+        collector.collect(new TestListener());
+        // Filters are only applied once, when the class is analyzed
+        Assertions.assertEquals(2, visited.size());
+    }
+
+    @Test
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void test_frozenCollector() {
+        var collector = EventProcessors.newFrozenCollector(
+                EventProcessors.newCompiledMethodCollector());
+        SubscriberCollection subs = collector.collect(new TestListener());
+        Assertions.assertEquals(2, subs.getGroup(TestEvent.class).size());
+        Assertions.assertSame(subs, SubscriberCollections.freeze(subs));
+        Assertions.assertThrows(UnsupportedOperationException.class, subs::clear);
+        Assertions.assertThrows(UnsupportedOperationException.class,
+                () -> subs.removeAll(TestEvent.class));
+        Assertions.assertEquals(1, collector.getCacheStats().missCount());
+        // Collections derived of a frozen collection are mutable again
+        var derived = subs.getDerivedOf(TestEvent.class, EventSubscriber.class);
+        Assertions.assertTrue(derived.removeAll(TestEvent.class));
+    }
+
+    @Test
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void test_concurrentMultimapPresets() {
+        var collector = EventProcessors.newDefaultMethodCollector(
+                () -> SubscriberCollections.newOfMultimapFactory(
+                        SubscriberCollections.MultimapFactory.newConcurrentArraylist()),
+                EventMethodDeducer.FIRST_PARAMETER, null);
+        SubscriberCollection subs = collector.collect(new TestListener());
+        Collection<?> group = subs.getGroup(TestEvent.class);
+        Assertions.assertEquals(2, group.size());
+        // Iterators of a copy-on-write group are not affected by removals
+        Iterator<?> iterator = group.iterator();
+        Assertions.assertTrue(subs.removeAll(TestEvent.class));
+        Assertions.assertTrue(subs.isEmpty());
+        iterator.next();
+        Assertions.assertTrue(iterator.hasNext());
+    }
+
+    @Test
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void test_concurrentPresetReadsDuringMutation() throws Exception {
+        var collector = EventProcessors.newDefaultMethodCollector(
+                () -> SubscriberCollections.newOfMultimapFactory(
+                        SubscriberCollections.MultimapFactory.newConcurrentHashset()),
+                EventMethodDeducer.FIRST_PARAMETER, null);
+        SubscriberCollection subs = collector.collect(new TestListener());
+        List<Object> subscribers = new ArrayList<>(subs.getGroup(TestEvent.class));
+        Assertions.assertEquals(2, subscribers.size());
+        // Groups are emptied and refilled, while another thread reads them
+        AtomicBoolean done = new AtomicBoolean();
+        CompletableFuture<Integer> reader = CompletableFuture.supplyAsync(() -> {
+            int reads = 0;
+            while (!done.get()) {
+                for (Object subscriber : subs.getGroup(TestEvent.class))
+                    Assertions.assertTrue(subscribers.contains(subscriber));
+                ++reads;
+            }
+            return reads;
+        });
+        for (int i = 0; i < 10_000; ++i) {
+            Assertions.assertTrue(subs.removeAll(TestEvent.class));
+            subscribers.forEach(subs::add);
+        }
+        done.set(true);
+        Assertions.assertTrue(reader.get(10, TimeUnit.SECONDS) > 0);
+        Assertions.assertEquals(2, subs.getGroup(TestEvent.class).size());
+    }
+
+    static class SequenceEvent extends Event {
+        final int sequence;
+
+        SequenceEvent(int sequence) {
+            this.sequence = sequence;
+        }
+    }
+
+    static class SequenceListener implements Listener {
+        final List<Integer> received = Collections.synchronizedList(new ArrayList<>());
+
+        void onSequence(SequenceEvent event) {
+            received.add(event.sequence);
+        }
+    }
+
+    static class FailingListener implements Listener {
+        void onSequence(SequenceEvent event) {
+            throw new IllegalStateException("failure");
+        }
+    }
+
+    /** Listener publishing two more events from its dispatching thread. */
+    static class RepublishingListener extends SequenceListener {
+        final List<Throwable> rejected = Collections.synchronizedList(new ArrayList<>());
+        final CountDownLatch republished = new CountDownLatch(1);
+        EventBus bus;
+
+        @Override
+        void onSequence(SequenceEvent event) {
+            super.onSequence(event);
+            if (event.sequence != 0) return;
+            for (int i = 1; i <= 2; ++i)
+                bus.publish(new SequenceEvent(i), (thrown, scope, sub) -> rejected.add(thrown));
+            republished.countDown();
+        }
+    }
+
+    @Test
+    public void test_asyncPublisherOrdering() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            for (AsyncOrdering ordering : AsyncOrdering.values()) {
+                EventBus bus = new EventBus(
+                        EventProcessors.newAsyncPublisher(executor, ordering),
+                        EventProcessors.newDefaultMethodCollector());
+                SequenceListener a = new SequenceListener();
+                SequenceListener b = new SequenceListener();
+                bus.register(a);
+                bus.register(b);
+                List<CompletableFuture<Void>> futures = new ArrayList<>();
+                for (int i = 0; i < 100; ++i)
+                    futures.add(bus.publishAsync(new SequenceEvent(i)));
+                CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                        .get(10, TimeUnit.SECONDS);
+                Assertions.assertEquals(100, a.received.size());
+                Assertions.assertEquals(100, b.received.size());
+                if (ordering != AsyncOrdering.PER_LISTENER) continue;
+                for (int i = 0; i < 100; ++i) {
+                    Assertions.assertEquals(i, a.received.get(i));
+                    Assertions.assertEquals(i, b.received.get(i));
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void test_asyncPublisherErrors() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            EventBus bus = new EventBus(
+                    EventProcessors.newAsyncPublisher(executor),
+                    EventProcessors.newDefaultMethodCollector());
+            bus.register(new FailingListener());
+            CompletableFuture<Void> future = bus.publishAsync(new SequenceEvent(0));
+            Assertions.assertThrows(ExecutionException.class,
+                    () -> future.get(10, TimeUnit.SECONDS));
+            List<Throwable> handled = Collections.synchronizedList(new ArrayList<>());
+            bus.publishAsync(new SequenceEvent(1), (thrown, scope, sub) -> handled.add(thrown))
+                    .get(10, TimeUnit.SECONDS);
+            Assertions.assertEquals(1, handled.size());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void test_asyncPublisherScopeErrors() throws Exception {
+        List<Throwable> uncaught = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch failed = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable);
+            thread.setUncaughtExceptionHandler((t, e) -> {
+                uncaught.add(e);
+                failed.countDown();
+            });
+            return thread;
+        });
+        try {
+            AsyncEventPublisher publisher = EventProcessors.newAsyncPublisher(executor);
+            EventBus bus = new EventBus(publisher, EventProcessors.newDefaultMethodCollector());
+            bus.register(new FailingListener());
+            // Publishing to a single handle does not return any future
+            publisher.publish(new SequenceEvent(0), bus.iterator().next(), null);
+            Assertions.assertTrue(failed.await(10, TimeUnit.SECONDS));
+            Assertions.assertEquals(1, uncaught.size());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void test_asyncPublisherIndexedErrors() throws Exception {
+        List<Throwable> uncaught = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch failed = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable);
+            thread.setUncaughtExceptionHandler((t, e) -> {
+                uncaught.add(e);
+                failed.countDown();
+            });
+            return thread;
+        });
+        try {
+            EventBus bus = new EventBus(EventProcessors.newAsyncPublisher(executor),
+                    EventProcessors.newDefaultMethodCollector());
+            bus.register(new FailingListener());
+            // Publishing to resolved subscriptions discards the future
+            bus.publish(new SequenceEvent(0));
+            Assertions.assertTrue(failed.await(10, TimeUnit.SECONDS));
+            Assertions.assertEquals(1, uncaught.size());
+            Assertions.assertFalse(uncaught.get(0) instanceof CompletionException);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void test_ringBufferSingleProducer() {
+        for (WaitStrategy strategy : List.of(WaitStrategies.busySpin(),
+                WaitStrategies.yielding(), WaitStrategies.blocking())) {
+            RingBufferEventPublisher publisher = EventProcessors.newRingBufferPublisher(
+                    8, RingBufferEventPublisher.ProducerType.SINGLE, strategy);
+            EventBus bus = EventBus.newRingBuffered(publisher);
+            SequenceListener listener = new SequenceListener();
+            bus.register(listener);
+            // Exceeds the capacity, thus the producer has to wait for slots
+            for (int i = 0; i < 1000; ++i)
+                bus.publish(new SequenceEvent(i));
+            publisher.close();
+            Assertions.assertEquals(1000, listener.received.size());
+            for (int i = 0; i < 1000; ++i)
+                Assertions.assertEquals(i, listener.received.get(i));
+            Assertions.assertThrows(IllegalStateException.class,
+                    () -> bus.publish(new SequenceEvent(0)));
+        }
+    }
+
+    @Test
+    public void test_ringBufferMultiProducer() throws Exception {
+        RingBufferEventPublisher publisher = EventProcessors.newRingBufferPublisher(
+                64, RingBufferEventPublisher.ProducerType.MULTI, WaitStrategies.blocking(),
+                2, Executors.defaultThreadFactory(), EventProcessors.newPolymorphicPublisher());
+        EventBus bus = EventBus.newRingBuffered(publisher);
+        SequenceListener listener = new SequenceListener();
+        bus.register(listener);
+        bus.register(new FailingListener());
+        List<Throwable> handled = Collections.synchronizedList(new ArrayList<>());
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; ++t) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 2500; ++i)
+                        bus.publish(new SequenceEvent(i), (thrown, scope, sub) -> handled.add(thrown));
+                }));
+            }
+            for (Future<?> future : futures)
+                future.get(10, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdown();
+        }
+        publisher.close();
+        Assertions.assertEquals(10_000, listener.received.size());
+        Assertions.assertEquals(10_000, handled.size());
+        Assertions.assertEquals(64, publisher.remainingCapacity());
+    }
+
+    @Test
+    public void test_ringBufferConcurrentClose() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            for (int round = 0; round < 20; ++round) {
+                RingBufferEventPublisher publisher = EventProcessors.newRingBufferPublisher(
+                        16, RingBufferEventPublisher.ProducerType.MULTI, WaitStrategies.blocking(),
+                        2, Executors.defaultThreadFactory(), EventProcessors.newPolymorphicPublisher());
+                EventBus bus = EventBus.newRingBuffered(publisher);
+                SequenceListener listener = new SequenceListener();
+                bus.register(listener);
+                AtomicInteger published = new AtomicInteger();
+                List<Future<?>> futures = new ArrayList<>();
+                for (int t = 0; t < 4; ++t) {
+                    futures.add(executor.submit(() -> {
+                        try {
+                            for (int i = 0; ; ++i) {
+                                bus.publish(new SequenceEvent(i));
+                                published.incrementAndGet();
+                            }
+                        } catch (IllegalStateException e) {
+                            // The publisher has been closed
+                        }
+                    }));
+                }
+                Thread.sleep(1);
+                publisher.close();
+                for (Future<?> future : futures)
+                    future.get(10, TimeUnit.SECONDS);
+                // Events published while closing are never lost
+                Assertions.assertEquals(published.get(), listener.received.size());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void test_keyedPublisherOrdering() {
+        KeyedEventPublisher publisher = EventProcessors.newKeyedPublisher(
+                4, 16, event -> ((SequenceEvent) event).sequence % 8);
+        EventBus bus = EventBus.newKeyed(publisher);
+        Map<Integer, List<Integer>> received = new ConcurrentHashMap<>();
+        bus.register(new Listener() {
+            void onSequence(SequenceEvent event) {
+                received.computeIfAbsent(event.sequence % 8, k -> new ArrayList<>())
+                        .add(event.sequence);
+            }
+        });
+        for (int i = 0; i < 1000; ++i)
+            bus.publish(new SequenceEvent(i));
+        publisher.close();
+        // Events of equal key are received in order, as they share a lane
+        Assertions.assertEquals(8, received.size());
+        received.forEach((key, sequences) -> {
+            Assertions.assertEquals(125, sequences.size());
+            for (int i = 0; i < sequences.size(); ++i)
+                Assertions.assertEquals(key + 8 * i, sequences.get(i));
+        });
+        for (int lane = 0; lane < 4; ++lane)
+            Assertions.assertEquals(0, publisher.getQueueDepth(lane));
+    }
+
+    @Test
+    public void test_keyedPublisherOverflow() throws Exception {
+        for (OverflowPolicy policy : List.of(OverflowPolicy.DROP_NEWEST, OverflowPolicy.FAIL)) {
+            KeyedEventPublisher publisher = EventProcessors.newKeyedPublisher(
+                    1, 1, event -> null, policy, Executors.defaultThreadFactory(),
+                    EventProcessors.newPolymorphicPublisher());
+            EventBus bus = EventBus.newKeyed(publisher);
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            SequenceListener listener = new SequenceListener() {
+                @Override
+                void onSequence(SequenceEvent event) {
+                    super.onSequence(event);
+                    started.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            };
+            bus.register(listener);
+            bus.publish(new SequenceEvent(0));
+            Assertions.assertTrue(started.await(10, TimeUnit.SECONDS));
+            // The lane is busy with the first event and can queue one more
+            bus.publish(new SequenceEvent(1));
+            Assertions.assertEquals(1, publisher.getQueueDepth(0));
+            if (policy == OverflowPolicy.FAIL) {
+                Assertions.assertThrows(RejectedExecutionException.class,
+                        () -> bus.publish(new SequenceEvent(2)));
+                List<Throwable> handled = new ArrayList<>();
+                bus.publish(new SequenceEvent(3), (thrown, scope, sub) -> handled.add(thrown));
+                Assertions.assertEquals(1, handled.size());
+                Assertions.assertEquals(0, publisher.getDropCount(0));
+            } else {
+                bus.publish(new SequenceEvent(2));
+                bus.publish(new SequenceEvent(3));
+                Assertions.assertEquals(2, publisher.getDropCount(0));
+            }
+            release.countDown();
+            publisher.close();
+            Assertions.assertEquals(List.of(0, 1), listener.received);
+        }
+    }
+
+    @Test
+    public void test_keyedPublisherInterruptedBlock() throws Exception {
+        KeyedEventPublisher publisher = EventProcessors.newKeyedPublisher(
+                1, 1, event -> null, OverflowPolicy.BLOCK, Executors.defaultThreadFactory(),
+                EventProcessors.newPolymorphicPublisher());
+        EventBus bus = EventBus.newKeyed(publisher);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        SequenceListener listener = new SequenceListener() {
+            @Override
+            void onSequence(SequenceEvent event) {
+                super.onSequence(event);
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        bus.register(listener);
+        bus.publish(new SequenceEvent(0));
+        Assertions.assertTrue(started.await(10, TimeUnit.SECONDS));
+        bus.publish(new SequenceEvent(1));
+        // Interrupted publishers are rejected rather than silently dropped
+        Thread.currentThread().interrupt();
+        try {
+            Assertions.assertThrows(RejectedExecutionException.class,
+                    () -> bus.publish(new SequenceEvent(2)));
+            Assertions.assertTrue(Thread.currentThread().isInterrupted());
+        } finally {
+            Thread.interrupted();
+        }
+        Assertions.assertEquals(0, publisher.getDropCount(0));
+        release.countDown();
+        publisher.close();
+        Assertions.assertThrows(IllegalStateException.class,
+                () -> bus.publish(new SequenceEvent(3)));
+        Assertions.assertEquals(List.of(0, 1), listener.received);
+    }
+
+    @Test
+    public void test_keyedPublisherBlockOnOwnLane() throws Exception {
+        KeyedEventPublisher publisher = EventProcessors.newKeyedPublisher(
+                1, 1, event -> null, OverflowPolicy.BLOCK, Executors.defaultThreadFactory(),
+                EventProcessors.newPolymorphicPublisher());
+        RepublishingListener listener = new RepublishingListener();
+        listener.bus = EventBus.newKeyed(publisher);
+        listener.bus.register(listener);
+        listener.bus.publish(new SequenceEvent(0));
+        // Closing publishers reject any later publish
+        Assertions.assertTrue(listener.republished.await(10, TimeUnit.SECONDS));
+        publisher.close();
+        // Lanes cannot wait for themselves, thus reject instead of dropping
+        Assertions.assertEquals(List.of(0, 1), listener.received);
+        Assertions.assertEquals(1, listener.rejected.size());
+        Assertions.assertTrue(listener.rejected.get(0) instanceof RejectedExecutionException);
+        Assertions.assertEquals(0, publisher.getDropCount(0));
+    }
+
+    @Test
+    public void test_mailboxPublisherOverflow() throws Exception {
+        Map<OverflowPolicy, List<Integer>> expected = Map.of(
+                OverflowPolicy.DROP_NEWEST, List.of(0, 1, 2),
+                OverflowPolicy.DROP_OLDEST, List.of(0, 2, 3),
+                // Events that are not conflated never coalesce
+                OverflowPolicy.COALESCE, List.of(0, 2, 3),
+                OverflowPolicy.FAIL, List.of(0, 1, 2));
+        ExecutorService executor = Executors.newCachedThreadPool();
+        try {
+            for (Map.Entry<OverflowPolicy, List<Integer>> e : expected.entrySet()) {
+                MailboxEventPublisher publisher =
+                        EventProcessors.newMailboxPublisher(executor, 2, e.getKey());
+                EventBus bus = new EventBus(publisher, EventProcessors.newDefaultMethodCollector());
+                CountDownLatch started = new CountDownLatch(1);
+                CountDownLatch release = new CountDownLatch(1);
+                SequenceListener slow = new SequenceListener() {
+                    @Override
+                    void onSequence(SequenceEvent event) {
+                        super.onSequence(event);
+                        started.countDown();
+                        try {
+                            release.await();
+                        } catch (InterruptedException x) {
+                            Thread.currentThread().interrupt();
+                        }
+                    }
+                };
+                bus.register(slow);
+                List<Throwable> handled = Collections.synchronizedList(new ArrayList<>());
+                bus.publish(new SequenceEvent(0));
+                Assertions.assertTrue(started.await(10, TimeUnit.SECONDS));
+                // The slow mailbox is busy with the first event and queues two
+                for (int i = 1; i < 4; ++i)
+                    bus.publish(new SequenceEvent(i), (thrown, scope, sub) -> handled.add(thrown));
+                ListenerHandle handle = null;
+                for (ListenerHandle h : bus)
+                    if (h.getOwner() == slow) handle = h;
+                Assertions.assertNotNull(handle);
+                Assertions.assertEquals(2, publisher.getQueueDepth(handle));
+                long drops = e.getKey() == OverflowPolicy.FAIL ? 0 : 1;
+                Assertions.assertEquals(drops, publisher.getDropCount(handle));
+                Assertions.assertEquals(drops, publisher.getDropCount());
+                Assertions.assertEquals(1 - drops, handled.size());
+                release.countDown();
+                publisher.close();
+                Assertions.assertEquals(e.getValue(), slow.received);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    static class TickEvent extends Event implements ConflatedEvent {
+        final String symbol;
+        final int price;
+
+        TickEvent(String symbol, int price) {
+            this.symbol = symbol;
+            this.price = price;
+        }
+
+        @Override
+        public @NonNull Object getConflationKey() {
+            return symbol;
+        }
+    }
+
+    static class QuoteEvent extends TickEvent {
+        QuoteEvent(String symbol, int price) {
+            super(symbol, price);
+        }
+    }
+
+    @Test
+    public void test_coalescingMailbox() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            MailboxEventPublisher publisher = EventProcessors.newMailboxPublisher(
+                    executor, 2, OverflowPolicy.COALESCE);
+            EventBus bus = new EventBus(publisher, EventProcessors.newDefaultMethodCollector());
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            List<String> received = Collections.synchronizedList(new ArrayList<>());
+            bus.register(new Listener() {
+                void onTick(TickEvent event) throws InterruptedException {
+                    received.add(event.symbol + event.price);
+                    started.countDown();
+                    release.await();
+                }
+            });
+            bus.publish(new TickEvent("A", 0));
+            Assertions.assertTrue(started.await(10, TimeUnit.SECONDS));
+            bus.publish(new TickEvent("A", 1));
+            bus.publish(new TickEvent("B", 1));
+            // Full mailboxes only replace the queued event of an equal key
+            bus.publish(new TickEvent("A", 2));
+            Assertions.assertEquals(0, publisher.getConflationCount());
+            // Otherwise, the oldest queued event is dropped
+            bus.publish(new TickEvent("C", 1));
+            Assertions.assertEquals(2, publisher.getDropCount());
+            release.countDown();
+            publisher.close();
+            Assertions.assertEquals(List.of("A0", "B1", "C1"), received);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void test_mailboxPublisherInterruptedBlock() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            MailboxEventPublisher publisher = EventProcessors.newMailboxPublisher(
+                    executor, 1, OverflowPolicy.BLOCK);
+            EventBus bus = new EventBus(publisher, EventProcessors.newDefaultMethodCollector());
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            SequenceListener slow = new SequenceListener() {
+                @Override
+                void onSequence(SequenceEvent event) {
+                    super.onSequence(event);
+                    started.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException x) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            };
+            bus.register(slow);
+            bus.publish(new SequenceEvent(0));
+            Assertions.assertTrue(started.await(10, TimeUnit.SECONDS));
+            bus.publish(new SequenceEvent(1));
+            // Interrupted publishers are rejected rather than silently dropped
+            Thread.currentThread().interrupt();
+            try {
+                Assertions.assertThrows(RejectedExecutionException.class,
+                        () -> bus.publish(new SequenceEvent(2)));
+                Assertions.assertTrue(Thread.currentThread().isInterrupted());
+            } finally {
+                Thread.interrupted();
+            }
+            List<Throwable> handled = new ArrayList<>();
+            Thread.currentThread().interrupt();
+            try {
+                bus.publish(new SequenceEvent(3), (thrown, scope, sub) -> handled.add(thrown));
+            } finally {
+                Thread.interrupted();
+            }
+            Assertions.assertEquals(1, handled.size());
+            Assertions.assertEquals(0, publisher.getDropCount());
+            release.countDown();
+            publisher.close();
+            Assertions.assertEquals(List.of(0, 1), slow.received);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void test_mailboxPublisherBlockOnOwnMailbox() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            MailboxEventPublisher publisher = EventProcessors.newMailboxPublisher(
+                    executor, 1, OverflowPolicy.BLOCK);
+            RepublishingListener listener = new RepublishingListener();
+            listener.bus = new EventBus(publisher, EventProcessors.newDefaultMethodCollector());
+            listener.bus.register(listener);
+            listener.bus.publish(new SequenceEvent(0));
+            // Closing publishers reject any later publish
+            Assertions.assertTrue(listener.republished.await(10, TimeUnit.SECONDS));
+            publisher.close();
+            // Drainers cannot wait for themselves, thus reject instead of dropping
+            Assertions.assertEquals(List.of(0, 1), listener.received);
+            Assertions.assertEquals(1, listener.rejected.size());
+            Assertions.assertTrue(listener.rejected.get(0) instanceof RejectedExecutionException);
+            Assertions.assertEquals(0, publisher.getDropCount());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void test_conflatingPublisher() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            MailboxEventPublisher publisher = EventProcessors.newConflatingPublisher(
+                    executor, 4, OverflowPolicy.DROP_NEWEST);
+            EventBus bus = new EventBus(publisher, EventProcessors.newDefaultMethodCollector());
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            List<String> received = Collections.synchronizedList(new ArrayList<>());
+            bus.register(new Listener() {
+                void onTick(TickEvent event) throws InterruptedException {
+                    String prefix = event instanceof QuoteEvent ? "q" : "";
+                    received.add(prefix + event.symbol + event.price);
+                    started.countDown();
+                    release.await();
+                }
+            });
+            bus.publish(new TickEvent("A", 0));
+            Assertions.assertTrue(started.await(10, TimeUnit.SECONDS));
+            // Pending ticks are replaced by newer ticks of the same symbol
+            bus.publish(new TickEvent("A", 1));
+            bus.publish(new TickEvent("B", 1));
+            bus.publish(new TickEvent("A", 2));
+            bus.publish(new TickEvent("A", 3));
+            bus.publish(new TickEvent("B", 2));
+            // Events of different types never conflate, even with equal keys
+            bus.publish(new QuoteEvent("A", 4));
+            bus.publish(new TickEvent("A", 5));
+            bus.publish(new QuoteEvent("A", 6));
+            Assertions.assertEquals(5, publisher.getConflationCount());
+            Assertions.assertEquals(0, publisher.getDropCount());
+            release.countDown();
+            publisher.close();
+            Assertions.assertEquals(List.of("A0", "A5", "B2", "qA6"), received);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+}
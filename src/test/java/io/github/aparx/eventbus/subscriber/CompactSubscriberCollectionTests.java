@@ -0,0 +1,62 @@
+package io.github.aparx.eventbus.subscriber;
+
+import io.github.aparx.eventbus.Event;
+import io.github.aparx.eventbus.subscriber.collection.SubscriberCollection;
+import io.github.aparx.eventbus.subscriber.collection.SubscriberCollections;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * @author aparx (Vinzent Zeband)
+ * @version 19:40 CET, 18.10.2026
+ * @since 1.0
+ */
+public class CompactSubscriberCollectionTests {
+
+    static class FirstEvent extends Event {
+    }
+
+    static class SecondEvent extends Event {
+    }
+
+    static class ThirdEvent extends Event {
+    }
+
+    static final List<Class<? extends Event>> TYPES
+            = List.of(Event.class, FirstEvent.class, SecondEvent.class, ThirdEvent.class);
+
+    @Test
+    public void test_exceedsHashThreshold() {
+        SubscriberCollection<Event, EventSubscriber<? extends Event>> col
+                = SubscriberCollections.newCompact(2);
+        List<EventSubscriber<? extends Event>> subs = new ArrayList<>();
+        for (int i = 0; i < 8; ++i) {
+            var sub = EventSubscribers.newCallbackSubscriber(
+                    TYPES.get(i % TYPES.size()), EventCallback.empty());
+            subs.add(sub);
+            Assertions.assertTrue(col.add(sub));
+            Assertions.assertFalse(col.add(sub));
+        }
+        Assertions.assertEquals(8, col.size());
+        for (Class<? extends Event> type : TYPES) {
+            Assertions.assertTrue(col.contains(type));
+            Assertions.assertEquals(2, col.getGroup(type).size());
+        }
+        Assertions.assertEquals(8, col.asMultimap().size());
+        // Removing a whole group drops the hash index below the threshold
+        Assertions.assertTrue(col.removeAll(SecondEvent.class));
+        Assertions.assertTrue(col.removeAll(List.of(subs.get(3), subs.get(7))));
+        Assertions.assertEquals(4, col.size());
+        Assertions.assertFalse(col.contains(ThirdEvent.class));
+        Assertions.assertTrue(col.getGroup(SecondEvent.class).isEmpty());
+        Assertions.assertTrue(col.containsAll(List.of(subs.get(0), subs.get(1), subs.get(4), subs.get(5))));
+        var derived = col.getDerivedOf(FirstEvent.class, EventSubscriber.class);
+        Assertions.assertEquals(2, derived.size());
+        Assertions.assertTrue(col.retainAll(List.of(subs.get(1))));
+        Assertions.assertEquals(List.of(subs.get(1)), new ArrayList<>(col));
+    }
+
+}
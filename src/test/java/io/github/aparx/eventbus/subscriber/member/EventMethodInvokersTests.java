@@ -0,0 +1,108 @@
+package io.github.aparx.eventbus.subscriber.member;
+
+import io.github.aparx.eventbus.Event;
+import io.github.aparx.eventbus.EventBus;
+import io.github.aparx.eventbus.Listener;
+import io.github.aparx.eventbus.processors.EventProcessors;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+
+/**
+ * @author aparx (Vinzent Zeband)
+ * @version 19:14 CET, 18.10.2026
+ * @since 1.0
+ */
+public class EventMethodInvokersTests {
+
+    static class TestEvent extends Event {
+        int calls;
+    }
+
+    private static class PrivateListener implements Listener {
+        private void onEvent(TestEvent event) {
+            ++event.calls;
+        }
+    }
+
+    static class PackageListener implements Listener {
+        int onEvent(TestEvent event) {
+            return ++event.calls;
+        }
+    }
+
+    @Test
+    public void test_compilesPrivateMethod() throws Throwable {
+        Method method = PrivateListener.class.getDeclaredMethod("onEvent", TestEvent.class);
+        EventMethodInvoker invoker = EventMethodInvokers.newInvoker(method);
+        // Generated invokers are defined alongside the listener class
+        Assertions.assertTrue(invoker.getClass().getName()
+                .startsWith(PrivateListener.class.getName()));
+        Assertions.assertSame(invoker, EventMethodInvokers.newInvoker(method));
+        TestEvent event = new TestEvent();
+        invoker.invoke(new PrivateListener(), event);
+        Assertions.assertEquals(1, event.calls);
+    }
+
+    @Test
+    public void test_compilesNonVoidMethod() throws Throwable {
+        Method method = PackageListener.class.getDeclaredMethod("onEvent", TestEvent.class);
+        EventMethodInvoker invoker = EventMethodInvokers.newInvoker(method);
+        Assertions.assertTrue(invoker.getClass().getName()
+                .startsWith(PackageListener.class.getName()));
+        TestEvent event = new TestEvent();
+        invoker.invoke(new PackageListener(), event);
+        Assertions.assertEquals(1, event.calls);
+    }
+
+    @Test
+    public void test_methodHandleFallback() throws Throwable {
+        Method method = PrivateListener.class.getDeclaredMethod("onEvent", TestEvent.class);
+        MethodHandle handle = MethodHandles.privateLookupIn(
+                PrivateListener.class, MethodHandles.lookup()).unreflect(method);
+        // Used whenever no invoker can be generated for the listener class
+        EventMethodInvoker invoker = EventMethodInvokers.newMethodHandleInvoker(handle);
+        TestEvent event = new TestEvent();
+        invoker.invoke(new PrivateListener(), event);
+        invoker.invoke(new PrivateListener(), event);
+        Assertions.assertEquals(2, event.calls);
+    }
+
+    @Test
+    public void test_compiledCollector() {
+        EventBus bus = new EventBus(
+                EventProcessors.newPolymorphicPublisher(),
+                EventProcessors.newCompiledMethodCollector());
+        bus.register(new PrivateListener());
+        bus.register(new PackageListener());
+        TestEvent event = new TestEvent();
+        bus.publish(event);
+        Assertions.assertEquals(2, event.calls);
+    }
+
+    interface Marker {
+    }
+
+    static class MarkedEvent extends TestEvent implements Marker {
+    }
+
+    static class InterfaceListener implements Listener {
+        void onMarker(Marker event) {
+            ++((TestEvent) event).calls;
+        }
+    }
+
+    @Test
+    public void test_invokesInterfaceParameter() throws Throwable {
+        Method method = InterfaceListener.class.getDeclaredMethod("onMarker", Marker.class);
+        // Falls back to a method handle, as events are not always a `Marker`
+        EventMethodInvoker invoker = EventMethodInvokers.newInvoker(method);
+        MarkedEvent event = new MarkedEvent();
+        invoker.invoke(new InterfaceListener(), event);
+        Assertions.assertEquals(1, event.calls);
+    }
+
+}